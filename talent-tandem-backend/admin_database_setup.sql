@@ -82,3 +82,23 @@ INSERT INTO admin_matching_rules (
     TRUE,
     '{"minSessionsForRating": 5, "preferVerifiedMentors": true}'
 ) ON CONFLICT DO NOTHING;
+
+-- Mentor double-booking backstop: no two active sessions of one mentor may overlap
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE sessions ADD COLUMN IF NOT EXISTS mentor_id BIGINT;
+
+UPDATE sessions s SET mentor_id = p.user_id
+FROM session_participants p
+WHERE p.session_id = s.session_id AND p.role = 'MENTOR' AND s.mentor_id IS NULL;
+
+-- Fails if overlapping active sessions already exist; cancel or reschedule those first
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'sessions_mentor_no_overlap') THEN
+        ALTER TABLE sessions ADD CONSTRAINT sessions_mentor_no_overlap EXCLUDE USING gist (
+            mentor_id WITH =,
+            tsrange(scheduled_time, scheduled_time + duration_minutes * INTERVAL '1 minute') WITH &&
+        ) WHERE (mentor_id IS NOT NULL AND status IN ('REQUESTED', 'ACCEPTED', 'LIVE', 'IN_PROGRESS'));
+    END IF;
+END $$;
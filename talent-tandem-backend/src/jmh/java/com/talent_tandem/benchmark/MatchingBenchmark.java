@@ -0,0 +1,86 @@
+package com.talent_tandem.benchmark;
+
+import com.talent_tandem.matching.MatchPage;
+import com.talent_tandem.matching.MatchRanking;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.TopKSelector;
+import com.talent_tandem.model.AdminMatchingRules;
+import com.talent_tandem.requestdto.MatchRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Candidate scoring and ranking over one skill's mentors, from 1k to 1M rows.
+ *
+ * {@code scoredPage} uses the default admin rules, which drop mentors without free time in the
+ * requested window or below the skill threshold. The sort benchmarks score with a threshold of 0 and
+ * location matching off, so only the availability filter drops candidates; since the request names a
+ * time window, mentors without free time in it are still scored {@link MatchScorer#DROPPED}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MatchingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int mentors;
+
+    private MentorEntry[] candidates;
+    private MatchRequest request;
+    private MatchScorer defaultScorer;
+    private MatchScorer keepAllScorer;
+    private double[] keepAllScores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        candidates = MentorPopulation.entries(MentorPopulation.rows(mentors, 17), 23);
+        request = MentorPopulation.request();
+        defaultScorer = MatchScorer.fromRules(MatchScorer.defaultRules());
+        AdminMatchingRules keepAll = MatchScorer.defaultRules();
+        keepAll.setSkillMatchThreshold(0.0);
+        keepAll.setEnableLocationMatching(false);
+        keepAllScorer = MatchScorer.fromRules(keepAll);
+        keepAllScores = keepAllScorer.score(candidates, request);
+    }
+
+    @Benchmark
+    public double[] score() {
+        return defaultScorer.score(candidates, request);
+    }
+
+    @Benchmark
+    public int[] topK() {
+        return TopKSelector.select(candidates, keepAllScores, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public int[] fullSort() {
+        return MatchRanking.scored("benchmark", 0L, new long[]{MentorPopulation.SKILL_ID}, candidates,
+                keepAllScores, null).order();
+    }
+
+    @Benchmark
+    public MatchPage scoredPage() {
+        double[] scores = defaultScorer.score(candidates, request);
+        return MatchRanking.scored("benchmark", 0L, new long[]{MentorPopulation.SKILL_ID}, candidates, scores, null)
+                .page(null, PAGE_SIZE);
+    }
+}
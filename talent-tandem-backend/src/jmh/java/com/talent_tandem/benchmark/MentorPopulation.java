@@ -0,0 +1,99 @@
+package com.talent_tandem.benchmark;
+
+import com.talent_tandem.enums.Day;
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.enums.PreferedMode;
+import com.talent_tandem.matching.AvailabilityBits;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.Skill;
+import com.talent_tandem.model.User;
+import com.talent_tandem.model.UserTeachSkill;
+import com.talent_tandem.requestdto.MatchRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic mentors for the benchmarks. Rows are built as {@link UserTeachSkill} entities
+ * and converted the same way the {@code MentorIndex} does, so the benchmarks see realistic entries.
+ */
+final class MentorPopulation {
+
+    static final long SKILL_ID = 1L;
+
+    private static final Level[] LEVELS = Level.values();
+    private static final PreferedMode[] MODES = PreferedMode.values();
+    private static final Day[] DAYS = Day.values();
+
+    private MentorPopulation() {
+    }
+
+    static List<UserTeachSkill> rows(int size, long seed) {
+        Random random = new Random(seed);
+        Skill skill = new Skill();
+        skill.setId(SKILL_ID);
+        skill.setName("Java");
+
+        List<UserTeachSkill> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            User user = User.builder()
+                    .id((long) i + 1)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .username("mentor" + i)
+                    .city("City" + random.nextInt(200))
+                    .build();
+
+            Availability availability = new Availability();
+            availability.setId((long) i + 1);
+            availability.setDayOfWeek(DAYS[random.nextInt(DAYS.length)]);
+            int start = 8 + random.nextInt(10);
+            availability.setStartTime(String.format("%02d:00", start));
+            availability.setEndTime(String.format("%02d:00", start + 1 + random.nextInt(4)));
+            availability.setUser(user);
+
+            rows.add(UserTeachSkill.builder()
+                    .teachId((long) i + 1)
+                    .user(user)
+                    .skill(skill)
+                    .proficiencyLevel(LEVELS[random.nextInt(LEVELS.length)])
+                    .preferredMode(MODES[random.nextInt(MODES.length)])
+                    .confidenceScore(random.nextInt(11))
+                    .availability(availability)
+                    .build());
+        }
+        return rows;
+    }
+
+    /**
+     * Index entries for {@code rows}, each with a few extra weekly windows and a rating.
+     */
+    static MentorEntry[] entries(List<UserTeachSkill> rows, long seed) {
+        Random random = new Random(seed);
+        MentorEntry[] entries = new MentorEntry[rows.size()];
+        for (int i = 0; i < entries.length; i++) {
+            MentorEntry entry = MentorEntry.of(rows.get(i));
+            long[] slots = entry.getWeeklySlots().clone();
+            for (int w = 0; w < 3; w++) {
+                int start = (8 + random.nextInt(12)) * 60;
+                AvailabilityBits.addAvailable(slots, DAYS[random.nextInt(DAYS.length)], start, start + 120);
+            }
+            float rating = random.nextInt(4) == 0 ? 0f : 1f + random.nextFloat() * 4f;
+            entries[i] = entry.withWeeklySlots(slots).withRating(rating);
+        }
+        return entries;
+    }
+
+    static MatchRequest request() {
+        MatchRequest request = new MatchRequest();
+        request.setSkillId(SKILL_ID);
+        request.setPreferredMode(PreferedMode.ONE_TO_ONE);
+        request.setPriorityLevel(Level.INTERMEDIATE);
+        request.setDayOfWeek(Day.WEDNESDAY);
+        request.setStartTime("10:00");
+        request.setEndTime("12:00");
+        return request;
+    }
+}
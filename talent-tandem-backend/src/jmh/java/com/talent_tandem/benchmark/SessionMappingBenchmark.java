@@ -0,0 +1,129 @@
+package com.talent_tandem.benchmark;
+
+import com.talent_tandem.dao.ISessionDao;
+import com.talent_tandem.enums.Day;
+import com.talent_tandem.enums.ParticipantRole;
+import com.talent_tandem.enums.ParticipantStatus;
+import com.talent_tandem.enums.SessionStatus;
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.Session;
+import com.talent_tandem.model.SessionParticipant;
+import com.talent_tandem.model.Skill;
+import com.talent_tandem.model.User;
+import com.talent_tandem.repository.IAvailabilityRepository;
+import com.talent_tandem.responsedto.SessionResponse;
+import com.talent_tandem.serviceImpl.SessionServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Session -> {@link SessionResponse} mapping as done by {@code SessionServiceImpl.getSessionsByUser}.
+ * The DAO and availability repository are in-memory stubs, so this measures the mapping and the
+ * per-session availability lookup pattern rather than the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SessionMappingBenchmark {
+
+    private static final long LEARNER_ID = 0L;
+
+    @Param({"10", "100", "1000"})
+    int sessions;
+
+    private SessionServiceImpl sessionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(31);
+        Skill skill = new Skill();
+        skill.setId(MentorPopulation.SKILL_ID);
+        skill.setName("Java");
+        User learner = User.builder().id(LEARNER_ID).username("learner").build();
+
+        List<Session> history = new ArrayList<>(sessions);
+        Map<Long, Availability> availabilityByUser = new HashMap<>();
+        for (int i = 0; i < sessions; i++) {
+            long mentorId = 1 + random.nextInt(Math.max(sessions / 4, 1));
+            User mentor = User.builder().id(mentorId).username("mentor" + mentorId).build();
+            availabilityByUser.computeIfAbsent(mentorId, id -> {
+                Availability a = new Availability();
+                a.setId(id);
+                a.setDayOfWeek(Day.values()[(int) (id % 7)]);
+                a.setStartTime("09:00");
+                a.setEndTime("12:00");
+                return a;
+            });
+
+            Session session = Session.builder()
+                    .sessionId((long) i + 1)
+                    .skill(skill)
+                    .agenda("Agenda " + i)
+                    .status(SessionStatus.values()[random.nextInt(SessionStatus.values().length)])
+                    .mentorId(mentorId)
+                    .scheduledTime(LocalDateTime.of(2025, 1, 1, 9, 0).plusHours(i))
+                    .durationMinutes(60)
+                    .createdAt(LocalDateTime.of(2024, 12, 1, 9, 0))
+                    .participants(new ArrayList<>())
+                    .build();
+            session.getParticipants().add(participant(session, mentor, ParticipantRole.MENTOR));
+            session.getParticipants().add(participant(session, learner, ParticipantRole.LEARNER));
+            history.add(session);
+        }
+
+        ISessionDao sessionDao = stub(ISessionDao.class, Map.of(
+                "findByUserId", args -> history));
+        IAvailabilityRepository availabilityRepository = stub(IAvailabilityRepository.class, Map.of(
+                "findByUserId", args -> Optional.ofNullable(availabilityByUser.get((Long) args[0]))));
+
+        sessionService = new SessionServiceImpl(sessionDao, null, null, null, null, availabilityRepository,
+                null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<SessionResponse> getSessionsByUser() {
+        return sessionService.getSessionsByUser(LEARNER_ID);
+    }
+
+    private static SessionParticipant participant(Session session, User user, ParticipantRole role) {
+        return SessionParticipant.builder()
+                .session(session)
+                .user(user)
+                .role(role)
+                .status(ParticipantStatus.JOINED)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> body = methods.get(method.getName());
+            if (body == null) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            return body.apply(args);
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.talent_tandem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableScheduling
+public class MatchingConfig {
+
+    @Value("${matching.explanation.threads:16}")
+    private int explanationThreads;
+
+    @Value("${matching.explanation.queue-capacity:256}")
+    private int explanationQueueCapacity;
+
+    @Value("${matching.assignment.parallelism:0}")
+    private int assignmentParallelism;
+
+    @Value("${matching.replay.parallelism:0}")
+    private int replayParallelism;
+
+    /**
+     * Bounded pool for LLM match explanations. When it is saturated, submissions are rejected
+     * and the caller falls back to the template explanation instead of queueing unboundedly.
+     */
+    @Bean(name = "matchExplanationExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService matchExplanationExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "match-explain-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                explanationThreads, explanationThreads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(explanationQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Fork/join pool for the bulk assignment job, kept separate from the common pool so a large batch
+     * cannot starve parallel streams elsewhere. A parallelism of 0 means one worker per core.
+     */
+    @Bean(name = "bulkAssignmentPool", destroyMethod = "shutdownNow")
+    public ForkJoinPool bulkAssignmentPool() {
+        int parallelism = assignmentParallelism > 0 ? assignmentParallelism
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Fork/join pool for what-if replays of logged match requests, so a large simulation competes with
+     * neither live matching nor the bulk assignment job. A parallelism of 0 means one worker per core.
+     */
+    @Bean(name = "replaySimulationPool", destroyMethod = "shutdownNow")
+    public ForkJoinPool replaySimulationPool() {
+        int parallelism = replayParallelism > 0 ? replayParallelism
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+}
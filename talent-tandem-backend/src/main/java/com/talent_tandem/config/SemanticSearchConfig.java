@@ -0,0 +1,23 @@
+package com.talent_tandem.config;
+
+import com.talent_tandem.search.HashingEmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SemanticSearchConfig {
+
+    /**
+     * Offline embedding model, used when {@code spring.ai.model.embedding=local}. Any other value hands
+     * embedding to the matching Spring AI provider auto-configuration instead.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.ai.model.embedding", havingValue = "local")
+    public EmbeddingModel localEmbeddingModel(
+            @Value("${semantic-search.embedding.dimensions:384}") int dimensions) {
+        return new HashingEmbeddingModel(dimensions);
+    }
+}
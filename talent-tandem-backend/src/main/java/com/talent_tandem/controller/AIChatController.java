@@ -1,50 +1,56 @@
 package com.talent_tandem.controller;
 
+import com.talent_tandem.service.ISupportChatService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/ai-chat")
 @CrossOrigin(origins = "*")
+@RequiredArgsConstructor
 public class AIChatController {
 
-    private final ChatClient chatClient;
+    private final ISupportChatService supportChatService;
 
-    public AIChatController(ChatClient.Builder chatClientBuilder) {
-        this.chatClient = chatClientBuilder.build();
-    }
+    @Value("${ai-chat.stream.timeout-ms:60000}")
+    private long streamTimeoutMillis;
 
     @PostMapping("/message")
-    public ResponseEntity<Map<String, String>> sendMessage(@RequestBody Map<String, String> request) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> sendMessage(@RequestBody Map<String, String> request) {
         String userMessage = request.get("message");
-        
+
         if (userMessage == null || userMessage.trim().isEmpty()) {
             Map<String, String> error = new HashMap<>();
             error.put("response", "Please provide a message.");
-            return ResponseEntity.badRequest().body(error);
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(error));
         }
 
-        try {
-            String prompt = String.format(
-                "You are a helpful support assistant for Talent Tandem, a mentorship platform. " +
-                "Answer this question professionally and concisely: %s", 
-                userMessage
-            );
-
-            String aiResponse = chatClient.prompt(prompt).call().content();
-            
+        // the servlet thread is released while the reply waits on the LLM gateway
+        return supportChatService.reply(userMessage).thenApply(reply -> {
             Map<String, String> response = new HashMap<>();
-            response.put("response", aiResponse != null ? aiResponse.trim() : "I'm here to help! Could you please rephrase your question?");
+            response.put("response", reply);
             return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            Map<String, String> error = new HashMap<>();
-            error.put("response", "I'm having trouble processing your request. Please try again.");
-            return ResponseEntity.ok(error);
+        });
+    }
+
+    @PostMapping(value = "/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamMessage(@RequestBody Map<String, String> request) {
+        String userMessage = request.get("message");
+
+        if (userMessage == null || userMessage.trim().isEmpty()) {
+            return ResponseEntity.badRequest().build();
         }
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        supportChatService.streamReply(userMessage, emitter);
+        return ResponseEntity.ok(emitter);
     }
 }
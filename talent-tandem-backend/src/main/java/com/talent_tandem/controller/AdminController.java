@@ -249,4 +249,73 @@ public class AdminController {
     public ResponseEntity<Map<String, Object>> getAIMatchingRules() {
         return ResponseEntity.ok(adminService.getAIMatchingRules());
     }
-}
\ No newline at end of file
+
+    @PostMapping("/ai-rules/simulate")
+    public ResponseEntity<Map<String, Object>> simulateAIMatchingRules(@RequestBody AIRulesUpdateRequest request,
+            @RequestParam(required = false) Integer sample) {
+        log.info("ADMIN_AI_RULES_SIMULATION_REQUEST - Sample: {}", sample);
+        return ResponseEntity.ok(adminService.simulateAIMatchingRules(request, sample));
+    }
+
+    // Matching Engine
+    @GetMapping("/matching/explanation-cache")
+    public ResponseEntity<Map<String, Object>> getExplanationCacheStats() {
+        return ResponseEntity.ok(adminService.getExplanationCacheStats());
+    }
+
+    @GetMapping("/matching/result-cache")
+    public ResponseEntity<Map<String, Object>> getResultCacheStats() {
+        return ResponseEntity.ok(adminService.getResultCacheStats());
+    }
+
+    @GetMapping("/matching/replay-log")
+    public ResponseEntity<Map<String, Object>> getReplayLogStats() {
+        return ResponseEntity.ok(adminService.getReplayLogStats());
+    }
+
+    @GetMapping("/matching/experiment")
+    public ResponseEntity<Map<String, Object>> getMatchingExperimentReport() {
+        return ResponseEntity.ok(adminService.getMatchingExperimentReport());
+    }
+
+    @PostMapping("/matching/assignments")
+    public ResponseEntity<Map<String, Object>> runBulkAssignment() {
+        log.info("ADMIN_BULK_ASSIGNMENT_REQUEST - Assigning open learn skills to mentors");
+        return ResponseEntity.ok(adminService.runBulkAssignment());
+    }
+
+    // Support Chat Cache
+    @GetMapping("/ai-chat/cache")
+    public ResponseEntity<Map<String, Object>> getSupportAnswerCache() {
+        return ResponseEntity.ok(adminService.getSupportAnswerCache());
+    }
+
+    @DeleteMapping("/ai-chat/cache")
+    public ResponseEntity<Map<String, Object>> purgeSupportAnswerCache() {
+        return ResponseEntity.ok(adminService.purgeSupportAnswerCache());
+    }
+
+    @DeleteMapping("/ai-chat/cache/{id}")
+    public ResponseEntity<Map<String, String>> purgeSupportAnswer(@PathVariable Long id) {
+        adminService.purgeSupportAnswer(id);
+        return ResponseEntity.ok(Map.of("message", "Cached answer purged successfully"));
+    }
+
+    // LLM Gateway
+    @GetMapping("/llm-gateway")
+    public ResponseEntity<Map<String, Object>> getLlmGatewayStats() {
+        return ResponseEntity.ok(adminService.getLlmGatewayStats());
+    }
+
+    // Skill Aliases
+    @GetMapping("/skills/aliases")
+    public ResponseEntity<Map<String, Object>> getSkillAliases() {
+        return ResponseEntity.ok(adminService.getSkillAliases());
+    }
+
+    @DeleteMapping("/skills/aliases/{id}")
+    public ResponseEntity<Map<String, String>> deleteSkillAlias(@PathVariable Long id) {
+        adminService.deleteSkillAlias(id);
+        return ResponseEntity.ok(Map.of("message", "Skill alias deleted successfully"));
+    }
+}
@@ -2,6 +2,7 @@ package com.talent_tandem.controller;
 import com.talent_tandem.requestdto.*;
 import com.talent_tandem.responsedto.*;
 import com.talent_tandem.service.IAvailibilityService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,4 +25,16 @@ public class AvailabilityController {
     public ResponseEntity<AvailabilityResponse> getAvailabilityByUser(@PathVariable Long userId) {
         return ResponseEntity.ok(availabilityService.getAvailabilityByUser(userId));
     }
+
+    @PutMapping("/weekly")
+    public ResponseEntity<WeeklyAvailabilityResponse> saveWeeklyAvailability(
+            @Valid @RequestBody WeeklyAvailabilityRequest request) {
+
+        return ResponseEntity.ok(availabilityService.saveWeeklyAvailability(request));
+    }
+
+    @GetMapping("/weekly/{userId}")
+    public ResponseEntity<WeeklyAvailabilityResponse> getWeeklyAvailability(@PathVariable Long userId) {
+        return ResponseEntity.ok(availabilityService.getWeeklyAvailability(userId));
+    }
 }
@@ -1,11 +1,16 @@
 package com.talent_tandem.controller;
 import com.talent_tandem.requestdto.MatchRequest;
+import com.talent_tandem.responsedto.MatchResultResponse;
 import com.talent_tandem.responsedto.MentorMatchResponse;
+import com.talent_tandem.responsedto.SemanticSearchResponse;
 import com.talent_tandem.service.IMatchingEngineService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -15,17 +20,28 @@ import java.util.HashMap;
 @RequiredArgsConstructor
 public class MatchingEngineController {
 
+    private static final long STREAM_GRACE_MS = 5000;
+
     private final IMatchingEngineService service;
 
+    @Value("${matching.explanation.budget-ms:2500}")
+    private long budgetMillis;
+
     @PostMapping("/find")
     public ResponseEntity<Map<String, Object>> findMatches(
             @Valid @RequestBody MatchRequest request) {
 
-        List<MentorMatchResponse> matches = service.findMatches(request);
+        MatchResultResponse result = service.findMatches(request);
+        List<MentorMatchResponse> matches = result.getMatches();
         Map<String, Object> response = new HashMap<>();
         response.put("status", true);
         response.put("matches", matches);
         response.put("count", matches.size());
+        response.put("aiExplanationCount", result.getAiExplanationCount());
+        response.put("templateExplanationCount", result.getTemplateExplanationCount());
+        response.put("pageSize", result.getPageSize());
+        response.put("hasMore", result.getHasMore());
+        response.put("nextCursor", result.getNextCursor());
         
         if (matches.isEmpty()) {
             response.put("message", "No mentors found matching your criteria. Try adjusting your search preferences.");
@@ -35,4 +51,19 @@ public class MatchingEngineController {
         
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/semantic")
+    public ResponseEntity<SemanticSearchResponse> semanticSearch(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(service.semanticSearch(query, limit));
+    }
+
+    @PostMapping(value = "/find/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMatches(@Valid @RequestBody MatchRequest request) {
+        // the explainer closes the stream within its budget; this only guards against a stuck client
+        SseEmitter emitter = new SseEmitter(budgetMillis + STREAM_GRACE_MS);
+        service.streamMatches(request, emitter);
+        return emitter;
+    }
 }
@@ -1,6 +1,7 @@
 package com.talent_tandem.controller;
 import com.talent_tandem.enums.SessionStatus;
 import com.talent_tandem.requestdto.SessionRequest;
+import com.talent_tandem.responsedto.CommonFreeSlotsResponse;
 import com.talent_tandem.responsedto.LearnerDashboardStatsResponse;
 import com.talent_tandem.responsedto.MentorDashboardStatsResponse;
 import com.talent_tandem.responsedto.SessionCompleteResponse;
@@ -11,11 +12,15 @@ import com.talent_tandem.security.JwtUtil;
 import com.talent_tandem.service.ISessionService;
 import com.talent_tandem.websocket.MatchNotificationDto;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -124,6 +129,17 @@ public class SessionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/free-slots")
+    public ResponseEntity<CommonFreeSlotsResponse> getCommonFreeSlots(
+            @RequestParam Long mentorId,
+            @RequestParam Long learnerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "60") @Min(15) @Max(180) int durationMinutes,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+        return ResponseEntity.ok(sessionService.findCommonFreeSlots(mentorId, learnerId, from, to, durationMinutes, limit));
+    }
+
     @GetMapping("/all")
     public ResponseEntity<List<SessionResponse>> getAllSessions() {
         return ResponseEntity.ok(sessionService.getAllSessions());
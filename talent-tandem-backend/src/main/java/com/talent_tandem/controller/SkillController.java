@@ -74,6 +74,13 @@ public class SkillController {
         return new ResponseEntity<>(skillService.getSkillNames(), HttpStatus.OK);
     }
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SkillSuggestionResponse>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(skillService.autocomplete(query, limit));
+    }
+
 
     @GetMapping("/{id}")
     public ResponseEntity<SkillResponse> getSkillById(@PathVariable Long id) {
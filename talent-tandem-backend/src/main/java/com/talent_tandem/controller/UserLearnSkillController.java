@@ -35,6 +35,15 @@ public class UserLearnSkillController {
                 HttpStatus.OK);
     }
 
+    @GetMapping("/recommendations/{userId}")
+    public ResponseEntity<List<MentorRecommendationResponse>> getRecommendations(
+            @PathVariable Long userId) {
+
+        return new ResponseEntity<>(
+                service.getRecommendations(userId),
+                HttpStatus.OK);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteLearnSkill(@PathVariable Long id) {
         service.deleteLearnSkill(id);
@@ -12,4 +12,5 @@ public interface IFeedbackDao {
     List<Feedback> findByToUserId(Long toUserId);
     List<Feedback> findByFromUserId(Long fromUserId);
     Optional<Feedback> findBySessionIdAndFromUserId(Long sessionId, Long fromUserId);
+    Double findAverageRatingByToUserId(Long toUserId);
 }
@@ -2,6 +2,8 @@ package com.talent_tandem.dao;
 import com.talent_tandem.enums.SessionStatus;
 import com.talent_tandem.model.Session;
 import com.talent_tandem.model.SessionParticipant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,4 +28,5 @@ public interface ISessionDao {
     Long getTotalMinutesLearnedByLearner(Long learnerId);
     List<Object[]> getSkillProgressByLearner(Long learnerId);
     List<Object[]> getSessionStatusCountByLearner(Long learnerId);
+    List<Object[]> findBusyIntervals(Collection<Long> userIds, Collection<SessionStatus> statuses, LocalDateTime from, LocalDateTime to);
 }
\ No newline at end of file
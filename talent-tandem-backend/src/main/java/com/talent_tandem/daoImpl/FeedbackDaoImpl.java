@@ -43,4 +43,9 @@ public class FeedbackDaoImpl implements IFeedbackDao {
     public Optional<Feedback> findBySessionIdAndFromUserId(Long sessionId, Long fromUserId) {
         return repository.findBySessionSessionIdAndFromUserId(sessionId, fromUserId);
     }
+
+    @Override
+    public Double findAverageRatingByToUserId(Long toUserId) {
+        return repository.findAverageRatingByToUserId(toUserId);
+    }
 }
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.data.domain.PageRequest;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -120,4 +121,10 @@ public class SessionDaoImpl implements ISessionDao {
     public List<Object[]> getSessionStatusCountByLearner(Long learnerId) {
         return sessionRepository.getSessionStatusCountByLearner(learnerId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Object[]> findBusyIntervals(Collection<Long> userIds, Collection<SessionStatus> statuses,
+            LocalDateTime from, LocalDateTime to) {
+        return sessionRepository.findBusyIntervals(userIds, statuses, from, to);
+    }
+}
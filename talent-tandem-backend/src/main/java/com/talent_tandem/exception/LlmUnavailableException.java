@@ -0,0 +1,8 @@
+package com.talent_tandem.exception;
+
+// The LLM gateway refused or gave up on a call; callers answer with their fallback text
+public class LlmUnavailableException extends RuntimeException {
+    public LlmUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,122 @@
+package com.talent_tandem.llm;
+
+import java.util.Arrays;
+
+/**
+ * Count-based circuit breaker over the last {@code windowSize} upstream calls.
+ *
+ * CLOSED lets every call through. Once at least {@code minimumCalls} outcomes are recorded and the
+ * failure rate reaches {@code failureRateThreshold}, it turns OPEN and refuses calls for
+ * {@code openMillis}. It then goes HALF_OPEN and lets a single probe through. The probe closing or
+ * reopening the breaker decides the next state.
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean[] failed;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+    private long opened;
+
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis) {
+        this.failed = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, failed.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Whether a call may be queued at all: false only while OPEN and still cooling down.
+     */
+    synchronized boolean admitsQueueing(long now) {
+        return state != State.OPEN || now - openedAt >= openMillis;
+    }
+
+    /**
+     * Whether a call may start now. In HALF_OPEN, only the first caller is admitted as the probe.
+     */
+    synchronized boolean tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probing) {
+                return false;
+            }
+            probing = true;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of an admitted call. Returns the new state when it changed, else null.
+     */
+    synchronized State record(boolean success, long now) {
+        if (state == State.HALF_OPEN) {
+            probing = false;
+            if (success) {
+                reset();
+                state = State.CLOSED;
+            } else {
+                trip(now);
+            }
+            return state;
+        }
+        if (state == State.OPEN) {
+            // a call admitted before the breaker opened
+            return null;
+        }
+        if (recorded == failed.length) {
+            failures -= failed[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = !success;
+        failures += success ? 0 : 1;
+        next = (next + 1) % failed.length;
+        if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+            trip(now);
+            return state;
+        }
+        return null;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized double failureRate() {
+        return recorded > 0 ? (double) failures / recorded : 0.0;
+    }
+
+    synchronized long timesOpened() {
+        return opened;
+    }
+
+    private void trip(long now) {
+        state = State.OPEN;
+        openedAt = now;
+        opened++;
+        reset();
+    }
+
+    private void reset() {
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        Arrays.fill(failed, false);
+    }
+}
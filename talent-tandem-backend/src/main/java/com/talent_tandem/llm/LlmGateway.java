@@ -0,0 +1,398 @@
+package com.talent_tandem.llm;
+
+import com.talent_tandem.exception.LlmUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * The single path from the application to the chat model.
+ *
+ * <ul>
+ *   <li>Bulkhead - at most {@code max-in-flight} upstream calls run at once, each on a gateway worker.
+ *       {@link #callAsync} and {@link #stream} hold no caller thread while the call waits or runs;
+ *       {@link #call} blocks its caller for up to {@code call-timeout-ms}, so request paths use the
+ *       asynchronous form.</li>
+ *   <li>Priority queue - waiting calls start in {@link LlmPriority} order, FIFO within a priority. The
+ *       queue is bounded and lower priorities may only fill part of it; a call that does not fit is
+ *       refused immediately, and one that waited longer than {@code max-queue-wait-ms} or past its
+ *       deadline is dropped without reaching the upstream.</li>
+ *   <li>Circuit breaker - upstream failures and timeouts feed a {@link CircuitBreaker}; while it is
+ *       open calls are refused without queueing.</li>
+ * </ul>
+ * A refused, failed or timed-out call surfaces as {@link LlmUnavailableException}, and every caller
+ * answers with its own fallback text. Queue depth, in-flight count, wait and upstream latency are
+ * reported by {@link #stats()}.
+ */
+@Slf4j
+@Component
+public class LlmGateway {
+
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final ChatClient chatClient;
+    private final ThreadPoolExecutor workers;
+    private final CircuitBreaker breaker;
+    private final int maxInFlight;
+    private final int queueCapacity;
+    private final long callTimeoutMillis;
+    private final long streamTimeoutMillis;
+    private final long maxQueueWaitMillis;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<LlmPriority, AtomicInteger> queuedByPriority = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmPriority, AtomicLong> rejectedByPriority = new EnumMap<>(LlmPriority.class);
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong expiredInQueue = new AtomicLong();
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong waitMillisTotal = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+
+    // ring buffer of the most recent upstream latencies in ms, guarded by itself
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private long latencyCount;
+
+    public LlmGateway(ChatClient.Builder chatClientBuilder,
+            @Value("${llm.gateway.max-in-flight:8}") int maxInFlight,
+            @Value("${llm.gateway.queue-capacity:200}") int queueCapacity,
+            @Value("${llm.gateway.call-timeout-ms:30000}") long callTimeoutMillis,
+            @Value("${llm.gateway.stream-timeout-ms:60000}") long streamTimeoutMillis,
+            @Value("${llm.gateway.max-queue-wait-ms:10000}") long maxQueueWaitMillis,
+            @Value("${llm.gateway.breaker.window-size:20}") int windowSize,
+            @Value("${llm.gateway.breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${llm.gateway.breaker.failure-rate:0.5}") double failureRate,
+            @Value("${llm.gateway.breaker.open-ms:30000}") long openMillis) {
+        this.chatClient = chatClientBuilder.build();
+        this.maxInFlight = Math.max(maxInFlight, 1);
+        this.queueCapacity = Math.max(queueCapacity, 1);
+        this.callTimeoutMillis = callTimeoutMillis;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+        this.breaker = new CircuitBreaker(windowSize, minimumCalls, failureRate, openMillis);
+        for (LlmPriority priority : LlmPriority.values()) {
+            queuedByPriority.put(priority, new AtomicInteger());
+            rejectedByPriority.put(priority, new AtomicLong());
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "llm-gateway-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // core == max, so every call beyond maxInFlight waits in the priority queue
+        this.workers = new ThreadPoolExecutor(this.maxInFlight, this.maxInFlight, 60L, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), threadFactory);
+    }
+
+    /**
+     * Sends the prompt and waits for the whole answer, at most {@code call-timeout-ms} including queueing.
+     * Blocks the calling thread; request handlers should use {@link #callAsync} instead.
+     *
+     * @throws LlmUnavailableException when the call was refused, failed or timed out
+     */
+    public String call(LlmPriority priority, String prompt) {
+        CompletableFuture<String> answer = callAsync(priority, prompt);
+        try {
+            return answer.get();
+        } catch (InterruptedException e) {
+            answer.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new LlmUnavailableException("LLM call interrupted");
+        } catch (ExecutionException e) {
+            throw unavailable(e.getCause());
+        }
+    }
+
+    /**
+     * Sends the prompt without holding the caller's thread. The future completes with the whole answer,
+     * or exceptionally with {@link LlmUnavailableException} when the call was refused, failed or did not
+     * answer within {@code call-timeout-ms} of being enqueued. Cancelling it drops the call if it has not
+     * started yet.
+     */
+    public CompletableFuture<String> callAsync(LlmPriority priority, String prompt) {
+        Task<String> task;
+        try {
+            task = enqueue(priority, callTimeoutMillis, future ->
+                    future.complete(chatClient.prompt(prompt).call().content()));
+        } catch (LlmUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<String> answer = task.result.copy()
+                .orTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        // a running call is left to finish; Task.run counts it as a slow failure
+                        timedOut.incrementAndGet();
+                        if (task.cancel()) {
+                            cancelled.incrementAndGet();
+                        }
+                        throw new LlmUnavailableException("LLM call timed out after " + callTimeoutMillis + "ms");
+                    }
+                    throw unavailable(cause);
+                });
+        answer.whenComplete((ignored, error) -> {
+            if (error instanceof CancellationException && task.cancel()) {
+                cancelled.incrementAndGet();
+            }
+        });
+        return answer;
+    }
+
+    /**
+     * Streams the answer chunk by chunk. {@code onChunk} and then exactly one of {@code onComplete} or
+     * {@code onError} are called on a gateway worker; a refusal calls {@code onError} on the caller's
+     * thread. Disposing the result cancels the call, queued or running.
+     */
+    public Disposable stream(LlmPriority priority, String prompt, Consumer<String> onChunk,
+            Consumer<Throwable> onError, Runnable onComplete) {
+        Sinks.Empty<Void> stop = Sinks.empty();
+        AtomicBoolean disposed = new AtomicBoolean();
+        Task<Void> task;
+        try {
+            task = enqueue(priority, streamTimeoutMillis, future -> {
+                chatClient.prompt(prompt).stream().content()
+                        .takeUntilOther(stop.asMono())
+                        .doOnNext(onChunk)
+                        .blockLast(Duration.ofMillis(streamTimeoutMillis));
+                future.complete(null);
+            });
+        } catch (LlmUnavailableException e) {
+            onError.accept(e);
+            return () -> { };
+        }
+        task.result.whenComplete((ignored, error) -> {
+            if (disposed.get()) {
+                return;
+            }
+            if (error == null) {
+                onComplete.run();
+            } else {
+                onError.accept(error);
+            }
+        });
+        return new Disposable() {
+            @Override
+            public void dispose() {
+                if (disposed.compareAndSet(false, true)) {
+                    if (task.cancel()) {
+                        cancelled.incrementAndGet();
+                    }
+                    stop.tryEmitEmpty();
+                }
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return disposed.get();
+            }
+        };
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("circuitState", breaker.state().name());
+        stats.put("failureRate", Math.round(breaker.failureRate() * 1000.0) / 1000.0);
+        stats.put("timesOpened", breaker.timesOpened());
+        stats.put("maxInFlight", maxInFlight);
+        stats.put("inFlight", inFlight.get());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("queued", queued.get());
+        Map<String, Object> byPriority = new LinkedHashMap<>();
+        for (LlmPriority priority : LlmPriority.values()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("queued", queuedByPriority.get(priority).get());
+            row.put("queueLimit", priority.queueLimit(queueCapacity));
+            row.put("rejected", rejectedByPriority.get(priority).get());
+            byPriority.put(priority.name(), row);
+        }
+        stats.put("priorities", byPriority);
+        stats.put("completed", completed.get());
+        stats.put("failed", failed.get());
+        stats.put("timedOut", timedOut.get());
+        stats.put("expiredInQueue", expiredInQueue.get());
+        stats.put("maxQueueWaitMs", maxQueueWaitMillis);
+        stats.put("shortCircuited", shortCircuited.get());
+        stats.put("cancelled", cancelled.get());
+        long startedCount = started.get();
+        stats.put("avgQueueWaitMs", startedCount > 0 ? waitMillisTotal.get() / startedCount : 0L);
+
+        long[] recent;
+        synchronized (latencies) {
+            recent = Arrays.copyOf(latencies, (int) Math.min(latencyCount, LATENCY_SAMPLES));
+        }
+        Arrays.sort(recent);
+        stats.put("latencySamples", recent.length);
+        stats.put("latencyP50Ms", percentile(recent, 0.5));
+        stats.put("latencyP95Ms", percentile(recent, 0.95));
+        stats.put("latencyMaxMs", recent.length > 0 ? recent[recent.length - 1] : null);
+        return stats;
+    }
+
+    @PreDestroy
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    private <T> Task<T> enqueue(LlmPriority priority, long timeoutMillis, UpstreamCall<T> upstream) {
+        if (!breaker.admitsQueueing(System.currentTimeMillis())) {
+            shortCircuited.incrementAndGet();
+            throw new LlmUnavailableException("LLM circuit is open");
+        }
+        int depth = queued.incrementAndGet();
+        if (depth > priority.queueLimit(queueCapacity)) {
+            queued.decrementAndGet();
+            rejectedByPriority.get(priority).incrementAndGet();
+            log.warn("LLM_GATEWAY_REJECTED - Priority: {}, Queued: {}", priority, depth - 1);
+            throw new LlmUnavailableException("LLM gateway queue is full");
+        }
+        queuedByPriority.get(priority).incrementAndGet();
+        Task<T> task = new Task<>(priority, sequence.incrementAndGet(), timeoutMillis, upstream);
+        workers.execute(task);
+        return task;
+    }
+
+    private void onOutcome(boolean success) {
+        CircuitBreaker.State changed = breaker.record(success, System.currentTimeMillis());
+        if (changed == CircuitBreaker.State.OPEN) {
+            log.warn("LLM_CIRCUIT_OPENED - TimesOpened: {}", breaker.timesOpened());
+        } else if (changed == CircuitBreaker.State.CLOSED) {
+            log.info("LLM_CIRCUIT_CLOSED - Probe succeeded");
+        }
+    }
+
+    private void recordLatency(long millis) {
+        synchronized (latencies) {
+            latencies[(int) (latencyCount++ % LATENCY_SAMPLES)] = millis;
+        }
+    }
+
+    private static LlmUnavailableException unavailable(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof LlmUnavailableException unavailable) {
+            return unavailable;
+        }
+        if (cause instanceof CancellationException) {
+            return new LlmUnavailableException("LLM call cancelled");
+        }
+        return new LlmUnavailableException("LLM call failed: " + cause.getMessage());
+    }
+
+    private static Long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return null;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * quantile) - 1)];
+    }
+
+    @FunctionalInterface
+    private interface UpstreamCall<T> {
+        void run(CompletableFuture<T> result);
+    }
+
+    private final class Task<T> implements Runnable, Comparable<Task<?>> {
+        private final LlmPriority priority;
+        private final long seq;
+        private final long timeoutMillis;
+        private final long enqueuedAt = System.currentTimeMillis();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final UpstreamCall<T> upstream;
+        // 0 queued, 1 running, 2 cancelled before start
+        private final AtomicInteger phase = new AtomicInteger();
+
+        Task(LlmPriority priority, long seq, long timeoutMillis, UpstreamCall<T> upstream) {
+            this.priority = priority;
+            this.seq = seq;
+            this.timeoutMillis = timeoutMillis;
+            this.upstream = upstream;
+        }
+
+        /**
+         * Cancels the task if it has not started. Returns false when it is already running.
+         */
+        boolean cancel() {
+            if (phase.compareAndSet(0, 2)) {
+                result.cancel(false);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            queued.decrementAndGet();
+            queuedByPriority.get(priority).decrementAndGet();
+            if (!phase.compareAndSet(0, 1)) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            long waited = now - enqueuedAt;
+            if (waited >= timeoutMillis || waited > maxQueueWaitMillis) {
+                // nobody is waiting for this answer any more; the upstream never sees it
+                expiredInQueue.incrementAndGet();
+                log.warn("LLM_GATEWAY_QUEUE_EXPIRED - Priority: {}, WaitedMs: {}", priority, waited);
+                result.completeExceptionally(new LlmUnavailableException("LLM call waited " + waited + "ms in queue"));
+                return;
+            }
+            if (!breaker.tryAcquire(now)) {
+                shortCircuited.incrementAndGet();
+                result.completeExceptionally(new LlmUnavailableException("LLM circuit is open"));
+                return;
+            }
+            started.incrementAndGet();
+            waitMillisTotal.addAndGet(waited);
+            inFlight.incrementAndGet();
+            try {
+                upstream.run(result);
+                completed.incrementAndGet();
+                // the caller's deadline runs from enqueue, so an answer that lands after it is one nobody
+                // waited for and counts against the upstream like an error
+                onOutcome(System.currentTimeMillis() - enqueuedAt <= timeoutMillis);
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                onOutcome(false);
+                log.warn("LLM_CALL_FAILED - Priority: {}, Error: {}", priority, e.getMessage());
+                result.completeExceptionally(new LlmUnavailableException("LLM call failed: " + e.getMessage()));
+            } finally {
+                inFlight.decrementAndGet();
+                recordLatency(System.currentTimeMillis() - now);
+            }
+        }
+
+        @Override
+        public int compareTo(Task<?> other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(seq, other.seq);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.talent_tandem.llm;
+
+/**
+ * Order in which queued LLM calls are started, highest first. Lower priorities may only fill part of
+ * the gateway queue, so a backlog of batch work is shed before it can hold up interactive chat.
+ */
+public enum LlmPriority {
+
+    INTERACTIVE(1.0),
+    EXPLANATION(0.75),
+    BATCH(0.5);
+
+    private final double queueShare;
+
+    LlmPriority(double queueShare) {
+        this.queueShare = queueShare;
+    }
+
+    int queueLimit(int capacity) {
+        return Math.max(1, (int) (capacity * queueShare));
+    }
+}
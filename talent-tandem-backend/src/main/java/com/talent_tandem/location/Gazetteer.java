@@ -0,0 +1,112 @@
+package com.talent_tandem.location;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Offline city geocoder backed by the bundled {@code geo/gazetteer.csv}.
+ *
+ * Lookups are by normalized city and country, falling back to the city alone when the country is
+ * missing or unknown. The file is read once at startup; nothing here touches the network.
+ */
+@Slf4j
+@Component
+public class Gazetteer {
+
+    static final String RESOURCE = "geo/gazetteer.csv";
+
+    private static final Map<String, String> COUNTRY_ALIASES = Map.of(
+            "in", "india",
+            "bharat", "india",
+            "us", "united states",
+            "usa", "united states",
+            "united states of america", "united states",
+            "uk", "united kingdom",
+            "england", "united kingdom",
+            "great britain", "united kingdom",
+            "uae", "united arab emirates");
+
+    private final Map<String, GeoPoint> byCityAndCountry = new HashMap<>();
+    private final Map<String, GeoPoint> byCity = new HashMap<>();
+
+    public Gazetteer() {
+        load();
+    }
+
+    /**
+     * Returns the coordinates for a city, or null when the gazetteer does not know it.
+     */
+    public GeoPoint locate(String city, String country) {
+        String cityKey = normalize(city);
+        if (cityKey.isEmpty()) {
+            return null;
+        }
+        String countryKey = country(country);
+        if (!countryKey.isEmpty()) {
+            GeoPoint exact = byCityAndCountry.get(cityKey + '|' + countryKey);
+            if (exact != null) {
+                return exact;
+            }
+        }
+        return byCity.get(cityKey);
+    }
+
+    public int size() {
+        return byCityAndCountry.size();
+    }
+
+    private void load() {
+        ClassPathResource resource = new ClassPathResource(RESOURCE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] cols = line.split(",");
+                if (cols.length != 4) {
+                    log.warn("GAZETTEER_BAD_LINE - Line: {}", lineNo);
+                    continue;
+                }
+                try {
+                    GeoPoint point = GeoPoint.of(Double.parseDouble(cols[2].trim()),
+                            Double.parseDouble(cols[3].trim()));
+                    String cityKey = normalize(cols[0]);
+                    byCityAndCountry.putIfAbsent(cityKey + '|' + country(cols[1]), point);
+                    byCity.putIfAbsent(cityKey, point);
+                } catch (IllegalArgumentException e) {
+                    log.warn("GAZETTEER_BAD_LINE - Line: {}, Error: {}", lineNo, e.getMessage());
+                }
+            }
+            log.info("GAZETTEER_LOADED - Cities: {}", byCityAndCountry.size());
+        } catch (IOException e) {
+            log.error("GAZETTEER_LOAD_FAILED - Resource: {}, Error: {}", RESOURCE, e.getMessage());
+        }
+    }
+
+    private static String country(String country) {
+        String key = normalize(country);
+        return COUNTRY_ALIASES.getOrDefault(key, key);
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+}
@@ -0,0 +1,194 @@
+package com.talent_tandem.location;
+
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.repository.IUserRepo;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resident userId -> coordinates index bucketed into a one-degree latitude/longitude grid.
+ *
+ * A radius query only visits the cells overlapping the bounding box of the circle and computes
+ * exact distances for the users in them, so filtering a city-sized radius touches a handful of
+ * cells regardless of how many users are indexed. Cells are immutable and replaced copy-on-write,
+ * like the {@link MentorIndex} buckets; writes are applied after the surrounding transaction commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeoGridIndex {
+
+    static final double KM_PER_DEGREE = Math.PI * GeoPoint.EARTH_RADIUS_KM / 180.0;
+
+    private static final int LON_CELLS = 360;
+
+    private final IUserRepo userRepository;
+
+    private final Map<Long, GeoPoint> positions = new ConcurrentHashMap<>();
+    private final Map<Integer, Cell> cells = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = userRepository.findAllCoordinates();
+        positions.clear();
+        cells.clear();
+        for (Object[] row : rows) {
+            try {
+                putNow(((Number) row[0]).longValue(),
+                        GeoPoint.of(((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue()));
+            } catch (IllegalArgumentException e) {
+                log.warn("GEO_INDEX_BAD_COORDINATES - UserID: {}, Error: {}", row[0], e.getMessage());
+            }
+        }
+        log.info("GEO_INDEX_BUILT - Users: {}, Cells: {}, TookMs: {}",
+                positions.size(), cells.size(), System.currentTimeMillis() - start);
+    }
+
+    public GeoPoint location(long userId) {
+        return positions.get(userId);
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Moves a user to new coordinates, or drops them from the index when {@code point} is null.
+     */
+    public void update(long userId, GeoPoint point) {
+        TransactionHooks.afterCommit(() -> {
+            removeNow(userId);
+            if (point != null) {
+                putNow(userId, point);
+            }
+        });
+    }
+
+    /**
+     * Finds every indexed user within {@code radiusKm} of {@code origin}.
+     */
+    public Proximity within(GeoPoint origin, double radiusKm) {
+        Map<Long, Double> found = new HashMap<>();
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        int minLat = latCell(Math.max(-90.0, origin.getLatitude() - latSpan));
+        int maxLat = latCell(Math.min(90.0, origin.getLatitude() + latSpan));
+
+        // Longitude degrees shrink towards the poles; widen the box using the latitude nearest a pole
+        double widestLat = Math.min(90.0, Math.abs(origin.getLatitude()) + latSpan);
+        double cos = Math.cos(Math.toRadians(widestLat));
+        double lonSpan = cos > 1e-9 ? Math.min(180.0, latSpan / cos) : 180.0;
+
+        // Unwrapped cell numbers; the modulo below handles boxes crossing the antimeridian
+        int lonFrom = (int) Math.floor(origin.getLongitude() - lonSpan + 180.0);
+        int lonTo = (int) Math.floor(origin.getLongitude() + lonSpan + 180.0);
+        int lonCount = Math.min(LON_CELLS, lonTo - lonFrom + 1);
+
+        for (int lat = minLat; lat <= maxLat; lat++) {
+            for (int i = 0; i < lonCount; i++) {
+                Cell cell = cells.get(key(lat, Math.floorMod(lonFrom + i, LON_CELLS)));
+                if (cell == null) {
+                    continue;
+                }
+                for (int j = 0; j < cell.userIds.length; j++) {
+                    double d = origin.distanceKm(cell.latitudes[j], cell.longitudes[j]);
+                    if (d <= radiusKm) {
+                        found.put(cell.userIds[j], d);
+                    }
+                }
+            }
+        }
+        return new Proximity(found, positions, radiusKm);
+    }
+
+    private void putNow(long userId, GeoPoint point) {
+        GeoPoint previous = positions.put(userId, point);
+        if (previous != null) {
+            cells.computeIfPresent(key(previous), (k, cell) -> cell.without(userId));
+        }
+        cells.compute(key(point), (k, cell) -> (cell != null ? cell : Cell.EMPTY).with(userId, point));
+    }
+
+    private void removeNow(long userId) {
+        GeoPoint previous = positions.remove(userId);
+        if (previous != null) {
+            cells.computeIfPresent(key(previous), (k, cell) -> cell.without(userId));
+        }
+    }
+
+    private static int key(GeoPoint point) {
+        return key(latCell(point.getLatitude()), lonCell(point.getLongitude()));
+    }
+
+    private static int key(int latCell, int lonCell) {
+        return latCell * LON_CELLS + lonCell;
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(179, (int) Math.floor(latitude + 90.0));
+    }
+
+    private static int lonCell(double longitude) {
+        return Math.floorMod((int) Math.floor(longitude + 180.0), LON_CELLS);
+    }
+
+    private static final class Cell {
+        static final Cell EMPTY = new Cell(new long[0], new double[0], new double[0]);
+
+        final long[] userIds;
+        final double[] latitudes;
+        final double[] longitudes;
+
+        Cell(long[] userIds, double[] latitudes, double[] longitudes) {
+            this.userIds = userIds;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+
+        Cell with(long userId, GeoPoint point) {
+            int n = userIds.length;
+            Cell grown = new Cell(Arrays.copyOf(userIds, n + 1), Arrays.copyOf(latitudes, n + 1),
+                    Arrays.copyOf(longitudes, n + 1));
+            grown.userIds[n] = userId;
+            grown.latitudes[n] = point.getLatitude();
+            grown.longitudes[n] = point.getLongitude();
+            return grown;
+        }
+
+        Cell without(long userId) {
+            for (int i = 0; i < userIds.length; i++) {
+                if (userIds[i] == userId) {
+                    if (userIds.length == 1) {
+                        return null;
+                    }
+                    return new Cell(drop(userIds, i), drop(latitudes, i), drop(longitudes, i));
+                }
+            }
+            return this;
+        }
+
+        private static long[] drop(long[] values, int i) {
+            long[] shrunk = new long[values.length - 1];
+            System.arraycopy(values, 0, shrunk, 0, i);
+            System.arraycopy(values, i + 1, shrunk, i, values.length - i - 1);
+            return shrunk;
+        }
+
+        private static double[] drop(double[] values, int i) {
+            double[] shrunk = new double[values.length - 1];
+            System.arraycopy(values, 0, shrunk, 0, i);
+            System.arraycopy(values, i + 1, shrunk, i, values.length - i - 1);
+            return shrunk;
+        }
+    }
+}
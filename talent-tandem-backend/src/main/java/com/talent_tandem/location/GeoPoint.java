@@ -0,0 +1,35 @@
+package com.talent_tandem.location;
+
+import lombok.Value;
+
+/**
+ * A latitude/longitude pair in decimal degrees.
+ */
+@Value
+public class GeoPoint {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    double latitude;
+    double longitude;
+
+    public static GeoPoint of(double latitude, double longitude) {
+        if (Double.isNaN(latitude) || latitude < -90 || latitude > 90
+                || Double.isNaN(longitude) || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+        return new GeoPoint(latitude, longitude);
+    }
+
+    /**
+     * Great-circle distance in kilometres (haversine).
+     */
+    public double distanceKm(double lat, double lon) {
+        double dLat = Math.toRadians(lat - latitude);
+        double dLon = Math.toRadians(lon - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(lat))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
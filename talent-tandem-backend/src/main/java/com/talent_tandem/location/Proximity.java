@@ -0,0 +1,36 @@
+package com.talent_tandem.location;
+
+import java.util.Map;
+
+/**
+ * Result of one {@link GeoGridIndex#within} query: the distance from the query origin to every
+ * indexed user inside the radius.
+ */
+public final class Proximity {
+
+    private final Map<Long, Double> withinRadius;
+    private final Map<Long, GeoPoint> located;
+    private final double radiusKm;
+
+    Proximity(Map<Long, Double> withinRadius, Map<Long, GeoPoint> located, double radiusKm) {
+        this.withinRadius = withinRadius;
+        this.located = located;
+        this.radiusKm = radiusKm;
+    }
+
+    /**
+     * Distance in kilometres to {@code userId}; {@link Double#POSITIVE_INFINITY} when the user is
+     * located but outside the radius, and {@link Double#NaN} when the user has no known location.
+     */
+    public double distanceKm(long userId) {
+        Double d = withinRadius.get(userId);
+        if (d != null) {
+            return d;
+        }
+        return located.containsKey(userId) ? Double.POSITIVE_INFINITY : Double.NaN;
+    }
+
+    public double getRadiusKm() {
+        return radiusKm;
+    }
+}
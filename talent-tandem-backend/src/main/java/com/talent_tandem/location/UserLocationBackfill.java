@@ -0,0 +1,49 @@
+package com.talent_tandem.location;
+
+import com.talent_tandem.model.User;
+import com.talent_tandem.repository.IUserRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Geocodes users that have a city but no coordinates yet. Runs before the application is ready, so
+ * the {@link GeoGridIndex} rebuild already sees the new coordinates. Users whose city is not in the
+ * gazetteer are left untouched and retried on the next start.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserLocationBackfill implements ApplicationRunner {
+
+    private final IUserRepo userRepository;
+    private final Gazetteer gazetteer;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            List<User> pending = userRepository.findByCityIsNotNullAndLatitudeIsNull();
+            List<User> located = new ArrayList<>();
+            for (User user : pending) {
+                GeoPoint point = gazetteer.locate(user.getCity(), user.getCountry());
+                if (point != null) {
+                    user.setLatitude(point.getLatitude());
+                    user.setLongitude(point.getLongitude());
+                    located.add(user);
+                }
+            }
+            if (!located.isEmpty()) {
+                userRepository.saveAll(located);
+            }
+            log.info("USER_LOCATION_BACKFILLED - Located: {}, Unknown: {}", located.size(),
+                    pending.size() - located.size());
+        } catch (Exception e) {
+            log.error("USER_LOCATION_BACKFILL_FAILED - Error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.enums.Day;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Weekly availability as a bitset of 15-minute slots: bit {@code day * 96 + minute / 15} is set
+ * when the user is free for that whole slot. A week is 672 bits, packed into 11 longs, so an
+ * overlap check between two users is 11 ANDs and popcounts.
+ */
+public final class AvailabilityBits {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int SLOTS_PER_WEEK = SLOTS_PER_DAY * 7;
+    public static final int WORDS = (SLOTS_PER_WEEK + 63) / 64;
+    public static final int BYTES = WORDS * 8;
+
+    private static final long[] EMPTY = new long[WORDS];
+
+    private AvailabilityBits() {
+    }
+
+    public static long[] empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Sets the slots fully covered by {@code [startMinute, endMinute)} on {@code day}.
+     */
+    public static void addAvailable(long[] bits, Day day, int startMinute, int endMinute) {
+        int from = (startMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        int to = endMinute / SLOT_MINUTES;
+        setRange(bits, day.ordinal() * SLOTS_PER_DAY + from, day.ordinal() * SLOTS_PER_DAY + to);
+    }
+
+    /**
+     * Builds the mask of every slot touched by the requested window, or null when the window is
+     * not usable.
+     */
+    public static long[] window(Day day, int startMinute, int endMinute) {
+        if (day == null || startMinute < 0 || endMinute <= startMinute) {
+            return null;
+        }
+        long[] bits = new long[WORDS];
+        int from = startMinute / SLOT_MINUTES;
+        int to = (endMinute + SLOT_MINUTES - 1) / SLOT_MINUTES;
+        setRange(bits, day.ordinal() * SLOTS_PER_DAY + from, day.ordinal() * SLOTS_PER_DAY + to);
+        return bits;
+    }
+
+    public static int overlap(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    public static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public static boolean isSet(long[] bits, int slot) {
+        return (bits[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Decodes the bitset into runs of consecutive free slots as {day ordinal, startMinute, endMinute}.
+     * Runs are split at midnight.
+     */
+    public static List<int[]> runs(long[] bits) {
+        List<int[]> runs = new ArrayList<>();
+        int slot = 0;
+        while (slot < SLOTS_PER_WEEK) {
+            if (!isSet(bits, slot)) {
+                slot++;
+                continue;
+            }
+            int day = slot / SLOTS_PER_DAY;
+            int dayEnd = (day + 1) * SLOTS_PER_DAY;
+            int end = slot;
+            while (end < dayEnd && isSet(bits, end)) {
+                end++;
+            }
+            runs.add(new int[]{day, (slot - day * SLOTS_PER_DAY) * SLOT_MINUTES, (end - day * SLOTS_PER_DAY) * SLOT_MINUTES});
+            slot = end;
+        }
+        return runs;
+    }
+
+    public static byte[] toBytes(long[] bits) {
+        byte[] bytes = new byte[BYTES];
+        for (int i = 0; i < WORDS; i++) {
+            long word = bits[i];
+            for (int b = 0; b < 8; b++) {
+                bytes[i * 8 + b] = (byte) (word >>> (8 * b));
+            }
+        }
+        return bytes;
+    }
+
+    public static long[] fromBytes(byte[] bytes) {
+        long[] bits = new long[WORDS];
+        if (bytes == null) {
+            return bits;
+        }
+        for (int i = 0; i < Math.min(bytes.length, BYTES); i++) {
+            bits[i >>> 3] |= (bytes[i] & 0xFFL) << (8 * (i & 7));
+        }
+        return bits;
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        for (int slot = from; slot < to; slot++) {
+            bits[slot >>> 6] |= 1L << slot;
+        }
+    }
+}
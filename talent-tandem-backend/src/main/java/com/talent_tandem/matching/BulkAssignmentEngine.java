@@ -0,0 +1,195 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.location.GeoGridIndex;
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.location.Proximity;
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.MentorRecommendation;
+import com.talent_tandem.model.UserLearnSkill;
+import com.talent_tandem.requestdto.MatchRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes a capacity-constrained learner-to-mentor assignment for a batch of open learn skills.
+ *
+ * Every learn skill is scored against the skill's mentors from the {@link MentorIndex} with the same
+ * {@link MatchScorer} live matching uses. Scoring runs per skill in parallel on a fork/join pool. The
+ * (learner, mentor) pairs of all skills are then taken in one sequential pass, highest score first:
+ * each learner gets at most one mentor and each mentor at most {@code mentorCapacity} learners across
+ * all skills. Ties break on learn skill id, then teach skill id, so the same input always yields the
+ * same assignment regardless of thread scheduling.
+ */
+@Slf4j
+@Component
+public class BulkAssignmentEngine {
+
+    private final MentorIndex mentorIndex;
+    private final MatchScoringEngine scoringEngine;
+    private final GeoGridIndex geoGridIndex;
+    private final ForkJoinPool pool;
+    private final int mentorCapacity;
+
+    public BulkAssignmentEngine(MentorIndex mentorIndex, MatchScoringEngine scoringEngine,
+            GeoGridIndex geoGridIndex, @Qualifier("bulkAssignmentPool") ForkJoinPool pool,
+            @Value("${matching.assignment.mentor-capacity:3}") int mentorCapacity) {
+        this.mentorIndex = mentorIndex;
+        this.scoringEngine = scoringEngine;
+        this.geoGridIndex = geoGridIndex;
+        this.pool = pool;
+        this.mentorCapacity = Math.max(1, mentorCapacity);
+    }
+
+    public List<MentorRecommendation> assign(List<UserLearnSkill> open) {
+        Map<Long, List<UserLearnSkill>> bySkill = new LinkedHashMap<>();
+        for (UserLearnSkill ls : open) {
+            bySkill.computeIfAbsent(ls.getSkill().getId(), id -> new ArrayList<>()).add(ls);
+        }
+        List<List<UserLearnSkill>> groups = new ArrayList<>(bySkill.values());
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+
+        MatchScorer scorer = scoringEngine.currentScorer();
+        LocalDateTime generatedAt = LocalDateTime.now();
+        List<Pair> pairs = new ArrayList<>(pool.invoke(new SkillTask(scorer, groups, 0, groups.size())));
+        pairs.sort(Comparator.comparingDouble((Pair p) -> -p.score)
+                .thenComparingLong(p -> p.demand.getId())
+                .thenComparingLong(p -> p.mentor.getTeachId()));
+
+        Set<Long> assigned = new HashSet<>();
+        Map<Long, Integer> claimed = new HashMap<>();
+        List<MentorRecommendation> result = new ArrayList<>();
+        for (Pair p : pairs) {
+            long mentorId = p.mentor.getUserId();
+            if (assigned.contains(p.demand.getId()) || claimed.getOrDefault(mentorId, 0) >= mentorCapacity) {
+                continue;
+            }
+            assigned.add(p.demand.getId());
+            claimed.merge(mentorId, 1, Integer::sum);
+            result.add(MentorRecommendation.builder()
+                    .learnerId(p.demand.getUser().getId())
+                    .learnSkillId(p.demand.getId())
+                    .skillId(p.mentor.getSkillId())
+                    .skillName(p.mentor.getSkillName())
+                    .mentorId(mentorId)
+                    .mentorName(p.mentor.displayName())
+                    .teachSkillId(p.mentor.getTeachId())
+                    .matchScore(Math.round(p.score * 1000.0) / 1000.0)
+                    .rulesVersion(scorer.getRulesVersion())
+                    .generatedAt(generatedAt)
+                    .build());
+        }
+        return result;
+    }
+
+    public int getMentorCapacity() {
+        return mentorCapacity;
+    }
+
+    /**
+     * Every (learner, mentor) pair of one skill that the scorer keeps.
+     */
+    private List<Pair> scoreSkill(MatchScorer scorer, List<UserLearnSkill> demands) {
+        long skillId = demands.get(0).getSkill().getId();
+        MentorEntry[] mentors = mentorIndex.candidates(skillId);
+        if (mentors.length == 0) {
+            return List.of();
+        }
+
+        List<Pair> pairs = new ArrayList<>();
+        for (UserLearnSkill demand : demands) {
+            long learnerId = demand.getUser().getId();
+            double[] scores = scorer.score(mentors, toRequest(demand), proximity(scorer, learnerId));
+            for (int m = 0; m < mentors.length; m++) {
+                if (scores[m] != MatchScorer.DROPPED && mentors[m].getUserId() != learnerId) {
+                    pairs.add(new Pair(demand, mentors[m], scores[m]));
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private Proximity proximity(MatchScorer scorer, long learnerId) {
+        if (!scorer.isLocationMatching()) {
+            return null;
+        }
+        GeoPoint origin = geoGridIndex.location(learnerId);
+        return origin != null ? geoGridIndex.within(origin, scorer.getMaxDistanceKm()) : null;
+    }
+
+    private static MatchRequest toRequest(UserLearnSkill ls) {
+        MatchRequest request = new MatchRequest();
+        request.setSkillId(ls.getSkill().getId());
+        request.setPreferredMode(ls.getPreferredMode());
+        request.setPriorityLevel(ls.getPriorityLevel());
+        request.setLearnerId(ls.getUser().getId());
+        Availability a = ls.getAvailability();
+        if (a != null) {
+            request.setDayOfWeek(a.getDayOfWeek());
+            request.setStartTime(a.getStartTime());
+            request.setEndTime(a.getEndTime());
+        }
+        return request;
+    }
+
+    private final class SkillTask extends RecursiveTask<List<Pair>> {
+        private final MatchScorer scorer;
+        private final List<List<UserLearnSkill>> groups;
+        private final int from;
+        private final int to;
+
+        SkillTask(MatchScorer scorer, List<List<UserLearnSkill>> groups, int from, int to) {
+            this.scorer = scorer;
+            this.groups = groups;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Pair> compute() {
+            if (to - from == 1) {
+                try {
+                    return scoreSkill(scorer, groups.get(from));
+                } catch (RuntimeException e) {
+                    log.error("BULK_ASSIGNMENT_SKILL_FAILED - SkillID: {}, Error: {}",
+                            groups.get(from).get(0).getSkill().getId(), e.getMessage());
+                    return List.of();
+                }
+            }
+            int mid = (from + to) >>> 1;
+            SkillTask left = new SkillTask(scorer, groups, from, mid);
+            left.fork();
+            List<Pair> right = new SkillTask(scorer, groups, mid, to).compute();
+            List<Pair> merged = new ArrayList<>(left.join());
+            merged.addAll(right);
+            return merged;
+        }
+    }
+
+    private static final class Pair {
+        final UserLearnSkill demand;
+        final MentorEntry mentor;
+        final double score;
+
+        Pair(UserLearnSkill demand, MentorEntry mentor, double score) {
+            this.demand = demand;
+            this.mentor = mentor;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over the ranking order defined by {@link MatchScorer#compare}.
+ * It records the sort key of the last mentor on a page, so the next page is every candidate
+ * ranked strictly after it. Encoded as URL-safe Base64 of {@code scoreBits:confidence:teachId}.
+ */
+public final class MatchCursor {
+
+    private final double score;
+    private final int confidence;
+    private final long teachId;
+
+    private MatchCursor(double score, int confidence, long teachId) {
+        this.score = score;
+        this.confidence = confidence;
+        this.teachId = teachId;
+    }
+
+    public static MatchCursor after(MentorEntry last, double score) {
+        return new MatchCursor(score, last.getConfidence(), last.getTeachId());
+    }
+
+    public static MatchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new MatchCursor(
+                    Double.longBitsToDouble(Long.parseUnsignedLong(parts[0], 16)),
+                    Integer.parseInt(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = Long.toHexString(Double.doubleToLongBits(score)) + ":" + confidence + ":" + teachId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * True when this cursor was taken right after the candidate with {@code teachId} and {@code score}.
+     */
+    boolean isAt(long candidateTeachId, double candidateScore) {
+        return teachId == candidateTeachId && Double.compare(score, candidateScore) == 0;
+    }
+
+    /**
+     * True when the candidate ranks strictly after this cursor.
+     */
+    public boolean isBefore(MentorEntry candidate, double candidateScore) {
+        int byScore = Double.compare(score, candidateScore);
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        if (confidence != candidate.getConfidence()) {
+            return confidence > candidate.getConfidence();
+        }
+        return teachId < candidate.getTeachId();
+    }
+}
@@ -0,0 +1,298 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.service.IAIService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates match explanations for a ranked list of mentors concurrently, within a per-request
+ * latency budget. Mentors whose AI explanation is not ready when the budget runs out, or whose
+ * call fails, get the {@link MatchExplanationTemplate} text instead. Explanations already in the
+ * {@link MatchExplanationCache} skip the LLM entirely, and late answers still warm the cache.
+ *
+ * Cache misses are sent to the model in batches of up to {@code matching.explanation.batch-size}
+ * mentors per prompt. When the batch call fails outright every mentor in it gets the template; only
+ * a mentor whose line of an otherwise usable answer is missing is retried alone. A mentor that has
+ * already been given up on is not sent to the model at all, though a call already running is let
+ * finish so its answer can warm the cache.
+ */
+@Slf4j
+@Component
+public class MatchExplainer {
+
+    private final IAIService aiService;
+    private final MatchExplanationCache cache;
+    private final ExecutorService executor;
+    private final long budgetMillis;
+    private final int batchSize;
+
+    public MatchExplainer(IAIService aiService,
+            MatchExplanationCache cache,
+            @Qualifier("matchExplanationExecutor") ExecutorService executor,
+            @Value("${matching.explanation.budget-ms:2500}") long budgetMillis,
+            @Value("${matching.explanation.batch-size:10}") int batchSize) {
+        this.aiService = aiService;
+        this.cache = cache;
+        this.executor = executor;
+        this.budgetMillis = budgetMillis;
+        this.batchSize = Math.max(batchSize, 1);
+    }
+
+    public Explanations explain(List<MentorEntry> mentors) {
+        int n = mentors.size();
+        String[] texts = new String[n];
+        boolean[] aiGenerated = new boolean[n];
+        if (n == 0) {
+            return new Explanations(texts, aiGenerated);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        String[] cached = cache.getAll(mentors);
+        CompletableFuture<String>[] futures = generate(mentors, cached);
+
+        for (int i = 0; i < n; i++) {
+            if (cached[i] != null) {
+                texts[i] = cached[i];
+                aiGenerated[i] = true;
+                continue;
+            }
+            String text = null;
+            try {
+                long remaining = deadline - System.nanoTime();
+                text = remaining > 0 ? futures[i].get(remaining, TimeUnit.NANOSECONDS) : futures[i].getNow(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // timed out or failed, fall back to the template below
+            }
+            if (usable(text)) {
+                texts[i] = text;
+                aiGenerated[i] = true;
+            } else {
+                // stops the work for this mentor that has not reached the model yet
+                futures[i].cancel(false);
+                texts[i] = MatchExplanationTemplate.build(mentors.get(i));
+            }
+        }
+
+        Explanations result = new Explanations(texts, aiGenerated);
+        log.debug("MATCH_EXPLANATIONS - Total: {}, AI: {}, Template: {}",
+                n, result.getAiCount(), result.getTemplateCount());
+        return result;
+    }
+
+    /**
+     * Streaming variant of {@link #explain}. Reports each mentor's explanation to {@code listener} as
+     * soon as it is available: cached ones immediately, generated ones as their call completes, and
+     * the template for any still pending when the budget expires. {@link Listener#onComplete} is
+     * called exactly once, after every mentor has been reported. Callbacks may arrive concurrently
+     * on executor threads.
+     */
+    public void stream(List<MentorEntry> mentors, Listener listener) {
+        int n = mentors.size();
+        String[] texts = new String[n];
+        boolean[] aiGenerated = new boolean[n];
+        if (n == 0) {
+            listener.onComplete(new Explanations(texts, aiGenerated));
+            return;
+        }
+
+        AtomicInteger pending = new AtomicInteger(n);
+        String[] cached = cache.getAll(mentors);
+        for (int i = 0; i < n; i++) {
+            if (cached[i] != null) {
+                report(i, cached[i], true, texts, aiGenerated, pending, listener);
+            }
+        }
+
+        CompletableFuture<String>[] futures = generate(mentors, cached);
+        for (int i = 0; i < n; i++) {
+            if (cached[i] != null) {
+                continue;
+            }
+            int index = i;
+            MentorEntry mentor = mentors.get(i);
+            futures[i]
+                    .completeOnTimeout(null, budgetMillis, TimeUnit.MILLISECONDS)
+                    .whenComplete((text, error) -> {
+                        boolean ai = error == null && usable(text);
+                        report(index, ai ? text : MatchExplanationTemplate.build(mentor), ai,
+                                texts, aiGenerated, pending, listener);
+                    });
+        }
+    }
+
+    private void report(int index, String text, boolean ai, String[] texts, boolean[] aiGenerated,
+            AtomicInteger pending, Listener listener) {
+        texts[index] = text;
+        aiGenerated[index] = ai;
+        try {
+            listener.onExplanation(index, text, ai);
+        } catch (RuntimeException e) {
+            log.warn("Match explanation listener failed for index {}: {}", index, e.getMessage());
+        }
+        // the final decrement happens-after every other report's writes
+        if (pending.decrementAndGet() == 0) {
+            Explanations result = new Explanations(texts, aiGenerated);
+            log.debug("MATCH_EXPLANATIONS_STREAMED - Total: {}, AI: {}, Template: {}",
+                    texts.length, result.getAiCount(), result.getTemplateCount());
+            listener.onComplete(result);
+        }
+    }
+
+    /**
+     * Starts generation for every mentor without a cached text. Returns per-mentor futures aligned
+     * with {@code mentors}, null where the text was cached. A future completed or cancelled by the
+     * caller marks that mentor as abandoned; see {@link #abandoned}.
+     */
+    private CompletableFuture<String>[] generate(List<MentorEntry> mentors, String[] cached) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<String>[] futures = new CompletableFuture[mentors.size()];
+        List<Integer> misses = new ArrayList<>();
+        for (int i = 0; i < mentors.size(); i++) {
+            if (cached[i] == null) {
+                misses.add(i);
+                futures[i] = new CompletableFuture<>();
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += batchSize) {
+            List<Integer> chunk = misses.subList(from, Math.min(from + batchSize, misses.size()));
+            if (chunk.size() == 1) {
+                submit(mentors.get(chunk.get(0)), futures[chunk.get(0)]);
+                continue;
+            }
+
+            List<MentorEntry> batch = new ArrayList<>(chunk.size());
+            List<CompletableFuture<String>> targets = new ArrayList<>(chunk.size());
+            for (Integer index : chunk) {
+                batch.add(mentors.get(index));
+                targets.add(futures[index]);
+            }
+            submitBatch(batch, targets);
+        }
+        return futures;
+    }
+
+    /**
+     * Explains {@code batch} in one prompt and completes each of {@code targets} with its mentor's text.
+     * A failed call completes them all with null, so the caller falls back to the template; a mentor
+     * missing from a usable answer is retried alone.
+     */
+    private void submitBatch(List<MentorEntry> batch, List<CompletableFuture<String>> targets) {
+        try {
+            executor.execute(() -> {
+                if (targets.stream().allMatch(MatchExplainer::abandoned)) {
+                    return;
+                }
+                List<String> texts = null;
+                try {
+                    List<IAIService.MentorExplanationInput> inputs = new ArrayList<>(batch.size());
+                    for (MentorEntry mentor : batch) {
+                        inputs.add(IAIService.MentorExplanationInput.builder()
+                                .mentorName(mentor.displayName())
+                                .matchingSkills(Collections.singletonList(mentor.getSkillName()))
+                                .experience(String.valueOf(mentor.proficiencyLevel()))
+                                .timeSlot(String.valueOf(mentor.preferredMode()))
+                                .build());
+                    }
+                    texts = aiService.generateMatchExplanations(inputs);
+                } catch (RuntimeException e) {
+                    log.warn("MATCH_EXPLANATION_BATCH_FAILED - Mentors: {}, Error: {}", batch.size(), e.getMessage());
+                }
+                if (texts == null || texts.size() != batch.size()) {
+                    targets.forEach(target -> target.complete(null));
+                    return;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    String text = texts.get(i);
+                    if (usable(text)) {
+                        cache.put(batch.get(i), text, IAIService.MATCH_EXPLANATION_BATCH_PROMPT_VERSION);
+                        targets.get(i).complete(text);
+                    } else {
+                        submit(batch.get(i), targets.get(i));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            targets.forEach(target -> target.complete(null));
+        }
+    }
+
+    private void submit(MentorEntry mentor, CompletableFuture<String> target) {
+        try {
+            executor.execute(() -> {
+                if (abandoned(target)) {
+                    return;
+                }
+                try {
+                    String text = aiService.generateMatchExplanation(
+                            mentor.displayName(),
+                            Collections.singletonList(mentor.getSkillName()),
+                            String.valueOf(mentor.proficiencyLevel()),
+                            String.valueOf(mentor.preferredMode()));
+                    if (usable(text)) {
+                        cache.put(mentor, text, IAIService.MATCH_EXPLANATION_PROMPT_VERSION);
+                    }
+                    target.complete(text);
+                } catch (RuntimeException e) {
+                    target.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            target.complete(null);
+        }
+    }
+
+    /**
+     * True once the caller has given up on this mentor, by cancelling the future or, when streaming,
+     * completing it with null at the budget.
+     */
+    private static boolean abandoned(CompletableFuture<String> target) {
+        return target.isDone();
+    }
+
+    private static boolean usable(String text) {
+        return text != null && !IAIService.NO_MATCH_EXPLANATION.equals(text);
+    }
+
+    public interface Listener {
+
+        void onExplanation(int index, String text, boolean aiGenerated);
+
+        void onComplete(Explanations explanations);
+    }
+
+    @Getter
+    public static class Explanations {
+        private final String[] texts;
+        private final boolean[] aiGenerated;
+        private final int aiCount;
+        private final int templateCount;
+
+        Explanations(String[] texts, boolean[] aiGenerated) {
+            this.texts = texts;
+            this.aiGenerated = aiGenerated;
+            int ai = 0;
+            for (boolean b : aiGenerated) {
+                if (b) {
+                    ai++;
+                }
+            }
+            this.aiCount = ai;
+            this.templateCount = texts.length - ai;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.model.MatchExplanationCacheEntry;
+import com.talent_tandem.repository.IMatchExplanationCacheRepository;
+import com.talent_tandem.service.IAIService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Two-tier cache for AI match explanations.
+ *
+ * The text depends only on the mentor, skill, proficiency, mode and prompt, so entries are keyed on
+ * exactly those. The first tier is a bounded in-heap LRU; the second is the
+ * {@code match_explanation_cache} table, which survives restarts and is consulted in one batched
+ * query per request for whatever the heap tier missed.
+ */
+@Slf4j
+@Component
+public class MatchExplanationCache {
+
+    private static final List<Integer> PROMPT_VERSIONS = List.of(
+            IAIService.MATCH_EXPLANATION_PROMPT_VERSION, IAIService.MATCH_EXPLANATION_BATCH_PROMPT_VERSION);
+
+    private final IMatchExplanationCacheRepository repository;
+    private final int maxEntries;
+    private final LinkedHashMap<Key, String> lru;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong databaseHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MatchExplanationCache(IMatchExplanationCacheRepository repository,
+            @Value("${matching.explanation.cache.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.maxEntries = maxEntries;
+        this.lru = new LinkedHashMap<>(Math.min(maxEntries, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                if (size() > MatchExplanationCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Looks up explanations for the given mentors. Returns an array aligned with {@code mentors}
+     * holding the cached text, or null where both tiers missed. A text produced by either the single
+     * or the batch prompt is a hit.
+     */
+    public String[] getAll(List<MentorEntry> mentors) {
+        int n = mentors.size();
+        String[] found = new String[n];
+        Map<Key, Integer> pending = new HashMap<>();
+
+        synchronized (lru) {
+            for (int i = 0; i < n; i++) {
+                for (int promptVersion : PROMPT_VERSIONS) {
+                    Key key = Key.of(mentors.get(i), promptVersion);
+                    String text = lru.get(key);
+                    if (text != null) {
+                        found[i] = text;
+                        memoryHits.incrementAndGet();
+                        break;
+                    }
+                }
+                if (found[i] == null) {
+                    for (int promptVersion : PROMPT_VERSIONS) {
+                        pending.put(Key.of(mentors.get(i), promptVersion), i);
+                    }
+                }
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            loadFromDatabase(pending, found);
+            for (Integer slot : new HashSet<>(pending.values())) {
+                if (found[slot] == null) {
+                    misses.incrementAndGet();
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Stores a text under the version of the prompt that produced it, either
+     * {@link IAIService#MATCH_EXPLANATION_PROMPT_VERSION} or {@link IAIService#MATCH_EXPLANATION_BATCH_PROMPT_VERSION}.
+     */
+    public void put(MentorEntry mentor, String explanation, int promptVersion) {
+        Key key = Key.of(mentor, promptVersion);
+        synchronized (lru) {
+            lru.put(key, explanation);
+        }
+        try {
+            repository.save(MatchExplanationCacheEntry.builder()
+                    .mentorId(key.mentorId)
+                    .skillId(key.skillId)
+                    .proficiencyLevel(mentor.proficiencyLevel())
+                    .preferredMode(mentor.preferredMode())
+                    .promptVersion(key.promptVersion)
+                    .explanation(explanation)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // another node or request stored the same key first
+        } catch (Exception e) {
+            log.warn("Failed to persist match explanation for mentor {}: {}", key.mentorId, e.getMessage());
+        }
+    }
+
+    /**
+     * The event is published from an after-commit callback, where the committed transaction is still
+     * bound to the thread. The deletes therefore need a transaction of their own. Otherwise they join
+     * the finished one and fail.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onMentorChanged(MentorChangedEvent event) {
+        // availability and rating are not part of the explanation text
+        if (event.getKind() == MentorChangedEvent.Kind.AVAILABILITY
+                || event.getKind() == MentorChangedEvent.Kind.RATING) {
+            return;
+        }
+        Long skillId = event.getSkillId();
+        Long userId = event.getUserId();
+        synchronized (lru) {
+            lru.keySet().removeIf(k -> (skillId == null || k.skillId == skillId)
+                    && (userId == null || k.mentorId == userId));
+        }
+        try {
+            if (skillId != null && userId != null) {
+                repository.deleteByMentorIdAndSkillId(userId, skillId);
+            } else if (userId != null) {
+                repository.deleteByMentorId(userId);
+            } else if (skillId != null) {
+                repository.deleteBySkillId(skillId);
+            }
+            invalidations.incrementAndGet();
+        } catch (Exception e) {
+            log.error("Failed to invalidate match explanations for skill {} / mentor {}: {}",
+                    skillId, userId, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long memory = memoryHits.get();
+        long database = databaseHits.get();
+        long miss = misses.get();
+        long lookups = memory + database + miss;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (lru) {
+            stats.put("size", lru.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("promptVersions", PROMPT_VERSIONS);
+        stats.put("memoryHits", memory);
+        stats.put("databaseHits", database);
+        stats.put("misses", miss);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) (memory + database) / lookups);
+        return stats;
+    }
+
+    private void loadFromDatabase(Map<Key, Integer> pending, String[] found) {
+        Set<Long> mentorIds = pending.keySet().stream().map(k -> k.mentorId).collect(Collectors.toSet());
+        List<MatchExplanationCacheEntry> rows;
+        try {
+            rows = repository.findByPromptVersionInAndMentorIdIn(PROMPT_VERSIONS, mentorIds);
+        } catch (Exception e) {
+            log.warn("Match explanation cache lookup failed: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (lru) {
+            for (MatchExplanationCacheEntry row : rows) {
+                Key key = new Key(row.getMentorId(), row.getSkillId(),
+                        row.getProficiencyLevel() != null ? (byte) row.getProficiencyLevel().ordinal() : -1,
+                        row.getPreferredMode() != null ? (byte) row.getPreferredMode().ordinal() : -1,
+                        row.getPromptVersion());
+                Integer slot = pending.get(key);
+                if (slot != null && found[slot] == null) {
+                    found[slot] = row.getExplanation();
+                    lru.put(key, row.getExplanation());
+                    databaseHits.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static final class Key {
+        final long mentorId;
+        final long skillId;
+        final byte level;
+        final byte mode;
+        final int promptVersion;
+
+        Key(long mentorId, long skillId, byte level, byte mode, int promptVersion) {
+            this.mentorId = mentorId;
+            this.skillId = skillId;
+            this.level = level;
+            this.mode = mode;
+            this.promptVersion = promptVersion;
+        }
+
+        static Key of(MentorEntry mentor, int promptVersion) {
+            return new Key(mentor.getUserId(), mentor.getSkillId(), mentor.getLevel(), mentor.getMode(),
+                    promptVersion);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) o;
+            return mentorId == k.mentorId && skillId == k.skillId && level == k.level && mode == k.mode
+                    && promptVersion == k.promptVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mentorId, skillId, level, mode, promptVersion);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.enums.PreferedMode;
+
+/**
+ * The template match explanation, used wherever an AI explanation is unavailable.
+ */
+public final class MatchExplanationTemplate {
+
+    private MatchExplanationTemplate() {
+    }
+
+    public static String build(String mentorName, String skillName, Level level, Integer confidenceScore,
+            PreferedMode mode) {
+        return String.format(
+                "%s is an experienced %s mentor with %s proficiency level and confidence score of %d/10. Available for %s sessions.",
+                mentorName,
+                skillName != null ? skillName : "this skill",
+                level != null ? level.name() : "INTERMEDIATE",
+                confidenceScore,
+                mode != null ? mode.name().replace("_", " ").toLowerCase() : "flexible");
+    }
+
+    public static String build(MentorEntry mentor) {
+        return build(
+                mentor.getFirstName() != null ? mentor.getFirstName() : mentor.getUsername(),
+                mentor.getSkillName(),
+                mentor.proficiencyLevel(),
+                mentor.getConfidence(),
+                mentor.preferredMode());
+    }
+}
@@ -0,0 +1,30 @@
+package com.talent_tandem.matching;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of a match ranking. {@code scores} and {@code distancesKm} are parallel to {@code mentors} and
+ * are copies the caller may modify; a distance is NaN when unknown.
+ */
+@Getter
+public final class MatchPage {
+
+    private final String strategy;
+    private final long rulesVersion;
+    private final List<MentorEntry> mentors;
+    private final double[] scores;
+    private final double[] distancesKm;
+    private final boolean hasMore;
+
+    public MatchPage(String strategy, long rulesVersion, List<MentorEntry> mentors, double[] scores,
+            double[] distancesKm, boolean hasMore) {
+        this.strategy = strategy;
+        this.rulesVersion = rulesVersion;
+        this.mentors = mentors;
+        this.scores = scores;
+        this.distancesKm = distancesKm;
+        this.hasMore = hasMore;
+    }
+}
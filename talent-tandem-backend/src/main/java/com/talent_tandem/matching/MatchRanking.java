@@ -0,0 +1,134 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.location.Proximity;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every scored candidate of one search, as produced by a matching strategy.
+ *
+ * {@code scores} are the values used for ordering and cursors, so they must follow
+ * {@link MatchScorer#compare} order (score descending, confidence descending, teachId ascending).
+ * Candidates scored {@link MatchScorer#DROPPED} are never ranked. Scored rankings are kept in
+ * candidate order and only the requested page is selected with {@link TopKSelector}; ordered
+ * rankings already arrive in ranking order. Arrays are shared and must not be modified.
+ */
+@Getter
+public final class MatchRanking {
+
+    private final String strategy;
+    private final long rulesVersion;
+    private final long[] coveredSkills;
+    private final MentorEntry[] candidates;
+    private final double[] scores;
+    private final Proximity proximity;
+    private final boolean ordered;
+
+    private MatchRanking(String strategy, long rulesVersion, long[] coveredSkills, MentorEntry[] candidates,
+            double[] scores, Proximity proximity, boolean ordered) {
+        this.strategy = strategy;
+        this.rulesVersion = rulesVersion;
+        this.coveredSkills = coveredSkills;
+        this.candidates = candidates;
+        this.scores = scores;
+        this.proximity = proximity;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Candidates in any order, ranked lazily by {@link MatchScorer#compare}.
+     *
+     * @param proximity distances from the learner, or null when location is not used
+     */
+    public static MatchRanking scored(String strategy, long rulesVersion, long[] coveredSkills,
+            MentorEntry[] candidates, double[] scores, Proximity proximity) {
+        return new MatchRanking(strategy, rulesVersion, coveredSkills, candidates, scores, proximity, false);
+    }
+
+    /**
+     * Candidates already in ranking order, none of them dropped.
+     */
+    public static MatchRanking ordered(String strategy, long rulesVersion, long[] coveredSkills,
+            MentorEntry[] mentors, double[] scores) {
+        return new MatchRanking(strategy, rulesVersion, coveredSkills, mentors, scores, null, true);
+    }
+
+    /**
+     * Up to {@code k} candidate indexes in ranking order, starting strictly after {@code after}.
+     */
+    public int[] top(int k, MatchCursor after) {
+        k = Math.min(k, candidates.length);
+        if (!ordered) {
+            return TopKSelector.select(candidates, scores, k, after);
+        }
+        int from = start(after);
+        int[] page = new int[Math.min(k, candidates.length - from)];
+        for (int i = 0; i < page.length; i++) {
+            page[i] = from + i;
+        }
+        return page;
+    }
+
+    /**
+     * Every ranked candidate index in order. Sorts all of them, so paging goes through {@link #top}.
+     */
+    public int[] order() {
+        return top(candidates.length, null);
+    }
+
+    /**
+     * Every ranked candidate in order, see {@link #order()}.
+     */
+    public MentorEntry[] sorted() {
+        int[] order = order();
+        MentorEntry[] sorted = new MentorEntry[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = candidates[order[i]];
+        }
+        return sorted;
+    }
+
+    /**
+     * Distance of candidate {@code i} from the learner, NaN when unknown.
+     */
+    public double distanceKm(int i) {
+        return proximity != null ? proximity.distanceKm(candidates[i].getUserId()) : Double.NaN;
+    }
+
+    /**
+     * The page ranked strictly after {@code after}, selecting one extra candidate to tell whether more follow.
+     */
+    public MatchPage page(MatchCursor after, int pageSize) {
+        int[] order = top((int) Math.min((long) pageSize + 1, Integer.MAX_VALUE), after);
+        int n = Math.min(order.length, pageSize);
+        List<MentorEntry> mentors = new ArrayList<>(n);
+        double[] pageScores = new double[n];
+        double[] distances = new double[n];
+        for (int i = 0; i < n; i++) {
+            mentors.add(candidates[order[i]]);
+            pageScores[i] = scores[order[i]];
+            distances[i] = distanceKm(order[i]);
+        }
+        return new MatchPage(strategy, rulesVersion, mentors, pageScores, distances, order.length > pageSize);
+    }
+
+    // Position of the first mentor ranked strictly after the cursor; ordered rankings only
+    private int start(MatchCursor cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        int lo = 0;
+        int hi = candidates.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cursor.isBefore(candidates[mid], scores[mid])) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,273 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.requestdto.MatchRequest;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only binary log of served match requests, read back by the {@link WhatIfSimulator}.
+ *
+ * The serving thread only offers a {@link ReplayRecord} to a bounded queue; a single background
+ * writer appends records to the file and flushes whenever the queue runs dry. When the queue is full
+ * the record is dropped and counted rather than slowing the request down. Once the file exceeds
+ * {@code max-bytes} it is rolled to {@code <file>.1}, so at most two files are kept.
+ *
+ * Each record is framed as a magic number, its length and its bytes. A reader that meets a torn or
+ * unreadable record skips it and scans forward to the next magic number, so one bad record never
+ * hides the rest of the file.
+ */
+@Slf4j
+@Component
+public class MatchReplayLog {
+
+    private static final int FRAME_MAGIC = 0x4D52504C;
+    // 64k served ids at most, plus the fixed fields and strategy name
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+
+    private final Path file;
+    private final Path rolled;
+    private final double sampleRate;
+    private final long maxBytes;
+    private final BlockingQueue<ReplayRecord> queue;
+    private final Thread writer;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong skippedOnRead = new AtomicLong();
+
+    private volatile boolean running = true;
+    private DataOutputStream out;
+    private long bytes;
+
+    public MatchReplayLog(@Value("${matching.replay.log-file:data/match-replay.log}") String file,
+            @Value("${matching.replay.sample-rate:1.0}") double sampleRate,
+            @Value("${matching.replay.max-bytes:67108864}") long maxBytes,
+            @Value("${matching.replay.queue-capacity:4096}") int queueCapacity) {
+        this.file = Paths.get(file);
+        this.rolled = this.file.resolveSibling(this.file.getFileName() + ".1");
+        this.sampleRate = sampleRate;
+        this.maxBytes = maxBytes;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 16));
+        this.writer = new Thread(this::drain, "match-replay-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Captures the first page served for a request. Never blocks.
+     */
+    public void record(MatchRequest request, MatchPage page) {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        List<MentorEntry> served = page.getMentors();
+        long[] teachIds = new long[served.size()];
+        for (int i = 0; i < teachIds.length; i++) {
+            teachIds[i] = served.get(i).getTeachId();
+        }
+        if (!queue.offer(ReplayRecord.of(request, page, teachIds))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * A uniform random sample of at most {@code max} logged records, newest file included, read with
+     * reservoir sampling so memory stays bounded by {@code max}.
+     */
+    public List<ReplayRecord> sample(int max) {
+        List<ReplayRecord> reservoir = new ArrayList<>(Math.min(max, 1 << 16));
+        long seen = 0;
+        for (Path path : new Path[]{rolled, file}) {
+            if (!Files.isRegularFile(path)) {
+                continue;
+            }
+            try (InputStream stream = Files.newInputStream(path);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(stream, 1 << 16))) {
+                ReplayRecord record;
+                while ((record = readNext(in)) != null) {
+                    seen++;
+                    if (reservoir.size() < max) {
+                        reservoir.add(record);
+                    } else {
+                        long slot = ThreadLocalRandom.current().nextLong(seen);
+                        if (slot < max) {
+                            reservoir.set((int) slot, record);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("MATCH_REPLAY_READ_FAILED - File: {}, Error: {}", path, e.getMessage());
+            }
+        }
+        return reservoir;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("file", file.toString());
+        stats.put("sampleRate", sampleRate);
+        stats.put("appended", appended.get());
+        stats.put("dropped", dropped.get());
+        stats.put("failed", failed.get());
+        stats.put("skippedOnRead", skippedOnRead.get());
+        stats.put("queued", queue.size());
+        stats.put("bytes", sizeOf(file) + sizeOf(rolled));
+        return stats;
+    }
+
+    /**
+     * The next readable record, or null at end of file. Scans to the next frame start after a torn
+     * or unreadable record; a record cut short by the end of the file is one still being written.
+     */
+    private ReplayRecord readNext(DataInputStream in) throws IOException {
+        int window = 0;
+        int scanned = 0;
+        while (true) {
+            try {
+                // slide one byte at a time until the last four bytes read are a frame start
+                while (scanned < Integer.BYTES || window != FRAME_MAGIC) {
+                    window = (window << 8) | in.readUnsignedByte();
+                    scanned++;
+                }
+            } catch (EOFException e) {
+                return null;
+            }
+            window = 0;
+            scanned = 0;
+            in.mark(Integer.BYTES + MAX_RECORD_BYTES);
+            byte[] payload;
+            try {
+                int length = in.readInt();
+                if (length <= 0 || length > MAX_RECORD_BYTES) {
+                    skippedOnRead.incrementAndGet();
+                    in.reset();
+                    continue;
+                }
+                payload = new byte[length];
+                in.readFully(payload);
+            } catch (EOFException e) {
+                // torn tail, or a length swallowed by a later frame; look for one after this magic
+                in.reset();
+                continue;
+            }
+            try {
+                DataInputStream body = new DataInputStream(new ByteArrayInputStream(payload));
+                ReplayRecord record = ReplayRecord.readFrom(body);
+                if (body.available() == 0) {
+                    return record;
+                }
+            } catch (IOException | RuntimeException e) {
+                // foreign or corrupt payload, skipped below
+            }
+            skippedOnRead.incrementAndGet();
+            in.reset();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        writer.interrupt();
+        try {
+            writer.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                ReplayRecord record = queue.poll(1, TimeUnit.SECONDS);
+                if (record == null) {
+                    continue;
+                }
+                do {
+                    append(record);
+                } while ((record = queue.poll()) != null);
+                out.flush();
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                failed.incrementAndGet();
+                log.warn("MATCH_REPLAY_WRITE_FAILED - File: {}, Error: {}", file, e.getMessage());
+                closeQuietly();
+            }
+        }
+        closeQuietly();
+    }
+
+    private void append(ReplayRecord record) throws IOException {
+        if (out == null) {
+            open();
+        } else if (bytes >= maxBytes) {
+            out.close();
+            out = null;
+            Files.move(file, rolled, StandardCopyOption.REPLACE_EXISTING);
+            open();
+        }
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(128);
+        record.writeTo(new DataOutputStream(payload));
+        out.writeInt(FRAME_MAGIC);
+        out.writeInt(payload.size());
+        payload.writeTo(out);
+        bytes += 2L * Integer.BYTES + payload.size();
+        appended.incrementAndGet();
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16));
+        bytes = Files.size(file);
+    }
+
+    private void closeQuietly() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // nothing left to do with a broken stream
+            }
+            out = null;
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.isRegularFile(path) ? Files.size(path) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.requestdto.MatchRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU of ranked candidate id lists, keyed by the normalized request shape and the rules
+ * version it was scored with.
+ *
+ * Two requests share an entry when they use the same strategy, ask for the same skill, mode, level
+ * and 15-minute window, and their learners geocode to the same point. The cursor and page size are not part of the key,
+ * so the first pages of a search are served from one entry. Each entry keeps at most {@code max-ranked}
+ * teach ids with their scores; a page past that re-ranks the search and selects only that page. An
+ * entry is dropped when a mentor of any skill it covers changes. A rules update changes the key, so
+ * old entries are never hit again and age out. Explanations are not cached here; they are attached
+ * per request.
+ */
+@Component
+public class MatchResultCache {
+
+    private final MentorIndex mentorIndex;
+    private final int maxEntries;
+    private final int maxRanked;
+    private final LinkedHashMap<Key, RankedIds> lru;
+
+    // Bumped by every invalidation; a ranking computed across one is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong pastPrefix = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MatchResultCache(MentorIndex mentorIndex,
+            @Value("${matching.result-cache.max-entries:2000}") int maxEntries,
+            @Value("${matching.result-cache.max-ranked:100}") int maxRanked) {
+        this.mentorIndex = mentorIndex;
+        this.maxEntries = maxEntries;
+        this.maxRanked = Math.max(maxRanked, 1);
+        this.lru = new LinkedHashMap<>(Math.min(Math.max(maxEntries, 16), 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, RankedIds> eldest) {
+                if (size() > MatchResultCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the page after {@code after}, from the cached prefix when it holds the whole page. Otherwise
+     * the search is ranked with {@code compute}, its prefix stored on a miss, and only the page selected.
+     */
+    public MatchPage page(Key key, MatchCursor after, int pageSize, Supplier<MatchRanking> compute) {
+        RankedIds cached;
+        synchronized (lru) {
+            cached = lru.get(key);
+        }
+        if (cached != null) {
+            MatchPage page = cached.page(after, pageSize, mentorIndex);
+            if (page != null) {
+                hits.incrementAndGet();
+                return page;
+            }
+            pastPrefix.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        long before = generation.get();
+        MatchRanking computed = compute.get();
+        if (cached == null && maxEntries > 0) {
+            RankedIds ranked = RankedIds.of(computed, maxRanked);
+            synchronized (lru) {
+                if (generation.get() == before) {
+                    lru.put(key, ranked);
+                }
+            }
+        }
+        return computed.page(after, pageSize);
+    }
+
+    @EventListener
+    public void onMentorChanged(MentorChangedEvent event) {
+        long[] skills;
+        if (event.getSkillId() != null) {
+            skills = new long[]{event.getSkillId()};
+        } else if (event.getUserId() != null) {
+            skills = mentorIndex.skillsOf(event.getUserId());
+        } else {
+            skills = null;
+        }
+        synchronized (lru) {
+            generation.incrementAndGet();
+            if (skills == null) {
+                lru.clear();
+            } else if (skills.length > 0) {
+                lru.values().removeIf(r -> r.coversAny(skills));
+            }
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public Map<String, Object> stats() {
+        long hit = hits.get();
+        long miss = misses.get();
+        long past = pastPrefix.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (lru) {
+            stats.put("size", lru.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("maxRanked", maxRanked);
+        stats.put("hits", hit);
+        stats.put("misses", miss);
+        stats.put("pastPrefix", past);
+        stats.put("evictions", evictions.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("hitRate", hit + miss + past == 0 ? 0.0 : (double) hit / (hit + miss + past));
+        return stats;
+    }
+
+    /**
+     * Normalized request shape. Times are reduced to the 15-minute slots the scorer actually uses.
+     */
+    public static final class Key {
+        private final String strategy;
+        private final long skillId;
+        private final int mode;
+        private final int level;
+        private final int day;
+        private final int fromSlot;
+        private final int toSlot;
+        private final long adjacencyGeneration;
+        private final double latitude;
+        private final double longitude;
+        private final long rulesVersion;
+
+        private Key(String strategy, long skillId, int mode, int level, int day, int fromSlot, int toSlot,
+                long adjacencyGeneration, double latitude, double longitude, long rulesVersion) {
+            this.strategy = strategy;
+            this.skillId = skillId;
+            this.mode = mode;
+            this.level = level;
+            this.day = day;
+            this.fromSlot = fromSlot;
+            this.toSlot = toSlot;
+            this.adjacencyGeneration = adjacencyGeneration;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.rulesVersion = rulesVersion;
+        }
+
+        /**
+         * @param adjacencyGeneration the {@link SkillAdjacency} generation when expanding to the
+         *                            cluster, -1 otherwise
+         * @param origin              the learner's location when it affects scoring, else null
+         */
+        public static Key of(MatchRequest request, String strategy, long adjacencyGeneration, GeoPoint origin,
+                long rulesVersion) {
+            int start = MentorEntry.toMinutes(request.getStartTime());
+            int end = MentorEntry.toMinutes(request.getEndTime());
+            boolean window = request.getDayOfWeek() != null && start >= 0 && end > start;
+            return new Key(
+                    strategy,
+                    request.getSkillId(),
+                    request.getPreferredMode() != null ? request.getPreferredMode().ordinal() : -1,
+                    request.getPriorityLevel() != null ? request.getPriorityLevel().ordinal() : -1,
+                    window ? request.getDayOfWeek().ordinal() : -1,
+                    window ? start / AvailabilityBits.SLOT_MINUTES : -1,
+                    window ? (end + AvailabilityBits.SLOT_MINUTES - 1) / AvailabilityBits.SLOT_MINUTES : -1,
+                    adjacencyGeneration,
+                    origin != null ? origin.getLatitude() : Double.NaN,
+                    origin != null ? origin.getLongitude() : Double.NaN,
+                    rulesVersion);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) o;
+            return strategy.equals(k.strategy) && skillId == k.skillId && mode == k.mode && level == k.level
+                    && day == k.day
+                    && fromSlot == k.fromSlot && toSlot == k.toSlot
+                    && adjacencyGeneration == k.adjacencyGeneration
+                    && Double.compare(latitude, k.latitude) == 0 && Double.compare(longitude, k.longitude) == 0
+                    && rulesVersion == k.rulesVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(strategy, skillId, mode, level, day, fromSlot, toSlot, adjacencyGeneration,
+                    latitude, longitude, rulesVersion);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.location.Proximity;
+import com.talent_tandem.model.AdminMatchingRules;
+import com.talent_tandem.requestdto.MatchRequest;
+
+/**
+ * Immutable candidate scorer built from one {@link AdminMatchingRules} version. Instances are the
+ * in-memory rules snapshot held by {@link MatchScoringEngine}.
+ *
+ * A candidate's score is the weighted mean of three components in [0, 1]:
+ * <ul>
+ *   <li>rating - the mentor's average feedback rating out of 5 (unrated mentors get a neutral 3)</li>
+ *   <li>experience - how well proficiency meets the requested level, blended with confidence</li>
+ *   <li>availability - the fraction of the requested window's 15-minute slots the mentor has free</li>
+ * </ul>
+ * A mismatched preferred mode scales the result down. Candidates with no free slot in the requested
+ * window, or whose experience component falls below {@code skillMatchThreshold}, are dropped.
+ *
+ * When location matching is enabled and the learner's position is known, mentors further than
+ * {@code maxMatchingDistance} km are dropped and the rest lose up to {@link #PROXIMITY_SPAN} of their
+ * score linearly with distance. Mentors without a known location are kept at the largest penalty.
+ */
+public final class MatchScorer {
+
+    public static final double DROPPED = -1.0;
+
+    static final double NEUTRAL_RATING = 3.0;
+    static final double MAX_RATING = 5.0;
+    static final double MODE_MISMATCH_FACTOR = 0.85;
+    static final double PROXIMITY_SPAN = 0.2;
+
+    private static final int LEVEL_COUNT = Level.values().length;
+
+    private final double ratingWeight;
+    private final double experienceWeight;
+    private final double availabilityWeight;
+    private final double skillMatchThreshold;
+    private final boolean locationMatching;
+    private final double maxDistanceKm;
+    private final long rulesVersion;
+
+    private MatchScorer(long rulesVersion, double ratingWeight, double experienceWeight,
+            double availabilityWeight, double skillMatchThreshold, boolean locationMatching, double maxDistanceKm) {
+        double total = ratingWeight + experienceWeight + availabilityWeight;
+        if (total <= 0) {
+            ratingWeight = experienceWeight = availabilityWeight = 1.0;
+            total = 3.0;
+        }
+        this.ratingWeight = ratingWeight / total;
+        this.experienceWeight = experienceWeight / total;
+        this.availabilityWeight = availabilityWeight / total;
+        this.skillMatchThreshold = skillMatchThreshold;
+        this.locationMatching = locationMatching;
+        this.maxDistanceKm = maxDistanceKm;
+        this.rulesVersion = rulesVersion;
+    }
+
+    /**
+     * The rules used when no admin has saved any yet.
+     */
+    public static AdminMatchingRules defaultRules() {
+        return AdminMatchingRules.builder()
+                .skillMatchThreshold(0.7)
+                .availabilityMatchWeight(0.3)
+                .ratingWeight(0.4)
+                .experienceWeight(0.3)
+                .maxMatchingDistance(50)
+                .enableLocationMatching(true)
+                .build();
+    }
+
+    public static MatchScorer fromRules(AdminMatchingRules rules) {
+        AdminMatchingRules defaults = defaultRules();
+        return new MatchScorer(
+                rules.getRulesVersion() != null ? rules.getRulesVersion() : 0L,
+                nonNegative(rules.getRatingWeight(), defaults.getRatingWeight()),
+                nonNegative(rules.getExperienceWeight(), defaults.getExperienceWeight()),
+                nonNegative(rules.getAvailabilityMatchWeight(), defaults.getAvailabilityMatchWeight()),
+                nonNegative(rules.getSkillMatchThreshold(), defaults.getSkillMatchThreshold()),
+                Boolean.TRUE.equals(rules.getEnableLocationMatching()),
+                rules.getMaxMatchingDistance() != null && rules.getMaxMatchingDistance() > 0
+                        ? rules.getMaxMatchingDistance() : defaults.getMaxMatchingDistance());
+    }
+
+    /**
+     * Version of the rules this scorer was built from; 0 for the built-in defaults.
+     */
+    public long getRulesVersion() {
+        return rulesVersion;
+    }
+
+    public boolean isLocationMatching() {
+        return locationMatching;
+    }
+
+    public double getMaxDistanceKm() {
+        return maxDistanceKm;
+    }
+
+    /**
+     * Scores every candidate exactly once. Dropped candidates get {@link #DROPPED}.
+     */
+    public double[] score(MentorEntry[] candidates, MatchRequest request) {
+        return score(candidates, request, null);
+    }
+
+    /**
+     * As {@link #score(MentorEntry[], MatchRequest)}, additionally applying the distance rules when
+     * location matching is enabled and {@code proximity} (distances from the learner) is not null.
+     */
+    public double[] score(MentorEntry[] candidates, MatchRequest request, Proximity proximity) {
+        boolean byDistance = locationMatching && proximity != null;
+        int requestedLevel = request.getPriorityLevel() != null ? request.getPriorityLevel().ordinal() : 0;
+        int requestedMode = request.getPreferredMode() != null ? request.getPreferredMode().ordinal() : -1;
+        long[] window = AvailabilityBits.window(request.getDayOfWeek(),
+                MentorEntry.toMinutes(request.getStartTime()), MentorEntry.toMinutes(request.getEndTime()));
+        int windowSlots = window != null ? AvailabilityBits.count(window) : 0;
+
+        double[] scores = new double[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            MentorEntry m = candidates[i];
+
+            double availability = 0.0;
+            if (window != null) {
+                int free = AvailabilityBits.overlap(m.getWeeklySlots(), window);
+                if (free == 0) {
+                    scores[i] = DROPPED;
+                    continue;
+                }
+                availability = (double) free / windowSlots;
+            }
+
+            double experience = experience(m, requestedLevel);
+            if (experience < skillMatchThreshold) {
+                scores[i] = DROPPED;
+                continue;
+            }
+
+            double rating = (m.getRating() > 0 ? m.getRating() : NEUTRAL_RATING) / MAX_RATING;
+
+            double score = ratingWeight * rating + experienceWeight * experience + availabilityWeight * availability;
+            if (requestedMode >= 0 && m.getMode() != requestedMode) {
+                score *= MODE_MISMATCH_FACTOR;
+            }
+            if (byDistance) {
+                double km = proximity.distanceKm(m.getUserId());
+                if (km > maxDistanceKm) {
+                    scores[i] = DROPPED;
+                    continue;
+                }
+                score *= 1.0 - PROXIMITY_SPAN * (Double.isNaN(km) ? 1.0 : km / maxDistanceKm);
+            }
+            scores[i] = score;
+        }
+        return scores;
+    }
+
+    /**
+     * Total ranking order: score descending, then confidence descending, then teachId ascending.
+     */
+    public static int compare(MentorEntry[] candidates, double[] scores, int a, int b) {
+        int byScore = Double.compare(scores[b], scores[a]);
+        if (byScore != 0) {
+            return byScore;
+        }
+        int byConfidence = Integer.compare(candidates[b].getConfidence(), candidates[a].getConfidence());
+        if (byConfidence != 0) {
+            return byConfidence;
+        }
+        return Long.compare(candidates[a].getTeachId(), candidates[b].getTeachId());
+    }
+
+    private static double experience(MentorEntry m, int requestedLevel) {
+        int level = Math.max(m.getLevel(), 0);
+        double levelFit = level >= requestedLevel ? 1.0 : (level + 1.0) / (requestedLevel + 1.0);
+        double seniority = (level + 1.0) / LEVEL_COUNT;
+        double confidence = Math.min(Math.max(m.getConfidence(), 0), 10) / 10.0;
+        return 0.6 * levelFit + 0.1 * seniority + 0.3 * confidence;
+    }
+
+    private static double nonNegative(Double value, double fallback) {
+        return value == null || value < 0 || value.isNaN() ? fallback : value;
+    }
+}
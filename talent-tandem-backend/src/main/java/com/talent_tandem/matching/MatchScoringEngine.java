@@ -0,0 +1,83 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.model.AdminMatchingRules;
+import com.talent_tandem.repository.IAdminMatchingRulesRepository;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the {@link MatchScorer} for the latest saved {@code AdminMatchingRules} as an immutable,
+ * versioned in-memory snapshot, so scoring never queries the rules table.
+ *
+ * The snapshot is swapped atomically after a rules update commits on this node. Other nodes notice
+ * the change by polling the highest {@code rules_version}, a single-row aggregate, and reload only
+ * when it differs from the version they hold.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchScoringEngine {
+
+    private final IAdminMatchingRulesRepository matchingRulesRepository;
+
+    private final AtomicReference<MatchScorer> current = new AtomicReference<>();
+
+    public MatchScorer currentScorer() {
+        MatchScorer scorer = current.get();
+        return scorer != null ? scorer : load();
+    }
+
+    /**
+     * Publishes freshly saved rules once the surrounding transaction commits. An older version never
+     * replaces a newer one.
+     */
+    public void publish(AdminMatchingRules saved) {
+        MatchScorer scorer = MatchScorer.fromRules(saved);
+        TransactionHooks.afterCommit(() -> {
+            MatchScorer previous = current.getAndAccumulate(scorer,
+                    (held, next) -> held == null || next.getRulesVersion() >= held.getRulesVersion() ? next : held);
+            if (previous == null || previous.getRulesVersion() != scorer.getRulesVersion()) {
+                log.info("MATCHING_RULES_SWAPPED - Version: {}", scorer.getRulesVersion());
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        load();
+    }
+
+    /**
+     * Loads the latest rules from the table. Like {@link #publish}, it never replaces a newer snapshot,
+     * e.g. one published while the query ran. Returns the snapshot held afterwards.
+     */
+    private MatchScorer load() {
+        MatchScorer loaded = MatchScorer.fromRules(matchingRulesRepository.findLatestRules()
+                .orElseGet(MatchScorer::defaultRules));
+        MatchScorer scorer = current.accumulateAndGet(loaded,
+                (held, next) -> held == null || next.getRulesVersion() >= held.getRulesVersion() ? next : held);
+        log.info("MATCHING_RULES_LOADED - Version: {}", scorer.getRulesVersion());
+        return scorer;
+    }
+
+    @Scheduled(fixedDelayString = "${matching.rules.poll-ms:5000}")
+    public void pollForChanges() {
+        MatchScorer held = current.get();
+        try {
+            Long latest = matchingRulesRepository.findLatestVersion();
+            long version = latest != null ? latest : 0L;
+            if (held == null || version != held.getRulesVersion()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("MATCHING_RULES_POLL_FAILED - Error: {}", e.getMessage());
+        }
+    }
+}
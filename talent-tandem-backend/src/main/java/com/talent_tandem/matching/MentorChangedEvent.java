@@ -0,0 +1,24 @@
+package com.talent_tandem.matching;
+
+import lombok.Value;
+
+/**
+ * Published by the {@link MentorIndex} once a change to mentor data has been applied.
+ * A null {@code userId} means every mentor of the skill is affected (rename, merge, delete);
+ * a null {@code skillId} means every skill of the mentor is affected (profile, availability, rating).
+ */
+@Value
+public class MentorChangedEvent {
+
+    public enum Kind {
+        TEACH_SKILL,
+        SKILL,
+        PROFILE,
+        AVAILABILITY,
+        RATING
+    }
+
+    Kind kind;
+    Long skillId;
+    Long userId;
+}
@@ -0,0 +1,134 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.enums.PreferedMode;
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.User;
+import com.talent_tandem.model.UserTeachSkill;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Compact, immutable view of one {@link UserTeachSkill} row as held by the {@link MentorIndex}.
+ * Enum values are stored as ordinals and availability as a weekly slot bitset so the matching
+ * hot path never has to touch JPA entities.
+ */
+@Value
+@Builder(toBuilder = true)
+public class MentorEntry {
+
+    private static final Level[] LEVELS = Level.values();
+    private static final PreferedMode[] MODES = PreferedMode.values();
+
+    long teachId;
+    long userId;
+    long skillId;
+
+    byte level;
+    byte mode;
+    int confidence;
+
+    // average feedback rating out of 5, 0 when unrated
+    float rating;
+
+    // weekly 15-minute slot bitset, see AvailabilityBits; shared and never mutated
+    long[] weeklySlots;
+
+    String firstName;
+    String lastName;
+    String username;
+    String profileImage;
+    String city;
+    String skillName;
+
+    public Level proficiencyLevel() {
+        return level < 0 ? null : LEVELS[level];
+    }
+
+    public PreferedMode preferredMode() {
+        return mode < 0 ? null : MODES[mode];
+    }
+
+    /**
+     * First and last name, skipping whichever part is missing; the username when the profile has no name.
+     */
+    public String displayName() {
+        boolean hasFirst = firstName != null && !firstName.isBlank();
+        boolean hasLast = lastName != null && !lastName.isBlank();
+        if (hasFirst && hasLast) {
+            return firstName + " " + lastName;
+        }
+        if (hasFirst || hasLast) {
+            return hasFirst ? firstName : lastName;
+        }
+        return username;
+    }
+
+    public static MentorEntry of(UserTeachSkill t) {
+        User user = t.getUser();
+        return MentorEntry.builder()
+                .teachId(t.getTeachId())
+                .userId(user.getId())
+                .skillId(t.getSkill().getId())
+                .level(t.getProficiencyLevel() != null ? (byte) t.getProficiencyLevel().ordinal() : -1)
+                .mode(t.getPreferredMode() != null ? (byte) t.getPreferredMode().ordinal() : -1)
+                .confidence(t.getConfidenceScore() != null ? t.getConfidenceScore() : 0)
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .username(user.getUsername())
+                .profileImage(user.getProfilePhoto())
+                .city(user.getCity())
+                .skillName(t.getSkill().getName())
+                .weeklySlots(legacySlots(t.getAvailability()))
+                .build();
+    }
+
+    public MentorEntry withUser(User user) {
+        return toBuilder()
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .username(user.getUsername())
+                .profileImage(user.getProfilePhoto())
+                .city(user.getCity())
+                .build();
+    }
+
+    public MentorEntry withRating(float rating) {
+        return rating == this.rating ? this : toBuilder().rating(rating).build();
+    }
+
+    public MentorEntry withWeeklySlots(long[] slots) {
+        return toBuilder().weeklySlots(slots).build();
+    }
+
+    /**
+     * Bitset for a single legacy {@link Availability} row, used until the user has a weekly row.
+     */
+    public static long[] legacySlots(Availability a) {
+        if (a == null || a.getDayOfWeek() == null) {
+            return AvailabilityBits.empty();
+        }
+        short start = toMinutes(a.getStartTime());
+        short end = toMinutes(a.getEndTime());
+        if (start < 0 || end <= start) {
+            return AvailabilityBits.empty();
+        }
+        long[] bits = new long[AvailabilityBits.WORDS];
+        AvailabilityBits.addAvailable(bits, a.getDayOfWeek(), start, end);
+        return bits;
+    }
+
+    public static short toMinutes(String hhmm) {
+        if (hhmm == null) {
+            return -1;
+        }
+        try {
+            int colon = hhmm.indexOf(':');
+            int hours = Integer.parseInt(hhmm.substring(0, colon).trim());
+            int minutes = Integer.parseInt(hhmm.substring(colon + 1).trim());
+            return (short) (hours * 60 + minutes);
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
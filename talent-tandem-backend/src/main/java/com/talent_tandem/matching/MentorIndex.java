@@ -0,0 +1,355 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.model.User;
+import com.talent_tandem.model.UserTeachSkill;
+import com.talent_tandem.repository.IFeedbackRepository;
+import com.talent_tandem.repository.IUserTeachSkillRepository;
+import com.talent_tandem.repository.IWeeklyAvailabilityRepository;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resident skillId -> mentor index used by the matching engine.
+ *
+ * Each skill maps to an immutable {@link MentorEntry} array that is replaced copy-on-write,
+ * so readers get a consistent snapshot without locking. Writes are rare (a mentor adding or
+ * removing a skill) and are applied after the surrounding transaction commits, after which a
+ * {@link MentorChangedEvent} is published so dependent caches can invalidate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MentorIndex {
+
+    private static final MentorEntry[] EMPTY = new MentorEntry[0];
+
+    private final IUserTeachSkillRepository teachSkillRepository;
+    private final IFeedbackRepository feedbackRepository;
+    private final IWeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, MentorEntry[]> bySkill = new ConcurrentHashMap<>();
+    private final Map<Long, Long> skillByTeachId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> skillsByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Float> ratingByUser = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> slotsByUser = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<UserTeachSkill> rows = teachSkillRepository.findAllForIndex();
+        List<Object[]> ratings = feedbackRepository.findAverageRatingPerUser();
+        List<Object[]> weekly = weeklyAvailabilityRepository.findAllSlots();
+
+        bySkill.clear();
+        skillByTeachId.clear();
+        skillsByUser.clear();
+        ratingByUser.clear();
+        slotsByUser.clear();
+        for (Object[] row : weekly) {
+            slotsByUser.put(((Number) row[0]).longValue(), AvailabilityBits.fromBytes((byte[]) row[1]));
+        }
+        for (Object[] row : ratings) {
+            if (row[0] != null && row[1] != null) {
+                ratingByUser.put(((Number) row[0]).longValue(), ((Number) row[1]).floatValue());
+            }
+        }
+        rows.forEach(this::putNow);
+
+        log.info("MENTOR_INDEX_BUILT - Entries: {}, Skills: {}, TookMs: {}",
+                rows.size(), bySkill.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Returns the current mentors for a skill. The array is shared and must not be modified.
+     */
+    public MentorEntry[] candidates(long skillId) {
+        return bySkill.getOrDefault(skillId, EMPTY);
+    }
+
+    /**
+     * {@code exact} followed by the mentors of the {@code related} skills, each mentor once, so the
+     * first {@code exact.length} entries are unchanged.
+     */
+    public MentorEntry[] withRelated(MentorEntry[] exact, long[] related) {
+        if (related.length == 0) {
+            return exact;
+        }
+        List<MentorEntry> all = new ArrayList<>(Arrays.asList(exact));
+        Set<Long> seen = new HashSet<>();
+        for (MentorEntry e : exact) {
+            seen.add(e.getUserId());
+        }
+        for (long relatedSkillId : related) {
+            for (MentorEntry e : candidates(relatedSkillId)) {
+                if (seen.add(e.getUserId())) {
+                    all.add(e);
+                }
+            }
+        }
+        return all.toArray(EMPTY);
+    }
+
+    /**
+     * The current entries for {@code teachIds}, in the same order, null where a teach id is no longer
+     * indexed. Each skill bucket involved is scanned once.
+     */
+    public MentorEntry[] entries(long[] teachIds) {
+        MentorEntry[] found = new MentorEntry[teachIds.length];
+        Map<Long, Map<Long, Integer>> wantedBySkill = new HashMap<>();
+        for (int i = 0; i < teachIds.length; i++) {
+            Long skillId = skillByTeachId.get(teachIds[i]);
+            if (skillId != null) {
+                wantedBySkill.computeIfAbsent(skillId, id -> new HashMap<>()).put(teachIds[i], i);
+            }
+        }
+        wantedBySkill.forEach((skillId, wanted) -> {
+            for (MentorEntry e : candidates(skillId)) {
+                Integer at = wanted.get(e.getTeachId());
+                if (at != null) {
+                    found[at] = e;
+                }
+            }
+        });
+        return found;
+    }
+
+    /**
+     * Returns a user's weekly availability bitset. The array is shared and must not be modified.
+     */
+    public long[] weeklySlots(long userId) {
+        return slotsByUser.getOrDefault(userId, AvailabilityBits.empty());
+    }
+
+    /**
+     * Skills the user currently teaches.
+     */
+    public long[] skillsOf(long userId) {
+        Set<Long> skills = skillsByUser.get(userId);
+        return skills == null ? new long[0] : skills.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Every entry of one mentor, across all the skills they teach.
+     */
+    public List<MentorEntry> entriesOf(long userId) {
+        List<MentorEntry> entries = new ArrayList<>();
+        for (long skillId : skillsOf(userId)) {
+            for (MentorEntry e : candidates(skillId)) {
+                if (e.getUserId() == userId) {
+                    entries.add(e);
+                }
+            }
+        }
+        return entries;
+    }
+
+    public int size() {
+        return skillByTeachId.size();
+    }
+
+    public void put(UserTeachSkill teachSkill) {
+        MentorEntry entry = MentorEntry.of(teachSkill);
+        TransactionHooks.afterCommit(() -> {
+            putNow(entry);
+            publish(MentorChangedEvent.Kind.TEACH_SKILL, entry.getSkillId(), entry.getUserId());
+        });
+    }
+
+    public void remove(long teachId) {
+        TransactionHooks.afterCommit(() -> {
+            MentorEntry removed = removeNow(teachId);
+            if (removed != null) {
+                publish(MentorChangedEvent.Kind.TEACH_SKILL, removed.getSkillId(), removed.getUserId());
+            }
+        });
+    }
+
+    public void mergeSkills(long sourceSkillId, long targetSkillId, String targetSkillName) {
+        TransactionHooks.afterCommit(() -> {
+            MentorEntry[] moved = bySkill.remove(sourceSkillId);
+            if (moved == null) {
+                return;
+            }
+            for (MentorEntry e : moved) {
+                removeNow(e.getTeachId());
+                forgetSkillIfGone(e.getUserId(), sourceSkillId);
+                putNow(e.toBuilder().skillId(targetSkillId).skillName(targetSkillName).build());
+            }
+            publish(MentorChangedEvent.Kind.SKILL, sourceSkillId, null);
+            publish(MentorChangedEvent.Kind.SKILL, targetSkillId, null);
+        });
+    }
+
+    public void renameSkill(long skillId, String name) {
+        TransactionHooks.afterCommit(() -> {
+            bySkill.computeIfPresent(skillId, (id, entries) -> {
+                MentorEntry[] renamed = new MentorEntry[entries.length];
+                for (int i = 0; i < entries.length; i++) {
+                    renamed[i] = entries[i].toBuilder().skillName(name).build();
+                }
+                return renamed;
+            });
+            publish(MentorChangedEvent.Kind.SKILL, skillId, null);
+        });
+    }
+
+    public void removeSkill(long skillId) {
+        TransactionHooks.afterCommit(() -> {
+            MentorEntry[] removed = bySkill.remove(skillId);
+            if (removed != null) {
+                for (MentorEntry e : removed) {
+                    removeNow(e.getTeachId());
+                    forgetSkillIfGone(e.getUserId(), skillId);
+                }
+            }
+            publish(MentorChangedEvent.Kind.SKILL, skillId, null);
+        });
+    }
+
+    public void updateUser(User user) {
+        long userId = user.getId();
+        TransactionHooks.afterCommit(() -> {
+            replaceForUser(userId, e -> e.withUser(user));
+            publish(MentorChangedEvent.Kind.PROFILE, null, userId);
+        });
+    }
+
+    public void updateRating(long userId, double averageRating) {
+        float rating = (float) averageRating;
+        TransactionHooks.afterCommit(() -> {
+            ratingByUser.put(userId, rating);
+            replaceForUser(userId, e -> e.withRating(rating));
+            publish(MentorChangedEvent.Kind.RATING, null, userId);
+        });
+    }
+
+    public void updateAvailability(long userId, long[] weeklySlots) {
+        TransactionHooks.afterCommit(() -> {
+            slotsByUser.put(userId, weeklySlots);
+            replaceForUser(userId, e -> e.withWeeklySlots(weeklySlots));
+            publish(MentorChangedEvent.Kind.AVAILABILITY, null, userId);
+        });
+    }
+
+    private void putNow(UserTeachSkill teachSkill) {
+        putNow(MentorEntry.of(teachSkill));
+    }
+
+    private void putNow(MentorEntry incoming) {
+        Float rating = ratingByUser.get(incoming.getUserId());
+        long[] slots = slotsByUser.get(incoming.getUserId());
+        MentorEntry rated = rating != null ? incoming.withRating(rating) : incoming;
+        MentorEntry entry = slots != null ? rated.withWeeklySlots(slots) : rated;
+        Long previousSkill = skillByTeachId.put(entry.getTeachId(), entry.getSkillId());
+        if (previousSkill != null && previousSkill != entry.getSkillId()) {
+            dropFromBucket(previousSkill, entry.getTeachId());
+        }
+        bySkill.compute(entry.getSkillId(), (id, entries) -> {
+            if (entries == null) {
+                return new MentorEntry[]{entry};
+            }
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].getTeachId() == entry.getTeachId()) {
+                    MentorEntry[] copy = entries.clone();
+                    copy[i] = entry;
+                    return copy;
+                }
+            }
+            MentorEntry[] grown = Arrays.copyOf(entries, entries.length + 1);
+            grown[entries.length] = entry;
+            return grown;
+        });
+        skillsByUser.compute(entry.getUserId(), (id, skills) -> {
+            Set<Long> tracked = skills != null ? skills : ConcurrentHashMap.newKeySet();
+            tracked.add(entry.getSkillId());
+            return tracked;
+        });
+    }
+
+    private MentorEntry removeNow(long teachId) {
+        Long skillId = skillByTeachId.remove(teachId);
+        return skillId != null ? dropFromBucket(skillId, teachId) : null;
+    }
+
+    private MentorEntry dropFromBucket(long skillId, long teachId) {
+        MentorEntry[] dropped = new MentorEntry[1];
+        bySkill.computeIfPresent(skillId, (id, entries) -> {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].getTeachId() == teachId) {
+                    dropped[0] = entries[i];
+                    if (entries.length == 1) {
+                        return null;
+                    }
+                    MentorEntry[] shrunk = new MentorEntry[entries.length - 1];
+                    System.arraycopy(entries, 0, shrunk, 0, i);
+                    System.arraycopy(entries, i + 1, shrunk, i, entries.length - i - 1);
+                    return shrunk;
+                }
+            }
+            return entries;
+        });
+        if (dropped[0] != null) {
+            forgetSkillIfGone(dropped[0].getUserId(), skillId);
+        }
+        return dropped[0];
+    }
+
+    // Takes the skill out of the user's set once none of their entries is left in its bucket
+    private void forgetSkillIfGone(long userId, long skillId) {
+        skillsByUser.computeIfPresent(userId, (id, skills) -> {
+            for (MentorEntry e : candidates(skillId)) {
+                if (e.getUserId() == userId) {
+                    return skills;
+                }
+            }
+            skills.remove(skillId);
+            return skills.isEmpty() ? null : skills;
+        });
+    }
+
+    private void replaceForUser(long userId, UnaryOperator<MentorEntry> change) {
+        Set<Long> skills = skillsByUser.get(userId);
+        if (skills == null) {
+            return;
+        }
+        for (Long skillId : skills) {
+            bySkill.computeIfPresent(skillId, (id, entries) -> {
+                MentorEntry[] copy = null;
+                for (int i = 0; i < entries.length; i++) {
+                    if (entries[i].getUserId() == userId) {
+                        if (copy == null) {
+                            copy = entries.clone();
+                        }
+                        copy[i] = change.apply(entries[i]);
+                    }
+                }
+                return copy != null ? copy : entries;
+            });
+        }
+    }
+
+    private void publish(MentorChangedEvent.Kind kind, Long skillId, Long userId) {
+        try {
+            eventPublisher.publishEvent(new MentorChangedEvent(kind, skillId, userId));
+        } catch (Exception e) {
+            log.error("MENTOR_INDEX_EVENT_FAILED - Kind: {}, SkillID: {}, UserID: {}, Error: {}",
+                    kind, skillId, userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.talent_tandem.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The first ranked candidates of one search as teach ids and scores, the form {@link MatchResultCache}
+ * keeps. Entries are resolved against the {@link MentorIndex} when a page is served, so the size of an
+ * entry is bounded by the prefix length rather than by the skill's population.
+ */
+final class RankedIds {
+
+    private final String strategy;
+    private final long rulesVersion;
+    private final long[] coveredSkills;
+    private final long[] teachIds;
+    private final double[] scores;
+    private final double[] distancesKm;
+    // true when the prefix holds every ranked candidate
+    private final boolean complete;
+
+    private RankedIds(String strategy, long rulesVersion, long[] coveredSkills, long[] teachIds, double[] scores,
+            double[] distancesKm, boolean complete) {
+        this.strategy = strategy;
+        this.rulesVersion = rulesVersion;
+        this.coveredSkills = coveredSkills;
+        this.teachIds = teachIds;
+        this.scores = scores;
+        this.distancesKm = distancesKm;
+        this.complete = complete;
+    }
+
+    /**
+     * The first {@code limit} candidates of the ranking, selected without sorting the rest.
+     */
+    static RankedIds of(MatchRanking ranking, int limit) {
+        int[] order = ranking.top(limit + 1, null);
+        int n = Math.min(order.length, limit);
+        long[] ids = new long[n];
+        double[] scores = new double[n];
+        double[] distances = new double[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = ranking.getCandidates()[order[i]].getTeachId();
+            scores[i] = ranking.getScores()[order[i]];
+            distances[i] = ranking.distanceKm(order[i]);
+        }
+        return new RankedIds(ranking.getStrategy(), ranking.getRulesVersion(), ranking.getCoveredSkills(), ids,
+                scores, distances, order.length <= limit);
+    }
+
+    /**
+     * The page after {@code after}, or null when it reaches past the prefix, the cursor is not on it,
+     * or one of its mentors is no longer indexed.
+     */
+    MatchPage page(MatchCursor after, int pageSize, MentorIndex mentorIndex) {
+        int from = 0;
+        if (after != null) {
+            from = -1;
+            for (int i = 0; i < teachIds.length; i++) {
+                if (after.isAt(teachIds[i], scores[i])) {
+                    from = i + 1;
+                    break;
+                }
+            }
+            if (from < 0) {
+                return null;
+            }
+        }
+        long end = (long) from + pageSize;
+        if (end > teachIds.length && !complete) {
+            return null;
+        }
+        int to = (int) Math.min(end, teachIds.length);
+
+        MentorEntry[] entries = mentorIndex.entries(Arrays.copyOfRange(teachIds, from, to));
+        List<MentorEntry> mentors = new ArrayList<>(entries.length);
+        for (MentorEntry entry : entries) {
+            if (entry == null) {
+                return null;
+            }
+            mentors.add(entry);
+        }
+        return new MatchPage(strategy, rulesVersion, mentors, Arrays.copyOfRange(scores, from, to),
+                Arrays.copyOfRange(distancesKm, from, to), to < teachIds.length || !complete);
+    }
+
+    boolean coversAny(long[] skills) {
+        for (long covered : coveredSkills) {
+            for (long skill : skills) {
+                if (covered == skill) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
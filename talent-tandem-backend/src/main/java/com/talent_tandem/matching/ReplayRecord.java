@@ -0,0 +1,122 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.enums.Day;
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.enums.PreferedMode;
+import com.talent_tandem.requestdto.MatchRequest;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * One served match request as held in the {@link MatchReplayLog}: the request shape, the rules
+ * version and strategy that served it, and the teach ids of the first page in served order.
+ * Enum values are stored as ordinals, -1 when absent.
+ */
+@Value
+@Builder
+public class ReplayRecord {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final Level[] LEVELS = Level.values();
+    private static final PreferedMode[] MODES = PreferedMode.values();
+    private static final Day[] DAYS = Day.values();
+
+    long capturedAt;
+    long skillId;
+    byte mode;
+    byte level;
+    byte day;
+    short startMinute;
+    short endMinute;
+    boolean expandToCluster;
+    // 0 when the request carried no learner
+    long learnerId;
+    long rulesVersion;
+    String strategy;
+    long[] servedTeachIds;
+
+    public static ReplayRecord of(MatchRequest request, MatchPage page, long[] servedTeachIds) {
+        return ReplayRecord.builder()
+                .capturedAt(System.currentTimeMillis())
+                .skillId(request.getSkillId())
+                .mode(request.getPreferredMode() != null ? (byte) request.getPreferredMode().ordinal() : -1)
+                .level(request.getPriorityLevel() != null ? (byte) request.getPriorityLevel().ordinal() : -1)
+                .day(request.getDayOfWeek() != null ? (byte) request.getDayOfWeek().ordinal() : -1)
+                .startMinute(MentorEntry.toMinutes(request.getStartTime()))
+                .endMinute(MentorEntry.toMinutes(request.getEndTime()))
+                .expandToCluster(Boolean.TRUE.equals(request.getExpandToCluster()))
+                .learnerId(request.getLearnerId() != null ? request.getLearnerId() : 0L)
+                .rulesVersion(page.getRulesVersion())
+                .strategy(page.getStrategy())
+                .servedTeachIds(servedTeachIds)
+                .build();
+    }
+
+    /**
+     * The request as it was made, minus paging.
+     */
+    public MatchRequest toRequest() {
+        MatchRequest request = new MatchRequest();
+        request.setSkillId(skillId);
+        request.setPreferredMode(mode >= 0 && mode < MODES.length ? MODES[mode] : null);
+        request.setPriorityLevel(level >= 0 && level < LEVELS.length ? LEVELS[level] : null);
+        request.setDayOfWeek(day >= 0 && day < DAYS.length ? DAYS[day] : null);
+        request.setStartTime(hhmm(startMinute));
+        request.setEndTime(hhmm(endMinute));
+        request.setExpandToCluster(expandToCluster);
+        request.setLearnerId(learnerId != 0 ? learnerId : null);
+        return request;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(FORMAT_VERSION);
+        out.writeLong(capturedAt);
+        out.writeLong(skillId);
+        out.writeByte(mode);
+        out.writeByte(level);
+        out.writeByte(day);
+        out.writeShort(startMinute);
+        out.writeShort(endMinute);
+        out.writeBoolean(expandToCluster);
+        out.writeLong(learnerId);
+        out.writeLong(rulesVersion);
+        out.writeUTF(strategy != null ? strategy : "");
+        out.writeShort(servedTeachIds.length);
+        for (long teachId : servedTeachIds) {
+            out.writeLong(teachId);
+        }
+    }
+
+    static ReplayRecord readFrom(DataInput in) throws IOException {
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported replay record version " + version);
+        }
+        ReplayRecordBuilder b = ReplayRecord.builder()
+                .capturedAt(in.readLong())
+                .skillId(in.readLong())
+                .mode(in.readByte())
+                .level(in.readByte())
+                .day(in.readByte())
+                .startMinute(in.readShort())
+                .endMinute(in.readShort())
+                .expandToCluster(in.readBoolean())
+                .learnerId(in.readLong())
+                .rulesVersion(in.readLong())
+                .strategy(in.readUTF());
+        long[] served = new long[in.readUnsignedShort()];
+        for (int i = 0; i < served.length; i++) {
+            served[i] = in.readLong();
+        }
+        return b.servedTeachIds(served).build();
+    }
+
+    private static String hhmm(short minutes) {
+        return minutes < 0 ? null : String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+}
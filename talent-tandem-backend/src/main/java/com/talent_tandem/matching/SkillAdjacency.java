@@ -0,0 +1,96 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.model.Skill;
+import com.talent_tandem.model.SkillCluster;
+import com.talent_tandem.repository.ISkillClusterRepository;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Precomputed skill -> related skills adjacency derived from {@link SkillCluster} membership.
+ * Two skills are related when they share at least one cluster. The whole map is rebuilt off the
+ * request path whenever clusters or skills change and swapped in atomically, so lookups during
+ * matching never touch the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillAdjacency {
+
+    private static final long[] NONE = new long[0];
+
+    private final ISkillClusterRepository skillClusterRepository;
+
+    private volatile Map<Long, long[]> related = Collections.emptyMap();
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<SkillCluster> clusters = skillClusterRepository.findAllWithSkills();
+
+        Map<Long, TreeSet<Long>> neighbours = new HashMap<>();
+        for (SkillCluster cluster : clusters) {
+            List<Skill> skills = cluster.getSkills();
+            if (skills == null) {
+                continue;
+            }
+            for (Skill a : skills) {
+                for (Skill b : skills) {
+                    if (!a.getId().equals(b.getId())) {
+                        neighbours.computeIfAbsent(a.getId(), id -> new TreeSet<>()).add(b.getId());
+                    }
+                }
+            }
+        }
+
+        Map<Long, long[]> built = new HashMap<>(neighbours.size() * 2);
+        neighbours.forEach((skillId, ids) -> built.put(skillId, ids.stream().mapToLong(Long::longValue).toArray()));
+        related = built;
+        generation.incrementAndGet();
+
+        log.info("SKILL_ADJACENCY_BUILT - Clusters: {}, Skills: {}, TookMs: {}",
+                clusters.size(), built.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Skills sharing a cluster with {@code skillId}, excluding itself, in ascending id order.
+     * The array is shared and must not be modified.
+     */
+    public long[] related(long skillId) {
+        return related.getOrDefault(skillId, NONE);
+    }
+
+    /**
+     * Incremented on every rebuild, so results derived from an older adjacency can be told apart.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Rebuilds once the current transaction has committed, so the new clusters are visible.
+     */
+    public void refresh() {
+        TransactionHooks.afterCommit(this::rebuild);
+    }
+
+    @EventListener
+    public void onMentorChanged(MentorChangedEvent event) {
+        // skills merged, renamed or deleted; cluster mappings may have changed with them
+        if (event.getKind() == MentorChangedEvent.Kind.SKILL) {
+            rebuild();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.talent_tandem.matching;
+
+/**
+ * Bounded-heap top-K selection over scored candidates.
+ *
+ * Keeps at most {@code k} candidate indexes in a heap whose root is the worst kept candidate,
+ * so each remaining candidate costs one comparison against the root and, if better, a
+ * log(k) sift. Only the selected page is sorted. Runs in O(n log k) instead of O(n log n).
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * Returns up to {@code k} candidate indexes in ranking order, skipping dropped candidates and
+     * any at or before {@code after}.
+     */
+    public static int[] select(MentorEntry[] candidates, double[] scores, int k, MatchCursor after) {
+        int[] heap = new int[Math.max(k, 0)];
+        int size = 0;
+
+        for (int i = 0; i < candidates.length; i++) {
+            if (scores[i] == MatchScorer.DROPPED) {
+                continue;
+            }
+            if (after != null && !after.isBefore(candidates[i], scores[i])) {
+                continue;
+            }
+            if (size < k) {
+                heap[size] = i;
+                siftUp(heap, size++, candidates, scores);
+            } else if (k > 0 && MatchScorer.compare(candidates, scores, i, heap[0]) < 0) {
+                heap[0] = i;
+                siftDown(heap, size, candidates, scores);
+            }
+        }
+
+        // Pop worst-first into the tail to leave the page in ranking order
+        int[] page = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            page[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, last, candidates, scores);
+        }
+        return page;
+    }
+
+    private static boolean worse(int a, int b, MentorEntry[] c, double[] s) {
+        return MatchScorer.compare(c, s, a, b) > 0;
+    }
+
+    private static void siftUp(int[] heap, int pos, MentorEntry[] c, double[] s) {
+        int item = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!worse(item, heap[parent], c, s)) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, MentorEntry[] c, double[] s) {
+        if (size == 0) {
+            return;
+        }
+        int item = heap[0];
+        int pos = 0;
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && worse(heap[child + 1], heap[child], c, s)) {
+                child++;
+            }
+            if (!worse(heap[child], item, c, s)) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = item;
+    }
+}
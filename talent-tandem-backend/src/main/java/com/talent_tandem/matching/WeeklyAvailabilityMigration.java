@@ -0,0 +1,59 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.WeeklyAvailability;
+import com.talent_tandem.repository.IAvailabilityRepository;
+import com.talent_tandem.repository.IWeeklyAvailabilityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Copies single-slot {@link Availability} rows into {@code weekly_availability} for users that do not
+ * have a weekly row yet. Runs before the application is ready, so the {@link MentorIndex} rebuild
+ * already sees the migrated bitsets. Idempotent: migrated users are skipped on later starts.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyAvailabilityMigration implements ApplicationRunner {
+
+    private final IAvailabilityRepository availabilityRepository;
+    private final IWeeklyAvailabilityRepository weeklyAvailabilityRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            Set<Long> migrated = new HashSet<>(weeklyAvailabilityRepository.findAllUserIds());
+            List<WeeklyAvailability> rows = new ArrayList<>();
+            for (Availability a : availabilityRepository.findAll()) {
+                if (a.getUser() == null || migrated.contains(a.getUser().getId())) {
+                    continue;
+                }
+                long[] bits = MentorEntry.legacySlots(a);
+                if (AvailabilityBits.count(bits) == 0) {
+                    continue;
+                }
+                rows.add(WeeklyAvailability.builder()
+                        .user(a.getUser())
+                        .slots(AvailabilityBits.toBytes(bits))
+                        .legacySlots(AvailabilityBits.toBytes(bits))
+                        .build());
+                migrated.add(a.getUser().getId());
+            }
+            if (!rows.isEmpty()) {
+                weeklyAvailabilityRepository.saveAll(rows);
+            }
+            log.info("WEEKLY_AVAILABILITY_MIGRATED - Rows: {}", rows.size());
+        } catch (Exception e) {
+            log.error("WEEKLY_AVAILABILITY_MIGRATION_FAILED - Error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.location.GeoGridIndex;
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.matching.strategy.MatchingStrategies;
+import com.talent_tandem.matching.strategy.MatchingStrategy;
+import com.talent_tandem.matching.strategy.WeightedScoreStrategy;
+import com.talent_tandem.model.AdminMatchingRules;
+import com.talent_tandem.requestdto.MatchRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Replays a sample of the {@link MatchReplayLog} against proposed {@link AdminMatchingRules} and reports
+ * how the top of each ranking would move.
+ *
+ * Each sampled request is ranked twice by the strategy that served it, falling back to the
+ * {@link WeightedScoreStrategy} for records that name none: once with the live rules snapshot and once
+ * with the proposed rules. Records naming a strategy that no longer exists are skipped. Both rankings
+ * are computed directly, bypassing the {@link MatchResultCache} and leaving {@link MatchScoringEngine}
+ * untouched, so live serving is unaffected. Requests are split across the {@code replaySimulationPool}.
+ */
+@Slf4j
+@Component
+public class WhatIfSimulator {
+
+    static final int DEFAULT_DEPTH = 20;
+    private static final int THRESHOLD = 32;
+    // upper bounds of the rank-shift histogram buckets; the last bucket is open
+    private static final int[] SHIFT_BUCKETS = {0, 1, 3, 10};
+    private static final String[] SHIFT_LABELS = {"0", "1", "2-3", "4-10", ">10"};
+
+    private final MatchReplayLog replayLog;
+    private final MatchScoringEngine scoringEngine;
+    private final MatchingStrategies strategies;
+    private final GeoGridIndex geoGridIndex;
+    private final ForkJoinPool pool;
+
+    public WhatIfSimulator(MatchReplayLog replayLog, MatchScoringEngine scoringEngine,
+            MatchingStrategies strategies, GeoGridIndex geoGridIndex,
+            @Qualifier("replaySimulationPool") ForkJoinPool pool) {
+        this.replayLog = replayLog;
+        this.scoringEngine = scoringEngine;
+        this.strategies = strategies;
+        this.geoGridIndex = geoGridIndex;
+        this.pool = pool;
+    }
+
+    public Map<String, Object> simulate(AdminMatchingRules proposed, int sampleSize) {
+        long start = System.currentTimeMillis();
+        List<ReplayRecord> sample = replayLog.sample(sampleSize);
+        MatchScorer baseline = scoringEngine.currentScorer();
+        MatchScorer candidate = MatchScorer.fromRules(proposed);
+
+        Stats stats = sample.isEmpty() ? new Stats()
+                : pool.invoke(new ReplayTask(baseline, candidate, sample, 0, sample.size()));
+
+        long tookMs = System.currentTimeMillis() - start;
+        log.info("MATCH_SIMULATION_COMPLETED - Sampled: {}, Replayed: {}, BaselineVersion: {}, TookMs: {}",
+                sample.size(), stats.replayed, baseline.getRulesVersion(), tookMs);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baselineRulesVersion", baseline.getRulesVersion());
+        report.put("sampled", sample.size());
+        report.put("replayed", stats.replayed);
+        report.put("skipped", stats.skipped);
+        report.put("avgOverlapAtK", ratio(stats.overlapSum, stats.replayed));
+        report.put("top1ChangedRate", ratio(stats.top1Changed, stats.replayed));
+        report.put("avgAbsRankShift", ratio(stats.shiftSum, stats.kept));
+        report.put("maxRankShift", stats.maxShift);
+        report.put("droppedRate", ratio(stats.dropped, stats.kept + stats.dropped));
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < SHIFT_LABELS.length; i++) {
+            histogram.put(SHIFT_LABELS[i], stats.histogram[i]);
+        }
+        report.put("rankShiftHistogram", histogram);
+        // how closely today's baseline still reproduces what was served, i.e. how stale the sample is
+        report.put("servedAgreement", ratio(stats.servedOverlapSum, stats.servedCompared));
+        report.put("tookMs", tookMs);
+        report.put("requestsPerSecond", tookMs > 0 ? Math.round(stats.replayed * 1000.0 / tookMs) : stats.replayed);
+        report.put("parallelism", pool.getParallelism());
+        return report;
+    }
+
+    public Map<String, Object> logStats() {
+        return replayLog.stats();
+    }
+
+    private void replay(MatchScorer baseline, MatchScorer candidate, ReplayRecord record, Stats stats) {
+        MatchRequest request = record.toRequest();
+        // an unknown name throws and the record is counted as skipped
+        MatchingStrategy strategy = strategies.resolve(record.getStrategy(), WeightedScoreStrategy.NAME);
+        MatchRanking before = strategy.rank(request, baseline, origin(baseline, request));
+        MatchRanking after = strategy.rank(request, candidate, origin(candidate, request));
+
+        MentorEntry[] baselineOrder = before.sorted();
+        MentorEntry[] proposedOrder = after.sorted();
+
+        long[] served = record.getServedTeachIds();
+        int depth = Math.min(served.length > 0 ? served.length : DEFAULT_DEPTH, baselineOrder.length);
+        if (depth == 0) {
+            stats.skipped++;
+            return;
+        }
+        stats.replayed++;
+
+        Map<Long, Integer> positionAfter = new HashMap<>(proposedOrder.length * 2);
+        for (int i = 0; i < proposedOrder.length; i++) {
+            positionAfter.put(proposedOrder[i].getTeachId(), i);
+        }
+
+        int overlap = 0;
+        for (int i = 0; i < depth; i++) {
+            Integer moved = positionAfter.get(baselineOrder[i].getTeachId());
+            if (moved == null) {
+                stats.dropped++;
+                continue;
+            }
+            if (moved < depth) {
+                overlap++;
+            }
+            int shift = Math.abs(moved - i);
+            stats.kept++;
+            stats.shiftSum += shift;
+            stats.maxShift = Math.max(stats.maxShift, shift);
+            stats.histogram[bucket(shift)]++;
+        }
+        stats.overlapSum += (double) overlap / depth;
+        if (proposedOrder.length == 0 || proposedOrder[0].getTeachId() != baselineOrder[0].getTeachId()) {
+            stats.top1Changed++;
+        }
+
+        if (served.length > 0) {
+            int agreed = 0;
+            for (int i = 0; i < depth; i++) {
+                for (long teachId : served) {
+                    if (baselineOrder[i].getTeachId() == teachId) {
+                        agreed++;
+                        break;
+                    }
+                }
+            }
+            stats.servedOverlapSum += (double) agreed / served.length;
+            stats.servedCompared++;
+        }
+    }
+
+    private GeoPoint origin(MatchScorer scorer, MatchRequest request) {
+        return scorer.isLocationMatching() && request.getLearnerId() != null
+                ? geoGridIndex.location(request.getLearnerId())
+                : null;
+    }
+
+    private static int bucket(int shift) {
+        for (int i = 0; i < SHIFT_BUCKETS.length; i++) {
+            if (shift <= SHIFT_BUCKETS[i]) {
+                return i;
+            }
+        }
+        return SHIFT_BUCKETS.length;
+    }
+
+    private static double ratio(double value, long count) {
+        return count > 0 ? Math.round(value / count * 1000.0) / 1000.0 : 0.0;
+    }
+
+    private final class ReplayTask extends RecursiveTask<Stats> {
+        private final MatchScorer baseline;
+        private final MatchScorer candidate;
+        private final List<ReplayRecord> records;
+        private final int from;
+        private final int to;
+
+        ReplayTask(MatchScorer baseline, MatchScorer candidate, List<ReplayRecord> records, int from, int to) {
+            this.baseline = baseline;
+            this.candidate = candidate;
+            this.records = records;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Stats compute() {
+            if (to - from <= THRESHOLD) {
+                Stats stats = new Stats();
+                for (int i = from; i < to; i++) {
+                    try {
+                        replay(baseline, candidate, records.get(i), stats);
+                    } catch (RuntimeException e) {
+                        stats.skipped++;
+                        log.warn("MATCH_SIMULATION_RECORD_FAILED - SkillID: {}, Error: {}",
+                                records.get(i).getSkillId(), e.getMessage());
+                    }
+                }
+                return stats;
+            }
+            int mid = (from + to) >>> 1;
+            ReplayTask left = new ReplayTask(baseline, candidate, records, from, mid);
+            left.fork();
+            Stats right = new ReplayTask(baseline, candidate, records, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private static final class Stats {
+        long replayed;
+        long skipped;
+        long kept;
+        long dropped;
+        long top1Changed;
+        long shiftSum;
+        int maxShift;
+        double overlapSum;
+        double servedOverlapSum;
+        long servedCompared;
+        final long[] histogram = new long[SHIFT_LABELS.length];
+
+        Stats merge(Stats other) {
+            replayed += other.replayed;
+            skipped += other.skipped;
+            kept += other.kept;
+            dropped += other.dropped;
+            top1Changed += other.top1Changed;
+            shiftSum += other.shiftSum;
+            maxShift = Math.max(maxShift, other.maxShift);
+            overlapSum += other.overlapSum;
+            servedOverlapSum += other.servedOverlapSum;
+            servedCompared += other.servedCompared;
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.talent_tandem.matching.experiment;
+
+import com.talent_tandem.model.ExperimentVariantStats;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters of one variant for the current flush window. Ranking latency is kept in
+ * power-of-two microsecond buckets, so percentiles are upper bounds accurate to a factor of two.
+ */
+final class Counters {
+
+    private static final int LATENCY_BUCKETS = 32;
+
+    final LongAdder searches = new LongAdder();
+    final LongAdder latencyMicros = new LongAdder();
+    final LongAdder bookings = new LongAdder();
+    final LongAdder matchedBookings = new LongAdder();
+    final LongAdder ratingCount = new LongAdder();
+    final LongAdder ratingSum = new LongAdder();
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BUCKETS);
+
+    void search(long micros) {
+        searches.increment();
+        latencyMicros.add(micros);
+        latencyHistogram.incrementAndGet(bucketOf(micros));
+    }
+
+    long percentileMicros(double quantile) {
+        long[] histogram = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = latencyHistogram.get(i);
+        }
+        return percentile(histogram, quantile);
+    }
+
+    /**
+     * Resets the window and returns its totals, or null when nothing happened in it. Updates racing the
+     * reset land in the next window rather than being lost.
+     */
+    ExperimentVariantStats drain(String experiment, String variant, LocalDateTime start, LocalDateTime end) {
+        long[] histogram = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            histogram[i] = latencyHistogram.getAndSet(i, 0);
+        }
+        ExperimentVariantStats row = ExperimentVariantStats.builder()
+                .experiment(experiment)
+                .variant(variant)
+                .windowStart(start)
+                .windowEnd(end)
+                .searches(searches.sumThenReset())
+                .latencyMicrosTotal(latencyMicros.sumThenReset())
+                .latencyP50Micros(percentile(histogram, 0.5))
+                .latencyP95Micros(percentile(histogram, 0.95))
+                .bookings(bookings.sumThenReset())
+                .matchedBookings(matchedBookings.sumThenReset())
+                .ratingCount(ratingCount.sumThenReset())
+                .ratingSum(ratingSum.sumThenReset())
+                .build();
+        boolean empty = row.getSearches() == 0 && row.getBookings() == 0 && row.getRatingCount() == 0;
+        return empty ? null : row;
+    }
+
+    private static int bucketOf(long micros) {
+        return Math.min(LATENCY_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(micros, 0)));
+    }
+
+    private static long percentile(long[] histogram, double quantile) {
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return 1L << i;
+            }
+        }
+        return 1L << (histogram.length - 1);
+    }
+}
@@ -0,0 +1,338 @@
+package com.talent_tandem.matching.experiment;
+
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.strategy.MatchingStrategies;
+import com.talent_tandem.model.ExperimentVariantStats;
+import com.talent_tandem.repository.IExperimentVariantStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A/B experiment over matching strategies.
+ *
+ * Learners are bucketed deterministically by a salted hash of their user id, so a learner sees the same
+ * variant on every search and every instance. Each variant serves searches with its own
+ * {@link com.talent_tandem.matching.strategy.MatchingStrategy}. A served search only bumps the variant's
+ * counters and remembers which mentors the learner was shown. A session the learner books within
+ * {@code attribution-hours} of that search counts as a booking for the variant, and as a matched booking
+ * when the mentor was among those shown. The learner's later feedback rating for that session is
+ * credited to the variant as well.
+ *
+ * Counters cover the current window only and are flushed to {@link ExperimentVariantStats} every
+ * {@code flush-ms}. Rows that fail to save are kept and retried on the next flush, up to
+ * {@link #MAX_UNSAVED_WINDOWS} windows. Exposures and attributed sessions are held in memory and bounded by
+ * {@code max-tracked}, so bookings and ratings following a restart are not attributed.
+ */
+@Slf4j
+@Component
+public class MatchingExperiment {
+
+    static final int BUCKETS = 10_000;
+    // an hour of windows at the default flush interval
+    static final int MAX_UNSAVED_WINDOWS = 60;
+
+    private final IExperimentVariantStatsRepository statsRepository;
+    private final boolean enabled;
+    private final String name;
+    private final Variant[] variants;
+    private final long attributionMillis;
+    private final long feedbackMillis;
+    private final int maxTracked;
+
+    private final Map<Long, Exposure> exposures = new ConcurrentHashMap<>();
+    private final Map<Long, Attribution> sessions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime windowStart = LocalDateTime.now();
+    // drained rows whose save failed, oldest first; guarded by flush()
+    private final List<ExperimentVariantStats> unsaved = new ArrayList<>();
+
+    public MatchingExperiment(IExperimentVariantStatsRepository statsRepository, MatchingStrategies strategies,
+            @Value("${matching.experiment.enabled:false}") boolean enabled,
+            @Value("${matching.experiment.name:matching-strategy}") String name,
+            @Value("${matching.experiment.variants:weighted=100}") String variants,
+            @Value("${matching.experiment.attribution-hours:72}") long attributionHours,
+            @Value("${matching.experiment.feedback-days:30}") long feedbackDays,
+            @Value("${matching.experiment.max-tracked:100000}") int maxTracked) {
+        this.statsRepository = statsRepository;
+        this.enabled = enabled;
+        this.name = name;
+        this.variants = parse(variants, strategies);
+        this.attributionMillis = Duration.ofHours(attributionHours).toMillis();
+        this.feedbackMillis = Duration.ofDays(feedbackDays).toMillis();
+        this.maxTracked = maxTracked;
+        if (enabled) {
+            log.info("MATCHING_EXPERIMENT_ENABLED - Name: {}, Variants: {}", name, variants);
+        }
+    }
+
+    /**
+     * The variant serving this learner, or null when the experiment is off or the search has no learner.
+     */
+    public Variant assign(Long learnerId) {
+        if (!enabled || learnerId == null) {
+            return null;
+        }
+        int bucket = bucket(name, learnerId);
+        for (Variant variant : variants) {
+            if (bucket < variant.upperBucket) {
+                return variant;
+            }
+        }
+        return variants[variants.length - 1];
+    }
+
+    /**
+     * Counts one served first page. Called on the serving path, so it only updates counters.
+     */
+    public void recordSearch(Variant variant, long learnerId, List<MentorEntry> served, long rankingNanos) {
+        variant.counters.search(rankingNanos / 1000);
+        if (exposures.size() < maxTracked || exposures.containsKey(learnerId)) {
+            long[] mentorIds = new long[served.size()];
+            for (int i = 0; i < mentorIds.length; i++) {
+                mentorIds[i] = served.get(i).getUserId();
+            }
+            exposures.put(learnerId, new Exposure(variant.index, mentorIds, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Attributes a booked session to the variant the learner last searched with, if recent enough.
+     */
+    public void recordBooking(Long learnerId, long mentorId, long sessionId) {
+        if (!enabled || learnerId == null) {
+            return;
+        }
+        Exposure exposure = exposures.get(learnerId);
+        long now = System.currentTimeMillis();
+        if (exposure == null || now - exposure.at > attributionMillis) {
+            return;
+        }
+        Variant variant = variants[exposure.variant];
+        variant.counters.bookings.increment();
+        if (exposure.served(mentorId)) {
+            variant.counters.matchedBookings.increment();
+        }
+        if (sessions.size() < maxTracked) {
+            sessions.put(sessionId, new Attribution(exposure.variant, learnerId, now));
+        }
+    }
+
+    /**
+     * Credits the learner's rating of an attributed session to its variant. Ratings from the mentor side
+     * are ignored.
+     */
+    public void recordRating(long sessionId, long fromUserId, int rating) {
+        Attribution attribution = sessions.get(sessionId);
+        if (attribution == null || attribution.learnerId != fromUserId) {
+            return;
+        }
+        if (sessions.remove(sessionId) != null) {
+            Counters counters = variants[attribution.variant].counters;
+            counters.ratingCount.increment();
+            counters.ratingSum.add(rating);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${matching.experiment.flush-ms:60000}")
+    public synchronized void flush() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime start = windowStart;
+        LocalDateTime end = LocalDateTime.now();
+        windowStart = end;
+
+        List<ExperimentVariantStats> rows = new ArrayList<>(unsaved);
+        for (Variant variant : variants) {
+            ExperimentVariantStats row = variant.counters.drain(name, variant.name, start, end);
+            if (row != null) {
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty()) {
+            try {
+                statsRepository.saveAll(rows);
+                unsaved.clear();
+            } catch (Exception e) {
+                // the counters are already drained, so keep the rows and retry them next time
+                rows.forEach(row -> row.setId(null));
+                int limit = MAX_UNSAVED_WINDOWS * variants.length;
+                int discarded = Math.max(0, rows.size() - limit);
+                unsaved.clear();
+                unsaved.addAll(rows.subList(discarded, rows.size()));
+                log.error("MATCHING_EXPERIMENT_FLUSH_FAILED - Name: {}, Rows: {}, Discarded: {}, Error: {}",
+                        name, rows.size(), discarded, e.getMessage());
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        exposures.values().removeIf(e -> now - e.at > attributionMillis);
+        sessions.values().removeIf(a -> now - a.at > feedbackMillis);
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Per-variant totals over every flushed window plus the current one.
+     */
+    public Map<String, Object> report() {
+        Map<String, Object[]> persisted = new HashMap<>();
+        for (Object[] row : statsRepository.summarize(name)) {
+            persisted.put((String) row[0], row);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>(variants.length);
+        int lowerBucket = 0;
+        for (Variant variant : variants) {
+            Object[] p = persisted.get(variant.name);
+            Counters live = variant.counters;
+            long searches = value(p, 1) + live.searches.sum();
+            long latencyMicros = value(p, 2) + live.latencyMicros.sum();
+            long bookings = value(p, 4) + live.bookings.sum();
+            long matched = value(p, 5) + live.matchedBookings.sum();
+            long ratingCount = value(p, 6) + live.ratingCount.sum();
+            long ratingSum = value(p, 7) + live.ratingSum.sum();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("variant", variant.name);
+            row.put("trafficShare", (variant.upperBucket - lowerBucket) / (double) BUCKETS);
+            row.put("searches", searches);
+            row.put("bookings", bookings);
+            row.put("matchedBookings", matched);
+            row.put("bookingRate", rate(bookings, searches));
+            row.put("matchedBookingRate", rate(matched, searches));
+            row.put("ratingCount", ratingCount);
+            row.put("avgRating", ratingCount > 0 ? Math.round(ratingSum * 100.0 / ratingCount) / 100.0 : null);
+            row.put("avgLatencyMs", searches > 0 ? Math.round(latencyMicros / (double) searches) / 1000.0 : null);
+            row.put("worstWindowP95Ms", value(p, 3) / 1000.0);
+            row.put("currentWindowSearches", live.searches.sum());
+            row.put("currentWindowP95Ms", live.percentileMicros(0.95) / 1000.0);
+            rows.add(row);
+            lowerBucket = variant.upperBucket;
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("experiment", name);
+        report.put("enabled", enabled);
+        report.put("windowStart", windowStart.format(DateTimeFormatter.ISO_DATE_TIME));
+        report.put("trackedLearners", exposures.size());
+        report.put("trackedSessions", sessions.size());
+        report.put("variants", rows);
+        return report;
+    }
+
+    static int bucket(String experiment, long userId) {
+        // splitmix64 finalizer over the user id salted with the experiment name
+        long h = userId ^ ((long) experiment.hashCode() << 32);
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h = h ^ (h >>> 31);
+        return (int) Long.remainderUnsigned(h, BUCKETS);
+    }
+
+    private static Variant[] parse(String spec, MatchingStrategies strategies) {
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            String strategy = kv[0].trim();
+            int weight = kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1;
+            if (!strategies.all().containsKey(strategy)) {
+                throw new IllegalStateException("Unknown matching strategy in experiment: " + strategy);
+            }
+            if (weight < 0 || names.contains(strategy)) {
+                throw new IllegalStateException("Invalid experiment variant: " + part.trim());
+            }
+            names.add(strategy);
+            weights.add(weight);
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalStateException("Experiment variant weights must add up to more than 0");
+        }
+        Variant[] variants = new Variant[names.size()];
+        int cumulative = 0;
+        for (int i = 0; i < variants.length; i++) {
+            cumulative += weights.get(i);
+            variants[i] = new Variant(i, names.get(i), (int) ((long) cumulative * BUCKETS / total));
+        }
+        return variants;
+    }
+
+    private static long value(Object[] row, int column) {
+        return row != null && row[column] != null ? ((Number) row[column]).longValue() : 0L;
+    }
+
+    private static double rate(long count, long searches) {
+        return searches > 0 ? Math.round(count * 10000.0 / searches) / 10000.0 : 0.0;
+    }
+
+    /**
+     * One arm of the experiment, named after the strategy that serves it.
+     */
+    public static final class Variant {
+        private final int index;
+        private final String name;
+        private final int upperBucket;
+        private final Counters counters = new Counters();
+
+        Variant(int index, String name, int upperBucket) {
+            this.index = index;
+            this.name = name;
+            this.upperBucket = upperBucket;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static final class Exposure {
+        final int variant;
+        final long[] mentorIds;
+        final long at;
+
+        Exposure(int variant, long[] mentorIds, long at) {
+            this.variant = variant;
+            this.mentorIds = mentorIds;
+            this.at = at;
+        }
+
+        boolean served(long mentorId) {
+            for (long id : mentorIds) {
+                if (id == mentorId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Attribution {
+        final int variant;
+        final long learnerId;
+        final long at;
+
+        Attribution(int variant, long learnerId, long at) {
+            this.variant = variant;
+            this.learnerId = learnerId;
+            this.at = at;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.talent_tandem.matching.strategy;
+
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.matching.MatchRanking;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.SkillAdjacency;
+import com.talent_tandem.requestdto.MatchRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * The SQL-ranked ordering evaluated against the resident {@link MentorIndex} instead of the database.
+ * Every mentor of the skill is kept; none are dropped by rules, availability or distance.
+ */
+@Component
+@RequiredArgsConstructor
+public class InMemoryStrategy implements MatchingStrategy {
+
+    public static final String NAME = "in-memory";
+
+    private final MentorIndex mentorIndex;
+    private final SkillAdjacency skillAdjacency;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MatchRanking rank(MatchRequest request, MatchScorer scorer, GeoPoint origin) {
+        long skillId = request.getSkillId();
+        boolean expand = Boolean.TRUE.equals(request.getExpandToCluster());
+        long[] related = expand ? skillAdjacency.related(skillId) : new long[0];
+        MentorEntry[] exact = mentorIndex.candidates(skillId);
+        MentorEntry[] mentors = mentorIndex.withRelated(exact, related);
+
+        double[] scores = new double[mentors.length];
+        for (int i = 0; i < mentors.length; i++) {
+            scores[i] = MatchingStrategy.tierScore(mentors[i], request)
+                    + (expand && i < exact.length ? EXACT_SKILL_TIER : 0);
+        }
+        return MatchRanking.scored(NAME, scorer.getRulesVersion(), MatchingStrategy.coveredSkills(skillId, related),
+                mentors, scores, null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.talent_tandem.matching.strategy;
+
+import com.talent_tandem.exception.ValidationException;
+import com.talent_tandem.location.GeoGridIndex;
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.matching.MatchCursor;
+import com.talent_tandem.matching.MatchPage;
+import com.talent_tandem.matching.MatchResultCache;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MatchScoringEngine;
+import com.talent_tandem.matching.SkillAdjacency;
+import com.talent_tandem.requestdto.MatchRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Registry of every {@link MatchingStrategy} bean and the single entry point both match endpoints rank
+ * through, so strategy selection and result caching behave the same on each.
+ */
+@Component
+public class MatchingStrategies {
+
+    private final Map<String, MatchingStrategy> byName = new TreeMap<>();
+    private final MatchScoringEngine scoringEngine;
+    private final MatchResultCache resultCache;
+    private final SkillAdjacency skillAdjacency;
+    private final GeoGridIndex geoGridIndex;
+
+    public MatchingStrategies(List<MatchingStrategy> strategies, MatchScoringEngine scoringEngine,
+            MatchResultCache resultCache, SkillAdjacency skillAdjacency, GeoGridIndex geoGridIndex) {
+        for (MatchingStrategy strategy : strategies) {
+            if (byName.put(strategy.getName(), strategy) != null) {
+                throw new IllegalStateException("Duplicate matching strategy: " + strategy.getName());
+            }
+        }
+        this.scoringEngine = scoringEngine;
+        this.resultCache = resultCache;
+        this.skillAdjacency = skillAdjacency;
+        this.geoGridIndex = geoGridIndex;
+    }
+
+    /**
+     * The strategy named in the request, or {@code fallback} when the request names none.
+     */
+    public MatchingStrategy resolve(String requested, String fallback) {
+        String name = requested != null && !requested.isBlank() ? requested.trim() : fallback;
+        MatchingStrategy strategy = byName.get(name);
+        if (strategy == null) {
+            throw new ValidationException("Unknown matching strategy: " + name + ". Available: " + byName.keySet());
+        }
+        return strategy;
+    }
+
+    public Map<String, MatchingStrategy> all() {
+        return Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * The page of the request's ranking after {@code after}, served from the {@link MatchResultCache}
+     * when possible.
+     */
+    public MatchPage page(MatchRequest request, String fallback, MatchCursor after, int pageSize) {
+        MatchingStrategy strategy = resolve(request.getStrategy(), fallback);
+        MatchScorer scorer = scoringEngine.currentScorer();
+        GeoPoint origin = scorer.isLocationMatching() && request.getLearnerId() != null
+                ? geoGridIndex.location(request.getLearnerId())
+                : null;
+        MatchResultCache.Key key = MatchResultCache.Key.of(request, strategy.getName(),
+                Boolean.TRUE.equals(request.getExpandToCluster()) ? skillAdjacency.generation() : -1,
+                origin, scorer.getRulesVersion());
+        return resultCache.page(key, after, pageSize, () -> strategy.rank(request, scorer, origin));
+    }
+}
@@ -0,0 +1,51 @@
+package com.talent_tandem.matching.strategy;
+
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.matching.MatchRanking;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.requestdto.MatchRequest;
+
+import java.util.Arrays;
+
+/**
+ * A way of turning a {@link MatchRequest} into a {@link MatchRanking} of every scored candidate.
+ *
+ * Implementations are Spring beans picked by {@link #getName()}, per request through
+ * {@code MatchRequest.strategy} or by configuration. When {@code expandToCluster} is set, mentors of
+ * the requested skill must rank above every mentor of a related skill; strategies do this by adding
+ * {@link #EXACT_SKILL_TIER} to exact-skill scores, which callers remove before showing a score.
+ */
+public interface MatchingStrategy {
+
+    double EXACT_SKILL_TIER = 1.0;
+
+    String getName();
+
+    /**
+     * @param scorer the current rules snapshot; strategies that do not score by rules still report
+     *               its version
+     * @param origin the learner's location when location rules apply, else null
+     */
+    MatchRanking rank(MatchRequest request, MatchScorer scorer, GeoPoint origin);
+
+    /**
+     * The coarse mode/level fit used by the SQL-ranked ordering, scaled to (0, 1]: 1 when both the
+     * preferred mode and the level match, 2/3 when one does, 1/3 otherwise.
+     */
+    static double tierScore(MentorEntry mentor, MatchRequest request) {
+        int mode = request.getPreferredMode() != null ? request.getPreferredMode().ordinal() : -1;
+        int level = request.getPriorityLevel() != null ? request.getPriorityLevel().ordinal() : 0;
+        int matched = (mode >= 0 && mentor.getMode() == mode ? 1 : 0) + (mentor.getLevel() >= level ? 1 : 0);
+        return (matched + 1) / 3.0;
+    }
+
+    /**
+     * The skills a ranking depends on, for cache invalidation.
+     */
+    static long[] coveredSkills(long skillId, long[] related) {
+        long[] covered = Arrays.copyOf(related, related.length + 1);
+        covered[related.length] = skillId;
+        return covered;
+    }
+}
@@ -0,0 +1,83 @@
+package com.talent_tandem.matching.strategy;
+
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.matching.MatchRanking;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.SkillAdjacency;
+import com.talent_tandem.model.UserTeachSkill;
+import com.talent_tandem.repository.IUserTeachSkillRepository;
+import com.talent_tandem.requestdto.MatchRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lets the database order the mentors with {@link IUserTeachSkillRepository#findRankedMatches}. Scores
+ * are reconstructed from the same mode/level tiers so cursors work like for the other strategies.
+ * Every mentor of the skill is kept; none are dropped by rules, availability or distance.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlRankedStrategy implements MatchingStrategy {
+
+    public static final String NAME = "sql";
+
+    private static final Level[] LEVELS = Level.values();
+
+    private final IUserTeachSkillRepository teachSkillRepository;
+    private final SkillAdjacency skillAdjacency;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MatchRanking rank(MatchRequest request, MatchScorer scorer, GeoPoint origin) {
+        long skillId = request.getSkillId();
+        boolean expand = Boolean.TRUE.equals(request.getExpandToCluster());
+        long[] related = expand ? skillAdjacency.related(skillId) : new long[0];
+
+        List<Long> skillIds = new ArrayList<>(related.length + 1);
+        skillIds.add(skillId);
+        Arrays.stream(related).forEach(skillIds::add);
+
+        List<UserTeachSkill> rows = teachSkillRepository.findRankedMatches(skillId, skillIds,
+                request.getPreferredMode(), levelsAtOrAbove(request.getPriorityLevel()));
+
+        // Rows arrive in final order; a mentor teaching several of the skills keeps the first row
+        List<MentorEntry> mentors = new ArrayList<>(rows.size());
+        Set<Long> seen = new HashSet<>();
+        for (UserTeachSkill row : rows) {
+            if (seen.add(row.getUser().getId())) {
+                mentors.add(MentorEntry.of(row));
+            }
+        }
+
+        int n = mentors.size();
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            MentorEntry m = mentors.get(i);
+            scores[i] = MatchingStrategy.tierScore(m, request)
+                    + (expand && m.getSkillId() == skillId ? EXACT_SKILL_TIER : 0);
+        }
+        return MatchRanking.ordered(NAME, scorer.getRulesVersion(), MatchingStrategy.coveredSkills(skillId, related),
+                mentors.toArray(new MentorEntry[0]), scores);
+    }
+
+    private static Set<Level> levelsAtOrAbove(Level level) {
+        Set<Level> levels = EnumSet.noneOf(Level.class);
+        for (int i = level != null ? level.ordinal() : 0; i < LEVELS.length; i++) {
+            levels.add(LEVELS[i]);
+        }
+        return levels;
+    }
+}
@@ -0,0 +1,57 @@
+package com.talent_tandem.matching.strategy;
+
+import com.talent_tandem.location.GeoGridIndex;
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.location.Proximity;
+import com.talent_tandem.matching.MatchRanking;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.SkillAdjacency;
+import com.talent_tandem.requestdto.MatchRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ranks the resident {@link MentorIndex} candidates by the admin-weighted {@link MatchScorer}: rating,
+ * experience and availability, with mode, threshold, availability and distance rules applied.
+ */
+@Component
+@RequiredArgsConstructor
+public class WeightedScoreStrategy implements MatchingStrategy {
+
+    public static final String NAME = "weighted";
+
+    private final MentorIndex mentorIndex;
+    private final SkillAdjacency skillAdjacency;
+    private final GeoGridIndex geoGridIndex;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MatchRanking rank(MatchRequest request, MatchScorer scorer, GeoPoint origin) {
+        long skillId = request.getSkillId();
+        boolean expand = Boolean.TRUE.equals(request.getExpandToCluster());
+        long[] related = expand ? skillAdjacency.related(skillId) : new long[0];
+        MentorEntry[] exact = mentorIndex.candidates(skillId);
+        MentorEntry[] mentors = mentorIndex.withRelated(exact, related);
+
+        // Distances from the learner's city to every mentor inside the rules' radius
+        Proximity proximity = origin != null ? geoGridIndex.within(origin, scorer.getMaxDistanceKm()) : null;
+
+        // Each candidate is scored exactly once, below-threshold candidates are dropped
+        double[] scores = scorer.score(mentors, request, proximity);
+        if (expand) {
+            for (int i = 0; i < exact.length; i++) {
+                if (scores[i] != MatchScorer.DROPPED) {
+                    scores[i] += EXACT_SKILL_TIER;
+                }
+            }
+        }
+        return MatchRanking.scored(NAME, scorer.getRulesVersion(), MatchingStrategy.coveredSkills(skillId, related),
+                mentors, scores, proximity);
+    }
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "admin_matching_rules")
+@Table(name = "admin_matching_rules",
+        uniqueConstraints = @UniqueConstraint(name = "uk_admin_matching_rules_version", columnNames = "rules_version"))
 public class AdminMatchingRules {
 
     @Id
@@ -41,6 +42,10 @@ public class AdminMatchingRules {
     @Column(name = "custom_rules", columnDefinition = "TEXT")
     private String customRules;
 
+    // Incremented on every save; match responses report the version they were scored with
+    @Column(name = "rules_version")
+    private Long rulesVersion;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,66 @@
+package com.talent_tandem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counters of one matching experiment variant over one flush window. Rows are append-only; totals are
+ * the sum over every window of the experiment.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "experiment_variant_stats",
+        indexes = @Index(name = "idx_experiment_variant_stats_experiment", columnList = "experiment, variant"))
+public class ExperimentVariantStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String experiment;
+
+    @Column(nullable = false, length = 30)
+    private String variant;
+
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+
+    @Column(name = "window_end", nullable = false)
+    private LocalDateTime windowEnd;
+
+    @Column(nullable = false)
+    private Long searches;
+
+    // Ranking time of the searches, summed so averages can be taken across windows
+    @Column(name = "latency_micros_total", nullable = false)
+    private Long latencyMicrosTotal;
+
+    @Column(name = "latency_p50_micros")
+    private Long latencyP50Micros;
+
+    @Column(name = "latency_p95_micros")
+    private Long latencyP95Micros;
+
+    // Sessions booked by exposed learners within the attribution window
+    @Column(nullable = false)
+    private Long bookings;
+
+    // Of those, sessions booked with a mentor the variant had served
+    @Column(name = "matched_bookings", nullable = false)
+    private Long matchedBookings;
+
+    @Column(name = "rating_count", nullable = false)
+    private Long ratingCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+}
@@ -0,0 +1,55 @@
+package com.talent_tandem.model;
+
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.enums.PreferedMode;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "match_explanation_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_match_explanation_key",
+                columnNames = {"mentor_id", "skill_id", "proficiency_level", "preferred_mode", "prompt_version"}),
+        indexes = @Index(name = "idx_match_explanation_mentor", columnList = "mentor_id, prompt_version"))
+public class MatchExplanationCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "mentor_id", nullable = false)
+    private Long mentorId;
+
+    @Column(name = "skill_id", nullable = false)
+    private Long skillId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "proficiency_level")
+    private Level proficiencyLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "preferred_mode")
+    private PreferedMode preferredMode;
+
+    @Column(name = "prompt_version", nullable = false)
+    private Integer promptVersion;
+
+    @Column(name = "explanation", columnDefinition = "TEXT", nullable = false)
+    private String explanation;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,57 @@
+package com.talent_tandem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One learner-to-mentor assignment produced by the bulk assignment job. Names are copied in so the
+ * learner dashboard reads its recommendations with a single indexed lookup and no joins.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "mentor_recommendations",
+        indexes = @Index(name = "idx_mentor_recommendations_learner", columnList = "learner_id"))
+public class MentorRecommendation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "learner_id", nullable = false)
+    private Long learnerId;
+
+    @Column(name = "learn_skill_id", nullable = false)
+    private Long learnSkillId;
+
+    @Column(name = "skill_id", nullable = false)
+    private Long skillId;
+
+    @Column(name = "skill_name", length = 100)
+    private String skillName;
+
+    @Column(name = "mentor_id", nullable = false)
+    private Long mentorId;
+
+    @Column(name = "mentor_name", length = 101)
+    private String mentorName;
+
+    @Column(name = "teach_skill_id", nullable = false)
+    private Long teachSkillId;
+
+    @Column(name = "match_score", nullable = false)
+    private Double matchScore;
+
+    @Column(name = "rules_version")
+    private Long rulesVersion;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+}
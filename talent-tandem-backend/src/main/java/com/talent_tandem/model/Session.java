@@ -40,6 +40,10 @@ public class Session {
     @Enumerated(EnumType.STRING)
     private SessionStatus status;
 
+    // Denormalised from the MENTOR participant so the overlap constraint can be expressed on this table
+    @Column(name = "mentor_id")
+    private Long mentorId;
+
     private LocalDateTime scheduledTime;
     private Integer durationMinutes;
 
@@ -0,0 +1,42 @@
+package com.talent_tandem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "skill_alias",
+        uniqueConstraints = @UniqueConstraint(name = "uk_skill_alias_key", columnNames = "alias_key"))
+public class SkillAlias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // the raw term as first seen, e.g. "ReactJS "
+    @Column(name = "alias", nullable = false, length = 100)
+    private String alias;
+
+    // the raw term after SkillNormalizer.key, e.g. "reactjs"
+    @Column(name = "alias_key", nullable = false, length = 100)
+    private String aliasKey;
+
+    @Column(name = "canonical_name", nullable = false, length = 100)
+    private String canonicalName;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -65,6 +65,13 @@ public class User {
     @Column(name = "city", length = 100)
     private String city;
 
+    // Geocoded from city/country against the bundled gazetteer; null when the city is unknown
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
     @Column(name = "phone_number", length = 50)
     private String phoneNumber;
 
@@ -0,0 +1,49 @@
+package com.talent_tandem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user's weekly availability as a packed bitset of 15-minute slots, see
+ * {@link com.talent_tandem.matching.AvailabilityBits}.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "weekly_availability")
+public class WeeklyAvailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(name = "slots", nullable = false, length = 88)
+    private byte[] slots;
+
+    /**
+     * The slots that only the legacy single-slot row contributed, so moving that slot can clear them
+     * without touching the rest of the week. Null once the week is published through the weekly API.
+     */
+    @Column(name = "legacy_slots", length = 88)
+    private byte[] legacySlots;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
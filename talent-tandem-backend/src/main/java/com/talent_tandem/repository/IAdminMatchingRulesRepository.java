@@ -1,8 +1,10 @@
 package com.talent_tandem.repository;
 
 import com.talent_tandem.model.AdminMatchingRules;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
@@ -17,4 +19,20 @@ public interface IAdminMatchingRulesRepository extends JpaRepository<AdminMatchi
         List<AdminMatchingRules> rules = findLatestRulesOrderByUpdatedAtDesc(Pageable.ofSize(1));
         return rules.isEmpty() ? Optional.empty() : Optional.of(rules.get(0));
     }
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM AdminMatchingRules r ORDER BY r.updatedAt DESC")
+    List<AdminMatchingRules> findLatestRulesForUpdateOrderByUpdatedAtDesc(Pageable pageable);
+
+    /**
+     * The latest rules, locked until the surrounding transaction ends, so concurrent saves take
+     * versions one after the other.
+     */
+    default Optional<AdminMatchingRules> findLatestRulesForUpdate() {
+        List<AdminMatchingRules> rules = findLatestRulesForUpdateOrderByUpdatedAtDesc(Pageable.ofSize(1));
+        return rules.isEmpty() ? Optional.empty() : Optional.of(rules.get(0));
+    }
+
+    @Query("SELECT MAX(r.rulesVersion) FROM AdminMatchingRules r")
+    Long findLatestVersion();
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.talent_tandem.repository;
+
+import com.talent_tandem.model.ExperimentVariantStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface IExperimentVariantStatsRepository extends JpaRepository<ExperimentVariantStats, Long> {
+
+    /**
+     * Per-variant totals of one experiment: variant, searches, latency total, worst window p95,
+     * bookings, matched bookings, rating count, rating sum.
+     */
+    @Query("SELECT s.variant, SUM(s.searches), SUM(s.latencyMicrosTotal), MAX(s.latencyP95Micros), " +
+            "SUM(s.bookings), SUM(s.matchedBookings), SUM(s.ratingCount), SUM(s.ratingSum) " +
+            "FROM ExperimentVariantStats s WHERE s.experiment = :experiment GROUP BY s.variant")
+    List<Object[]> summarize(@Param("experiment") String experiment);
+}
@@ -3,6 +3,7 @@ package com.talent_tandem.repository;
 import com.talent_tandem.model.Feedback;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -19,4 +20,10 @@ public interface IFeedbackRepository extends JpaRepository<Feedback, Long> {
     @Query("SELECT AVG(f.rating) FROM Feedback f")
     Double findAverageRating();
 
+    @Query("SELECT AVG(f.rating) FROM Feedback f WHERE f.toUser.id = :userId")
+    Double findAverageRatingByToUserId(@Param("userId") Long userId);
+
+    @Query("SELECT f.toUser.id, AVG(f.rating) FROM Feedback f GROUP BY f.toUser.id")
+    List<Object[]> findAverageRatingPerUser();
+
 }
@@ -0,0 +1,32 @@
+package com.talent_tandem.repository;
+
+import com.talent_tandem.model.MatchExplanationCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface IMatchExplanationCacheRepository extends JpaRepository<MatchExplanationCacheEntry, Long> {
+
+    List<MatchExplanationCacheEntry> findByPromptVersionInAndMentorIdIn(Collection<Integer> promptVersions,
+            Collection<Long> mentorIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MatchExplanationCacheEntry e WHERE e.mentorId = :mentorId AND e.skillId = :skillId")
+    int deleteByMentorIdAndSkillId(@Param("mentorId") Long mentorId, @Param("skillId") Long skillId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MatchExplanationCacheEntry e WHERE e.mentorId = :mentorId")
+    int deleteByMentorId(@Param("mentorId") Long mentorId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MatchExplanationCacheEntry e WHERE e.skillId = :skillId")
+    int deleteBySkillId(@Param("skillId") Long skillId);
+}
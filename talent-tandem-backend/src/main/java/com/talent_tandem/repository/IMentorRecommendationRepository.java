@@ -0,0 +1,20 @@
+package com.talent_tandem.repository;
+
+import com.talent_tandem.model.MentorRecommendation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface IMentorRecommendationRepository extends JpaRepository<MentorRecommendation, Long> {
+
+    List<MentorRecommendation> findByLearnerIdOrderByMatchScoreDesc(Long learnerId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MentorRecommendation r WHERE r.learnSkillId = :learnSkillId")
+    int deleteByLearnSkillId(@Param("learnSkillId") Long learnSkillId);
+}
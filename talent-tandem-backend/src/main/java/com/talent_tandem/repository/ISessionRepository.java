@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ISessionRepository extends JpaRepository<Session, Long> {
@@ -54,4 +55,10 @@ public interface ISessionRepository extends JpaRepository<Session, Long> {
     List<Session> findAllWithFeedbacks();
 
     long countByStatus(SessionStatus status);
+
+    @Query("SELECT s.sessionId, p.user.id, s.scheduledTime, s.durationMinutes FROM Session s JOIN s.participants p WHERE p.role = 'MENTOR' AND s.status IN :statuses AND s.scheduledTime >= :from")
+    List<Object[]> findMentorBookings(@Param("statuses") Collection<SessionStatus> statuses, @Param("from") LocalDateTime from);
+
+    @Query("SELECT DISTINCT s.sessionId, s.scheduledTime, s.durationMinutes FROM Session s JOIN s.participants p WHERE p.user.id IN :userIds AND s.status IN :statuses AND s.scheduledTime >= :from AND s.scheduledTime < :to")
+    List<Object[]> findBusyIntervals(@Param("userIds") Collection<Long> userIds, @Param("statuses") Collection<SessionStatus> statuses, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
\ No newline at end of file
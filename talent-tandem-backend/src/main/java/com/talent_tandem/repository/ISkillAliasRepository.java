@@ -0,0 +1,11 @@
+package com.talent_tandem.repository;
+
+import com.talent_tandem.model.SkillAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ISkillAliasRepository extends JpaRepository<SkillAlias, Long> {
+
+    Optional<SkillAlias> findByAliasKey(String aliasKey);
+}
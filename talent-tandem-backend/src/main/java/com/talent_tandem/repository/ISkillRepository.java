@@ -9,4 +9,7 @@ public interface ISkillRepository extends JpaRepository<Skill,Long> {
     @Query("SELECT s.name FROM Skill s")
     List<String> getSkillNamesOnly();
 
+    @Query("SELECT s.id, s.name FROM Skill s")
+    List<Object[]> findAllIdsAndNames();
+
 }
@@ -1,9 +1,16 @@
 package com.talent_tandem.repository;
 import com.talent_tandem.model.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface ITagRepository extends JpaRepository<Tag, Long> {
 
     List<Tag> findBySkillId(Long skillId);
+
+    @Query("SELECT t.name FROM Tag t")
+    List<String> getTagNamesOnly();
+
+    @Query("SELECT t.id, t.name, t.skill.id FROM Tag t")
+    List<Object[]> findAllIdsAndNames();
 }
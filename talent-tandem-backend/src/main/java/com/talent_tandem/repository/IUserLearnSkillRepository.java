@@ -2,6 +2,7 @@ package com.talent_tandem.repository;
 
 import com.talent_tandem.model.UserLearnSkill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface IUserLearnSkillRepository extends JpaRepository<UserLearnSkill, Long> {
@@ -12,7 +13,23 @@ public interface IUserLearnSkillRepository extends JpaRepository<UserLearnSkill,
 
     Long countBySkillId(Long skillId);
 
+    @Query("SELECT uls.skill.id, COUNT(uls) FROM UserLearnSkill uls GROUP BY uls.skill.id")
+    List<Object[]> countPerSkill();
+
     Long countByUserId(Long userId);
 
     boolean existsByUserIdAndSkillId(Long userId, Long skillId);
+
+    /**
+     * Learn skills of active learners who have no non-cancelled session for that skill yet.
+     */
+    @Query("SELECT uls FROM UserLearnSkill uls " +
+            "JOIN FETCH uls.user u " +
+            "JOIN FETCH uls.skill s " +
+            "LEFT JOIN FETCH uls.availability " +
+            "WHERE (u.isSuspended IS NULL OR u.isSuspended = false) " +
+            "AND NOT EXISTS (SELECT 1 FROM SessionParticipant p " +
+            "WHERE p.user = u AND p.session.skill = s " +
+            "AND p.session.status <> com.talent_tandem.enums.SessionStatus.CANCELLED)")
+    List<UserLearnSkill> findOpenForAssignment();
 }
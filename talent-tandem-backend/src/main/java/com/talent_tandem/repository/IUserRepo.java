@@ -20,4 +20,9 @@ public interface IUserRepo extends JpaRepository<User, Long> {
     
     @Query("SELECT COUNT(u) FROM User u WHERE u.role = :role")
     long countByRole(@Param("role") Role role);
+
+    @Query("SELECT u.id, u.latitude, u.longitude FROM User u WHERE u.latitude IS NOT NULL AND u.longitude IS NOT NULL")
+    List<Object[]> findAllCoordinates();
+
+    List<User> findByCityIsNotNullAndLatitudeIsNull();
 }
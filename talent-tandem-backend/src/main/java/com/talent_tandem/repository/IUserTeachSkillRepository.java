@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface IUserTeachSkillRepository extends JpaRepository<UserTeachSkill, Long> {
@@ -27,10 +28,45 @@ public interface IUserTeachSkillRepository extends JpaRepository<UserTeachSkill,
                         @Param("mode") PreferedMode mode,
                         @Param("level") Level level);
 
+        /**
+         * Mentors of any of {@code skillIds}, ranked entirely by the database: mentors of {@code skillId}
+         * first, then by how many of mode and level match, then confidence, then teachId.
+         * {@code levels} holds the requested level and every level above it, since proficiency is
+         * stored as a string and cannot be compared with {@code >=}.
+         */
+        @Query("SELECT uts FROM UserTeachSkill uts " +
+                        "JOIN FETCH uts.user " +
+                        "JOIN FETCH uts.skill " +
+                        "LEFT JOIN FETCH uts.availability " +
+                        "WHERE uts.skill.id IN :skillIds " +
+                        "ORDER BY " +
+                        "CASE WHEN uts.skill.id = :skillId THEN 1 ELSE 0 END DESC, " +
+                        "CASE " +
+                        "  WHEN uts.preferredMode = :mode AND uts.proficiencyLevel IN :levels THEN 3 " +
+                        "  WHEN uts.preferredMode = :mode OR uts.proficiencyLevel IN :levels THEN 2 " +
+                        "  ELSE 1 " +
+                        "END DESC, " +
+                        "COALESCE(uts.confidenceScore, 0) DESC, " +
+                        "uts.teachId ASC")
+        List<UserTeachSkill> findRankedMatches(
+                        @Param("skillId") Long skillId,
+                        @Param("skillIds") Collection<Long> skillIds,
+                        @Param("mode") PreferedMode mode,
+                        @Param("levels") Collection<Level> levels);
+
         List<UserTeachSkill> findBySkillId(Long skillId);
 
+        @Query("SELECT uts FROM UserTeachSkill uts " +
+                        "JOIN FETCH uts.user " +
+                        "JOIN FETCH uts.skill " +
+                        "LEFT JOIN FETCH uts.availability")
+        List<UserTeachSkill> findAllForIndex();
+
         Long countBySkillId(Long skillId);
 
+        @Query("SELECT uts.skill.id, COUNT(uts) FROM UserTeachSkill uts GROUP BY uts.skill.id")
+        List<Object[]> countPerSkill();
+
         @Query("SELECT COUNT(uts) FROM UserTeachSkill uts WHERE uts.user.id = :userId")
         Long countByUserId(@Param("userId") Long userId);
 
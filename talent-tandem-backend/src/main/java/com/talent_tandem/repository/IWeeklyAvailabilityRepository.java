@@ -0,0 +1,26 @@
+package com.talent_tandem.repository;
+
+import com.talent_tandem.model.WeeklyAvailability;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IWeeklyAvailabilityRepository extends JpaRepository<WeeklyAvailability, Long> {
+
+    Optional<WeeklyAvailability> findByUserId(Long userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WeeklyAvailability w WHERE w.user.id = :userId")
+    Optional<WeeklyAvailability> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    @Query("SELECT w.user.id, w.slots FROM WeeklyAvailability w")
+    List<Object[]> findAllSlots();
+
+    @Query("SELECT w.user.id FROM WeeklyAvailability w")
+    List<Long> findAllUserIds();
+}
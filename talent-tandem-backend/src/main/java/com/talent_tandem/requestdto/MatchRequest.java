@@ -34,4 +34,22 @@ public class MatchRequest {
     
     @Size(max = 255, message = "Profile image URL must not exceed 255 characters")
     private String profileImage;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 100, message = "Page size must not exceed 100")
+    private Integer pageSize;
+
+    // Opaque token from a previous response's nextCursor; empty for the first page
+    @Size(max = 200, message = "Cursor must not exceed 200 characters")
+    private String cursor;
+
+    // Also consider mentors of skills sharing a cluster with skillId, ranked below exact matches
+    private Boolean expandToCluster;
+
+    // Learner whose geocoded city is the origin for distance rules; location is ignored when absent
+    private Long learnerId;
+
+    // MatchingStrategy name (sql, in-memory, weighted); the endpoint's configured default when absent
+    @Size(max = 30, message = "Strategy must not exceed 30 characters")
+    private String strategy;
 }
@@ -0,0 +1,18 @@
+package com.talent_tandem.requestdto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class WeeklyAvailabilityRequest {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotNull(message = "Slots are required")
+    @Size(max = 672, message = "Too many slots")
+    private List<@Valid AvailabilitySlotRequest> slots;
+}
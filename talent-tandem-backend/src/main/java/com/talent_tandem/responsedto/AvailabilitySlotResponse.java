@@ -0,0 +1,17 @@
+package com.talent_tandem.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilitySlotResponse {
+
+    private String dayOfWeek;
+    private String startTime;
+    private String endTime;
+}
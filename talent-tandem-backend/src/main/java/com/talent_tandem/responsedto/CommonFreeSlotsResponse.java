@@ -0,0 +1,23 @@
+package com.talent_tandem.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommonFreeSlotsResponse {
+
+    private Long mentorId;
+    private Long learnerId;
+    private LocalDate from;
+    private LocalDate to;
+    private Integer durationMinutes;
+    private List<FreeSlotResponse> slots;
+}
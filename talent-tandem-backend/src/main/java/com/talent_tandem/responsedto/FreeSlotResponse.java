@@ -0,0 +1,18 @@
+package com.talent_tandem.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeSlotResponse {
+
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,20 @@
+package com.talent_tandem.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchExplanationEvent {
+
+    // position of the mentor in the "matches" event
+    private Integer rank;
+    private Long mentorId;
+    private Long skillId;
+    private String matchExplanation;
+    private Boolean aiGenerated;
+}
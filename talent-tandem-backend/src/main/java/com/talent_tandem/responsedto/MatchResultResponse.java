@@ -0,0 +1,28 @@
+package com.talent_tandem.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchResultResponse {
+
+    private List<MentorMatchResponse> matches;
+    private Integer aiExplanationCount;
+    private Integer templateExplanationCount;
+    private Integer pageSize;
+    private String nextCursor;
+    private Boolean hasMore;
+    // AdminMatchingRules version the page was scored with
+    private Long rulesVersion;
+    // MatchingStrategy that produced the ranking
+    private String strategy;
+    // Experiment variant the learner is bucketed into; null outside the experiment
+    private String experimentVariant;
+}
@@ -20,6 +20,11 @@ public class MentorMatchResponse {
     private Level proficiencyLevel;
     private Integer confidenceScore;
     private PreferedMode preferredMode;
+    private Double matchScore;
     private String matchExplanation;
+    // true when matched through a related skill in the same cluster
+    private Boolean clusterMatch;
+    // km from the learner's city, null when either location is unknown or location matching is off
+    private Double distanceKm;
 
 }
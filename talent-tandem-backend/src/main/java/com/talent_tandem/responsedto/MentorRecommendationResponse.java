@@ -0,0 +1,17 @@
+package com.talent_tandem.responsedto;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MentorRecommendationResponse {
+
+    private Long learnSkillId;
+    private Long skillId;
+    private String skillName;
+    private Long mentorId;
+    private String mentorName;
+    private Double matchScore;
+    private Long rulesVersion;
+    private String generatedAt;
+}
@@ -0,0 +1,17 @@
+package com.talent_tandem.responsedto;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SemanticMentorResponse {
+
+    private Long mentorId;
+    private String mentorName;
+    private String profileImage;
+    private String city;
+    private Double similarity;
+    private List<String> skills;
+}
@@ -0,0 +1,15 @@
+package com.talent_tandem.responsedto;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class SemanticSearchResponse {
+
+    private String query;
+    private List<SemanticMentorResponse> matches;
+    private Integer indexedMentors;
+    private Long tookMs;
+}
@@ -0,0 +1,15 @@
+package com.talent_tandem.responsedto;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SkillSuggestionResponse {
+
+    private String name;
+    // SKILL, TAG or ALIAS; an alias suggests the name it stands for
+    private String type;
+    private Long skillId;
+    // teachers plus learners of the skill
+    private Long popularity;
+}
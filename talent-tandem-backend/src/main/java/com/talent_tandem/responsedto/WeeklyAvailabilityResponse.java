@@ -0,0 +1,22 @@
+package com.talent_tandem.responsedto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WeeklyAvailabilityResponse {
+
+    private Long userId;
+    private String userName;
+    private int slotMinutes;
+    private int availableSlots;
+    private List<AvailabilitySlotResponse> slots;
+    private String updatedAt;
+}
@@ -0,0 +1,143 @@
+package com.talent_tandem.scheduling;
+
+import com.talent_tandem.enums.Day;
+import com.talent_tandem.matching.AvailabilityBits;
+
+import java.util.Arrays;
+
+/**
+ * Interval arithmetic for finding common free time.
+ *
+ * Interval lists are flat, sorted {@code int[]} arrays of {@code [start, end)} pairs in minutes from
+ * midnight of the first day of the searched range, so a month-long search is a few linear sweeps
+ * over small primitive arrays.
+ */
+public final class FreeSlotFinder {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private FreeSlotFinder() {
+    }
+
+    /**
+     * Expands a weekly availability bitset over {@code days} consecutive days starting on
+     * {@code firstDay}. Runs that continue across midnight are joined.
+     */
+    public static int[] expand(long[] weekly, Day firstDay, int days) {
+        Intervals out = new Intervals(days * 4);
+        for (int d = 0; d < days; d++) {
+            int base = ((firstDay.ordinal() + d) % 7) * AvailabilityBits.SLOTS_PER_DAY;
+            int slot = 0;
+            while (slot < AvailabilityBits.SLOTS_PER_DAY) {
+                if (!AvailabilityBits.isSet(weekly, base + slot)) {
+                    slot++;
+                    continue;
+                }
+                int end = slot;
+                while (end < AvailabilityBits.SLOTS_PER_DAY && AvailabilityBits.isSet(weekly, base + end)) {
+                    end++;
+                }
+                out.add(d * MINUTES_PER_DAY + slot * AvailabilityBits.SLOT_MINUTES,
+                        d * MINUTES_PER_DAY + end * AvailabilityBits.SLOT_MINUTES);
+                slot = end;
+            }
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Sorts and merges possibly overlapping busy intervals. Starts before the range are clamped to 0.
+     */
+    public static int[] merge(int[] starts, int[] ends, int count) {
+        long[] packed = new long[count];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int start = Math.max(starts[i], 0);
+            if (ends[i] > start) {
+                packed[n++] = ((long) start << 32) | ends[i];
+            }
+        }
+        Arrays.sort(packed, 0, n);
+
+        Intervals out = new Intervals(n);
+        for (int i = 0; i < n; i++) {
+            out.add((int) (packed[i] >>> 32), (int) packed[i]);
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Returns {@code free} minus {@code busy}; both must be sorted and disjoint.
+     */
+    public static int[] subtract(int[] free, int[] busy) {
+        Intervals out = new Intervals(free.length / 2 + busy.length / 2);
+        int j = 0;
+        for (int i = 0; i < free.length; i += 2) {
+            int start = free[i];
+            int end = free[i + 1];
+            while (j < busy.length && busy[j + 1] <= start) {
+                j += 2;
+            }
+            for (int k = j; start < end && k < busy.length && busy[k] < end; k += 2) {
+                if (busy[k] > start) {
+                    out.add(start, busy[k]);
+                }
+                start = Math.max(start, busy[k + 1]);
+            }
+            if (start < end) {
+                out.add(start, end);
+            }
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Picks up to {@code limit} back-to-back slot starts of {@code duration} minutes, aligned to the
+     * availability grid and not earlier than {@code notBefore}.
+     */
+    public static int[] earliest(int[] free, int notBefore, int duration, int limit) {
+        int[] starts = new int[limit];
+        int n = 0;
+        for (int i = 0; i < free.length && n < limit; i += 2) {
+            int start = alignUp(Math.max(free[i], notBefore));
+            while (n < limit && start + duration <= free[i + 1]) {
+                starts[n++] = start;
+                start += duration;
+            }
+        }
+        return Arrays.copyOf(starts, n);
+    }
+
+    private static int alignUp(int minute) {
+        int step = AvailabilityBits.SLOT_MINUTES;
+        return minute <= 0 ? 0 : (minute + step - 1) / step * step;
+    }
+
+    /**
+     * Append-only interval buffer that joins touching or overlapping intervals added in start order.
+     */
+    private static final class Intervals {
+        private int[] data;
+        private int size;
+
+        Intervals(int pairs) {
+            data = new int[Math.max(pairs, 4) * 2];
+        }
+
+        void add(int start, int end) {
+            if (size > 0 && start <= data[size - 1]) {
+                data[size - 1] = Math.max(data[size - 1], end);
+                return;
+            }
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = start;
+            data[size++] = end;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
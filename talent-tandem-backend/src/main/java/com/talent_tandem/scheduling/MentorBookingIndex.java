@@ -0,0 +1,345 @@
+package com.talent_tandem.scheduling;
+
+import com.talent_tandem.enums.ParticipantRole;
+import com.talent_tandem.enums.SessionStatus;
+import com.talent_tandem.exception.InvalidTimeSlotException;
+import com.talent_tandem.model.Session;
+import com.talent_tandem.model.SessionParticipant;
+import com.talent_tandem.model.User;
+import com.talent_tandem.repository.ISessionRepository;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resident per-mentor index of the sessions that occupy a mentor's time, so a booking can be checked
+ * for overlap without a query.
+ *
+ * Each mentor maps to an immutable {@link Bookings} snapshot of sorted intervals that is replaced
+ * copy-on-write. Reservations are applied eagerly so concurrent bookings in this instance see each
+ * other, and undone if the surrounding transaction rolls back; releases are applied after commit.
+ * The {@code sessions_mentor_no_overlap} exclusion constraint in the database is the backstop
+ * across instances. Intervals that ended before the lookup horizon are pruned from both maps when
+ * their mentor is next booked and by a periodic sweep.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MentorBookingIndex {
+
+    // Statuses that occupy the mentor's time; must match the WHERE clause of sessions_mentor_no_overlap
+    public static final Set<SessionStatus> BLOCKING_STATUSES =
+            EnumSet.of(SessionStatus.REQUESTED, SessionStatus.ACCEPTED, SessionStatus.LIVE, SessionStatus.IN_PROGRESS);
+
+    // Longest bookable session (SessionRequest caps durationMinutes at this), so a lookup starting this
+    // far before a range catches every session that runs into it
+    public static final int MAX_SESSION_MINUTES = 180;
+
+    private final ISessionRepository sessionRepository;
+
+    private final Map<Long, Bookings> byMentor = new ConcurrentHashMap<>();
+    private final Map<Long, Long> mentorBySession = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Object[]> rows = sessionRepository.findMentorBookings(BLOCKING_STATUSES,
+                LocalDateTime.now().minusMinutes(MAX_SESSION_MINUTES));
+
+        byMentor.clear();
+        mentorBySession.clear();
+        int conflicts = 0;
+        for (Object[] row : rows) {
+            LocalDateTime scheduled = (LocalDateTime) row[2];
+            Integer duration = (Integer) row[3];
+            if (scheduled == null || duration == null) {
+                continue;
+            }
+            if (!reserveNow(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), scheduled, duration, true)) {
+                conflicts++;
+            }
+        }
+
+        log.info("MENTOR_BOOKING_INDEX_BUILT - Sessions: {}, Mentors: {}, PreexistingOverlaps: {}, TookMs: {}",
+                mentorBySession.size(), byMentor.size(), conflicts, System.currentTimeMillis() - start);
+    }
+
+    public boolean overlaps(long mentorId, LocalDateTime start, int durationMinutes) {
+        long from = epochMinutes(start);
+        return byMentor.getOrDefault(mentorId, Bookings.EMPTY).overlaps(from, from + durationMinutes, -1);
+    }
+
+    /**
+     * Reserves the session's time for its mentor, or throws {@link InvalidTimeSlotException} when it
+     * overlaps another active session. The reservation is dropped again if the transaction rolls back.
+     */
+    public void reserve(long sessionId, long mentorId, LocalDateTime start, int durationMinutes) {
+        if (!reserveNow(sessionId, mentorId, start, durationMinutes, false)) {
+            throw new InvalidTimeSlotException("Mentor already has a session overlapping the requested time");
+        }
+        onRollback(() -> releaseNow(sessionId));
+    }
+
+    public void release(long sessionId) {
+        TransactionHooks.afterCommit(() -> releaseNow(sessionId));
+    }
+
+    /**
+     * Drops every interval that ended before the horizon, for mentors that are not booked again.
+     */
+    @Scheduled(fixedDelayString = "${scheduling.booking-index.prune-ms:600000}")
+    public void pruneExpired() {
+        long horizon = horizon();
+        for (Long mentorId : byMentor.keySet()) {
+            List<Long> pruned = new ArrayList<>();
+            byMentor.computeIfPresent(mentorId, (id, bookings) -> {
+                Bookings kept = bookings.endingAfter(horizon, pruned);
+                return kept.size() == 0 ? null : kept;
+            });
+            forget(mentorId, pruned);
+        }
+    }
+
+    /**
+     * Brings the index in line with a session after a status transition.
+     */
+    public void sync(Session session) {
+        if (session.getStatus() == null || !BLOCKING_STATUSES.contains(session.getStatus())) {
+            release(session.getSessionId());
+            return;
+        }
+        if (mentorBySession.containsKey(session.getSessionId())) {
+            return;
+        }
+        Long mentorId = mentorOf(session);
+        if (mentorId != null && session.getScheduledTime() != null && session.getDurationMinutes() != null) {
+            reserve(session.getSessionId(), mentorId, session.getScheduledTime(), session.getDurationMinutes());
+        }
+    }
+
+    // Adds the interval when it is free (or always, when forced) and reports whether it was free
+    private boolean reserveNow(long sessionId, long mentorId, LocalDateTime start, int durationMinutes, boolean force) {
+        long from = epochMinutes(start);
+        long to = from + durationMinutes;
+        long horizon = horizon();
+        boolean[] free = new boolean[1];
+        List<Long> pruned = new ArrayList<>();
+        byMentor.compute(mentorId, (id, bookings) -> {
+            Bookings current = bookings != null ? bookings : Bookings.EMPTY;
+            free[0] = !current.overlaps(from, to, sessionId);
+            if (!free[0] && !force) {
+                return bookings;
+            }
+            return current.with(sessionId, from, to, horizon, pruned);
+        });
+        if (free[0] || force) {
+            mentorBySession.put(sessionId, mentorId);
+        }
+        forget(mentorId, pruned);
+        return free[0];
+    }
+
+    // Removes pruned sessions from the session map, unless they have since moved to another mentor
+    private void forget(long mentorId, List<Long> pruned) {
+        for (Long sessionId : pruned) {
+            mentorBySession.remove(sessionId, mentorId);
+        }
+    }
+
+    private void releaseNow(long sessionId) {
+        Long mentorId = mentorBySession.remove(sessionId);
+        if (mentorId != null) {
+            byMentor.computeIfPresent(mentorId, (id, bookings) -> {
+                Bookings remaining = bookings.without(sessionId);
+                return remaining.size() == 0 ? null : remaining;
+            });
+        }
+    }
+
+    private static Long mentorOf(Session session) {
+        if (session.getMentorId() != null) {
+            return session.getMentorId();
+        }
+        if (session.getParticipants() == null) {
+            return null;
+        }
+        return session.getParticipants().stream()
+                .filter(p -> p.getRole() == ParticipantRole.MENTOR && p.getUser() != null)
+                .map(SessionParticipant::getUser)
+                .map(User::getId)
+                .findFirst()
+                .orElse(null);
+    }
+
+    // Intervals ending before this can no longer overlap any lookup
+    private static long horizon() {
+        return epochMinutes(LocalDateTime.now()) - MAX_SESSION_MINUTES;
+    }
+
+    private static long epochMinutes(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Immutable, start-sorted intervals of one mentor. {@code maxEnds[i]} is the latest end among
+     * the first {@code i + 1} intervals, which bounds the backward scan in {@link #overlaps}.
+     */
+    static final class Bookings {
+
+        static final Bookings EMPTY = new Bookings(new long[0], new long[0], new long[0]);
+
+        private final long[] sessionIds;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+
+        private Bookings(long[] sessionIds, long[] starts, long[] ends) {
+            this.sessionIds = sessionIds;
+            this.starts = starts;
+            this.ends = ends;
+            this.maxEnds = new long[ends.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        int size() {
+            return starts.length;
+        }
+
+        boolean overlaps(long from, long to, long ignoredSessionId) {
+            // last interval starting before the requested end
+            int i = upperBound(starts, to - 1) - 1;
+            for (; i >= 0 && maxEnds[i] > from; i--) {
+                if (ends[i] > from && sessionIds[i] != ignoredSessionId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * A copy with the session's interval set, dropping intervals that ended before {@code horizon};
+         * their session ids are added to {@code pruned}.
+         */
+        Bookings with(long sessionId, long from, long to, long horizon, List<Long> pruned) {
+            int n = starts.length;
+            long[] ids = new long[n + 1];
+            long[] s = new long[n + 1];
+            long[] e = new long[n + 1];
+            int k = 0;
+            boolean inserted = false;
+            for (int i = 0; i < n; i++) {
+                if (sessionIds[i] == sessionId) {
+                    continue;
+                }
+                if (ends[i] < horizon) {
+                    pruned.add(sessionIds[i]);
+                    continue;
+                }
+                if (!inserted && starts[i] > from) {
+                    ids[k] = sessionId;
+                    s[k] = from;
+                    e[k++] = to;
+                    inserted = true;
+                }
+                ids[k] = sessionIds[i];
+                s[k] = starts[i];
+                e[k++] = ends[i];
+            }
+            if (!inserted) {
+                ids[k] = sessionId;
+                s[k] = from;
+                e[k++] = to;
+            }
+            return new Bookings(Arrays.copyOf(ids, k), Arrays.copyOf(s, k), Arrays.copyOf(e, k));
+        }
+
+        /**
+         * The intervals that end at or after {@code horizon}; the session ids of the others are added
+         * to {@code pruned}.
+         */
+        Bookings endingAfter(long horizon, List<Long> pruned) {
+            int n = starts.length;
+            long[] ids = new long[n];
+            long[] s = new long[n];
+            long[] e = new long[n];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                if (ends[i] < horizon) {
+                    pruned.add(sessionIds[i]);
+                    continue;
+                }
+                ids[k] = sessionIds[i];
+                s[k] = starts[i];
+                e[k++] = ends[i];
+            }
+            return k == n ? this : new Bookings(Arrays.copyOf(ids, k), Arrays.copyOf(s, k), Arrays.copyOf(e, k));
+        }
+
+        Bookings without(long sessionId) {
+            int n = starts.length;
+            for (int i = 0; i < n; i++) {
+                if (sessionIds[i] == sessionId) {
+                    long[] ids = new long[n - 1];
+                    long[] s = new long[n - 1];
+                    long[] e = new long[n - 1];
+                    System.arraycopy(sessionIds, 0, ids, 0, i);
+                    System.arraycopy(sessionIds, i + 1, ids, i, n - i - 1);
+                    System.arraycopy(starts, 0, s, 0, i);
+                    System.arraycopy(starts, i + 1, s, i, n - i - 1);
+                    System.arraycopy(ends, 0, e, 0, i);
+                    System.arraycopy(ends, i + 1, e, i, n - i - 1);
+                    return new Bookings(ids, s, e);
+                }
+            }
+            return this;
+        }
+
+        // number of elements <= key
+        private static int upperBound(long[] sorted, long key) {
+            int lo = 0;
+            int hi = sorted.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] <= key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,604 @@
+package com.talent_tandem.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hierarchical navigable small world graph over unit vectors, searched by inner product (cosine).
+ *
+ * Each vector is stored under a caller-chosen {@code long} key with a fingerprint of the content it
+ * was embedded from, so a persisted graph can tell which keys are stale. Nodes are never unlinked:
+ * replacing or removing a key tombstones its node, which is still traversed but never returned, and
+ * {@link #compact()} rebuilds without tombstones. Inserts take the write lock; searches share the
+ * read lock.
+ */
+final class HnswGraph {
+
+    private static final int MAGIC = 0x54544857;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 9 * Integer.BYTES + Long.BYTES;
+
+    private final int dimensions;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<Visited> visited = ThreadLocal.withInitial(Visited::new);
+
+    private final Map<Long, Integer> nodeByKey = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private float[] vectors;
+    private long[] keys;
+    private long[] fingerprints;
+    // links[node][level] = {count, neighbour...}
+    private int[][][] links;
+    private int size;
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    HnswGraph(int dimensions, int m, int efConstruction) {
+        this.dimensions = dimensions;
+        this.m = m;
+        this.maxM0 = 2 * m;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1.0 / Math.log(m);
+        grow(1024);
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Number of live keys.
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of tombstoned nodes still held in the graph.
+     */
+    int tombstones() {
+        lock.readLock().lock();
+        try {
+            return size - nodeByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Content fingerprint stored with {@code key}, or null when the key is absent.
+     */
+    Long fingerprint(long key) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodeByKey.get(key);
+            return node != null ? fingerprints[node] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long[] keys() {
+        lock.readLock().lock();
+        try {
+            return nodeByKey.keySet().stream().mapToLong(Long::longValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces the vector for {@code key}. The vector is copied and normalized.
+     */
+    void put(long key, long fingerprint, float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected " + dimensions + " dimensions, got " + vector.length);
+        }
+        float[] unit = vector.clone();
+        HashingEmbeddingModel.normalize(unit);
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = nodeByKey.get(key);
+            if (previous != null) {
+                deleted.set(previous);
+            }
+            int node = size;
+            if (node == keys.length) {
+                grow(keys.length * 2);
+            }
+            System.arraycopy(unit, 0, vectors, node * dimensions, dimensions);
+            keys[node] = key;
+            fingerprints[node] = fingerprint;
+            int level = randomLevel();
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[(l == 0 ? maxM0 : m) + 1];
+            }
+            size++;
+            nodeByKey.put(key, node);
+            link(node, level);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeByKey.remove(key);
+            if (node != null) {
+                deleted.set(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code k} live keys most similar to {@code query}, best first. {@code ef} is the search
+     * beam width; it is widened when tombstones leave fewer than {@code k} results.
+     */
+    List<VectorHit> search(float[] query, int k, int ef) {
+        float[] unit = query.clone();
+        HashingEmbeddingModel.normalize(unit);
+
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int ep = entryPoint;
+            for (int l = maxLevel; l > 0; l--) {
+                ep = greedy(unit, ep, l);
+            }
+            int beam = Math.max(ef, k);
+            int wanted = Math.min(k, nodeByKey.size());
+            while (true) {
+                NodeHeap found = searchLayer(unit, ep, beam, 0);
+                found.drainBestFirst();
+                List<VectorHit> hits = new ArrayList<>(Math.min(k, found.size));
+                for (int i = 0; i < found.size && hits.size() < k; i++) {
+                    int node = found.nodes[i];
+                    if (!deleted.get(node)) {
+                        hits.add(new VectorHit(keys[node], found.scores[i]));
+                    }
+                }
+                if (hits.size() >= wanted || beam >= size) {
+                    return hits;
+                }
+                beam = Math.min(beam * 2, size);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A new graph holding only the live keys.
+     */
+    HnswGraph compact() {
+        lock.readLock().lock();
+        try {
+            HnswGraph compacted = new HnswGraph(dimensions, m, efConstruction);
+            float[] vector = new float[dimensions];
+            for (int node = 0; node < size; node++) {
+                if (!deleted.get(node)) {
+                    System.arraycopy(vectors, node * dimensions, vector, 0, dimensions);
+                    compacted.put(keys[node], fingerprints[node], vector);
+                }
+            }
+            return compacted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the graph to {@code path} through a memory-mapped temporary file that then replaces it.
+     * {@code modelFingerprint} identifies the embedding model the vectors came from.
+     */
+    void writeTo(Path path, long modelFingerprint) throws IOException {
+        lock.readLock().lock();
+        try {
+            long bytes = HEADER_BYTES;
+            for (int node = 0; node < size; node++) {
+                bytes += 2L * Long.BYTES + 1 + (long) dimensions * Float.BYTES + Integer.BYTES;
+                for (int[] level : links[node]) {
+                    bytes += (long) (level[0] + 1) * Integer.BYTES;
+                }
+            }
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (MappedFile out = MappedFile.create(tmp, bytes)) {
+                out.putInt(MAGIC);
+                out.putInt(FORMAT_VERSION);
+                out.putInt(dimensions);
+                out.putInt(m);
+                out.putInt(efConstruction);
+                out.putInt(size);
+                out.putInt(entryPoint);
+                out.putInt(maxLevel);
+                out.putInt(0);
+                out.putLong(modelFingerprint);
+                for (int node = 0; node < size; node++) {
+                    out.putLong(keys[node]);
+                    out.putLong(fingerprints[node]);
+                    out.putByte((byte) (deleted.get(node) ? 1 : 0));
+                    int base = node * dimensions;
+                    for (int d = 0; d < dimensions; d++) {
+                        out.putFloat(vectors[base + d]);
+                    }
+                    out.putInt(links[node].length);
+                    for (int[] level : links[node]) {
+                        out.putInt(level[0]);
+                        for (int i = 1; i <= level[0]; i++) {
+                            out.putInt(level[i]);
+                        }
+                    }
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads a graph written by {@link #writeTo}, or returns null when the file is missing or was built
+     * with a different model, dimension count or format.
+     */
+    static HnswGraph readFrom(Path path, long modelFingerprint, int dimensions) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (MappedFile in = MappedFile.open(path)) {
+            if (in.length() < HEADER_BYTES || in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION
+                    || in.getInt() != dimensions) {
+                return null;
+            }
+            int m = in.getInt();
+            int efConstruction = in.getInt();
+            int size = in.getInt();
+            int entryPoint = in.getInt();
+            int maxLevel = in.getInt();
+            in.getInt();
+            if (in.getLong() != modelFingerprint) {
+                return null;
+            }
+
+            HnswGraph graph = new HnswGraph(dimensions, m, efConstruction);
+            graph.grow(Math.max(size, 1024));
+            for (int node = 0; node < size; node++) {
+                graph.keys[node] = in.getLong();
+                graph.fingerprints[node] = in.getLong();
+                boolean tombstone = in.getByte() != 0;
+                int base = node * dimensions;
+                for (int d = 0; d < dimensions; d++) {
+                    graph.vectors[base + d] = in.getFloat();
+                }
+                int levels = in.getInt();
+                graph.links[node] = new int[levels][];
+                for (int l = 0; l < levels; l++) {
+                    int count = in.getInt();
+                    int[] level = new int[(l == 0 ? graph.maxM0 : graph.m) + 1];
+                    level[0] = count;
+                    for (int i = 1; i <= count; i++) {
+                        level[i] = in.getInt();
+                    }
+                    graph.links[node][l] = level;
+                }
+                if (tombstone) {
+                    graph.deleted.set(node);
+                } else {
+                    graph.nodeByKey.put(graph.keys[node], node);
+                }
+            }
+            graph.size = size;
+            graph.entryPoint = entryPoint;
+            graph.maxLevel = maxLevel;
+            return graph;
+        }
+    }
+
+    private void link(int node, int level) {
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+        float[] q = Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedy(q, ep, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            NodeHeap candidates = searchLayer(q, ep, efConstruction, l);
+            candidates.drainBestFirst();
+            int[] chosen = selectNeighbours(candidates, l == 0 ? maxM0 : m);
+            int[] own = links[node][l];
+            for (int neighbour : chosen) {
+                own[++own[0]] = neighbour;
+                connect(neighbour, node, l);
+            }
+            ep = candidates.nodes[0];
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    // Adds node to neighbour's list at level, pruning the list with the same heuristic when it is full
+    private void connect(int neighbour, int node, int level) {
+        int[] list = links[neighbour][level];
+        int capacity = list.length - 1;
+        if (list[0] < capacity) {
+            list[++list[0]] = node;
+            return;
+        }
+        NodeHeap candidates = new NodeHeap(capacity + 1, false);
+        int base = neighbour * dimensions;
+        for (int i = 1; i <= list[0]; i++) {
+            candidates.push(list[i], dot(vectors, base, list[i] * dimensions));
+        }
+        candidates.push(node, dot(vectors, base, node * dimensions));
+        candidates.drainBestFirst();
+        int[] chosen = selectNeighbours(candidates, capacity);
+        list[0] = chosen.length;
+        System.arraycopy(chosen, 0, list, 1, chosen.length);
+    }
+
+    /**
+     * Neighbour selection heuristic from the HNSW paper: a candidate is kept only if it is closer to
+     * the base than to every neighbour already kept, which keeps links spread across directions.
+     * Remaining slots are then filled with the closest skipped candidates.
+     */
+    private int[] selectNeighbours(NodeHeap bestFirst, int max) {
+        int[] chosen = new int[Math.min(max, bestFirst.size)];
+        int count = 0;
+        boolean[] taken = new boolean[bestFirst.size];
+        for (int i = 0; i < bestFirst.size && count < chosen.length; i++) {
+            int c = bestFirst.nodes[i];
+            float toBase = bestFirst.scores[i];
+            boolean diverse = true;
+            for (int j = 0; j < count; j++) {
+                if (dot(vectors, c * dimensions, chosen[j] * dimensions) > toBase) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                chosen[count++] = c;
+                taken[i] = true;
+            }
+        }
+        for (int i = 0; i < bestFirst.size && count < chosen.length; i++) {
+            if (!taken[i]) {
+                chosen[count++] = bestFirst.nodes[i];
+            }
+        }
+        return chosen;
+    }
+
+    private int greedy(float[] q, int ep, int level) {
+        int current = ep;
+        float best = dot(q, vectors, current * dimensions);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] list = links[current][level];
+            for (int i = 1; i <= list[0]; i++) {
+                float score = dot(q, vectors, list[i] * dimensions);
+                if (score > best) {
+                    best = score;
+                    current = list[i];
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    private NodeHeap searchLayer(float[] q, int ep, int ef, int level) {
+        Visited seen = visited.get();
+        seen.reset(size);
+        NodeHeap frontier = new NodeHeap(ef + 1, true);
+        NodeHeap results = new NodeHeap(ef + 1, false);
+
+        float epScore = dot(q, vectors, ep * dimensions);
+        seen.mark(ep);
+        frontier.push(ep, epScore);
+        results.push(ep, epScore);
+
+        while (frontier.size > 0) {
+            float score = frontier.topScore();
+            int node = frontier.pop();
+            if (results.size >= ef && score < results.topScore()) {
+                break;
+            }
+            if (level >= links[node].length) {
+                continue;
+            }
+            int[] list = links[node][level];
+            for (int i = 1; i <= list[0]; i++) {
+                int next = list[i];
+                if (!seen.mark(next)) {
+                    continue;
+                }
+                float s = dot(q, vectors, next * dimensions);
+                if (results.size < ef || s > results.topScore()) {
+                    frontier.push(next, s);
+                    results.push(next, s);
+                    if (results.size > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    private int randomLevel() {
+        double u = 1.0 - random.nextDouble();
+        return (int) Math.min(Math.floor(-Math.log(u) * levelMultiplier), 16);
+    }
+
+    private void grow(int capacity) {
+        vectors = vectors == null ? new float[capacity * dimensions] : Arrays.copyOf(vectors, capacity * dimensions);
+        keys = keys == null ? new long[capacity] : Arrays.copyOf(keys, capacity);
+        fingerprints = fingerprints == null ? new long[capacity] : Arrays.copyOf(fingerprints, capacity);
+        links = links == null ? new int[capacity][][] : Arrays.copyOf(links, capacity);
+    }
+
+    private static float dot(float[] q, float[] data, int offset) {
+        float sum = 0;
+        for (int i = 0; i < q.length; i++) {
+            sum += q[i] * data[offset + i];
+        }
+        return sum;
+    }
+
+    private float dot(float[] data, int a, int b) {
+        float sum = 0;
+        for (int i = 0; i < dimensions; i++) {
+            sum += data[a + i] * data[b + i];
+        }
+        return sum;
+    }
+
+    // Per-thread visit marks, cleared in O(1) by bumping the epoch
+    private static final class Visited {
+        int[] marks = new int[0];
+        int epoch;
+
+        void reset(int size) {
+            if (marks.length < size) {
+                marks = new int[Math.max(size, marks.length * 2)];
+                epoch = 0;
+            }
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                epoch = 1;
+            }
+        }
+
+        boolean mark(int node) {
+            if (marks[node] == epoch) {
+                return false;
+            }
+            marks[node] = epoch;
+            return true;
+        }
+    }
+
+    /**
+     * Binary heap of (node, score) with either the best or the worst score on top.
+     */
+    private static final class NodeHeap {
+        int[] nodes;
+        float[] scores;
+        int size;
+        private final boolean bestOnTop;
+
+        NodeHeap(int capacity, boolean bestOnTop) {
+            this.nodes = new int[Math.max(capacity, 4)];
+            this.scores = new float[nodes.length];
+            this.bestOnTop = bestOnTop;
+        }
+
+        float topScore() {
+            return scores[0];
+        }
+
+        /**
+         * Empties a worst-on-top heap, leaving {@code nodes} and {@code scores} ordered best first.
+         */
+        void drainBestFirst() {
+            int n = size;
+            int[] sortedNodes = new int[n];
+            float[] sortedScores = new float[n];
+            for (int i = n - 1; i >= 0; i--) {
+                sortedScores[i] = scores[0];
+                sortedNodes[i] = pop();
+            }
+            nodes = sortedNodes;
+            scores = sortedScores;
+            size = n;
+        }
+
+        void push(int node, float score) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            int pos = size++;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (!above(score, scores[parent])) {
+                    break;
+                }
+                nodes[pos] = nodes[parent];
+                scores[pos] = scores[parent];
+                pos = parent;
+            }
+            nodes[pos] = node;
+            scores[pos] = score;
+        }
+
+        int pop() {
+            int top = nodes[0];
+            int lastNode = nodes[--size];
+            float lastScore = scores[size];
+            int pos = 0;
+            while (true) {
+                int child = 2 * pos + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && above(scores[child + 1], scores[child])) {
+                    child++;
+                }
+                if (!above(scores[child], lastScore)) {
+                    break;
+                }
+                nodes[pos] = nodes[child];
+                scores[pos] = scores[child];
+                pos = child;
+            }
+            if (size > 0) {
+                nodes[pos] = lastNode;
+                scores[pos] = lastScore;
+            }
+            return top;
+        }
+
+        private boolean above(float a, float b) {
+            return bestOnTop ? a > b : a < b;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.talent_tandem.search;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sequential reader/writer over a memory-mapped file, mapped in windows so files larger than the
+ * 2 GB limit of a single {@link MappedByteBuffer} still work.
+ */
+final class MappedFile implements Closeable {
+
+    private static final long WINDOW = 256L << 20;
+
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final long length;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    private MappedFile(FileChannel channel, FileChannel.MapMode mode, long length) throws IOException {
+        this.channel = channel;
+        this.mode = mode;
+        this.length = length;
+        map(0);
+    }
+
+    static MappedFile create(Path path, long length) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new MappedFile(channel, FileChannel.MapMode.READ_WRITE, length);
+    }
+
+    static MappedFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new MappedFile(channel, FileChannel.MapMode.READ_ONLY, channel.size());
+    }
+
+    long length() {
+        return length;
+    }
+
+    void putByte(byte v) throws IOException {
+        ensure(Byte.BYTES).put(v);
+    }
+
+    void putInt(int v) throws IOException {
+        ensure(Integer.BYTES).putInt(v);
+    }
+
+    void putLong(long v) throws IOException {
+        ensure(Long.BYTES).putLong(v);
+    }
+
+    void putFloat(float v) throws IOException {
+        ensure(Float.BYTES).putFloat(v);
+    }
+
+    byte getByte() throws IOException {
+        return ensure(Byte.BYTES).get();
+    }
+
+    int getInt() throws IOException {
+        return ensure(Integer.BYTES).getInt();
+    }
+
+    long getLong() throws IOException {
+        return ensure(Long.BYTES).getLong();
+    }
+
+    float getFloat() throws IOException {
+        return ensure(Float.BYTES).getFloat();
+    }
+
+    void force() {
+        if (mode == FileChannel.MapMode.READ_WRITE) {
+            window.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private MappedByteBuffer ensure(int bytes) throws IOException {
+        if (window.remaining() < bytes) {
+            long position = windowStart + window.position();
+            if (position + bytes > length) {
+                throw new IOException("Unexpected end of mapped file at " + position);
+            }
+            force();
+            map(position);
+        }
+        return window;
+    }
+
+    private void map(long start) throws IOException {
+        windowStart = start;
+        window = channel.map(mode, start, Math.min(WINDOW, length - start));
+    }
+}
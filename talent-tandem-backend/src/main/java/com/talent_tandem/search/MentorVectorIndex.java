@@ -0,0 +1,329 @@
+package com.talent_tandem.search;
+
+import com.talent_tandem.matching.MentorChangedEvent;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.model.Tag;
+import com.talent_tandem.model.UserTeachSkill;
+import com.talent_tandem.repository.ITagRepository;
+import com.talent_tandem.repository.IUserTeachSkillRepository;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Semantic index of mentor profiles.
+ *
+ * Each mentor is one document: the skills they teach with proficiency, plus the names and
+ * descriptions of those skills' {@link Tag}s. Documents are embedded through the configured
+ * {@link EmbeddingModel} and held in an {@link HnswGraph} that is persisted to a memory-mapped file.
+ * On startup the file is reloaded and only mentors whose document changed are re-embedded.
+ *
+ * Changes are not embedded on the request thread: mentor events and tag edits mark mentors dirty, and
+ * a scheduled pass re-embeds them in batches and rewrites the file.
+ */
+@Slf4j
+@Component
+public class MentorVectorIndex {
+
+    private static final int EMBED_BATCH = 64;
+
+    private final EmbeddingModel embeddingModel;
+    private final IUserTeachSkillRepository teachSkillRepository;
+    private final ITagRepository tagRepository;
+    private final MentorIndex mentorIndex;
+    private final Path file;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final double maxTombstoneRatio;
+
+    private final Map<Long, String> tagTextBySkill = new ConcurrentHashMap<>();
+    private final Map<Long, long[]> skillsByMentor = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyMentors = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtySkills = ConcurrentHashMap.newKeySet();
+
+    private volatile HnswGraph graph;
+    private long modelFingerprint;
+
+    public MentorVectorIndex(EmbeddingModel embeddingModel,
+            IUserTeachSkillRepository teachSkillRepository,
+            ITagRepository tagRepository,
+            MentorIndex mentorIndex,
+            @Value("${semantic-search.index-file:data/mentor-vectors.hnsw}") String file,
+            @Value("${semantic-search.hnsw.m:16}") int m,
+            @Value("${semantic-search.hnsw.ef-construction:100}") int efConstruction,
+            @Value("${semantic-search.hnsw.ef-search:64}") int efSearch,
+            @Value("${semantic-search.hnsw.max-tombstone-ratio:0.3}") double maxTombstoneRatio) {
+        this.embeddingModel = embeddingModel;
+        this.teachSkillRepository = teachSkillRepository;
+        this.tagRepository = tagRepository;
+        this.mentorIndex = mentorIndex;
+        this.file = Paths.get(file);
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.maxTombstoneRatio = maxTombstoneRatio;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        long start = System.currentTimeMillis();
+        try {
+            int dimensions = embeddingModel.dimensions();
+            modelFingerprint = HashingEmbeddingModel.fnv1a(embeddingModel.getClass().getName() + '/' + dimensions);
+
+            tagTextBySkill.clear();
+            Map<Long, List<Tag>> tagsBySkill = new HashMap<>();
+            for (Tag tag : tagRepository.findAll()) {
+                tagsBySkill.computeIfAbsent(tag.getSkill().getId(), id -> new ArrayList<>()).add(tag);
+            }
+            tagsBySkill.forEach((skillId, tags) -> tagTextBySkill.put(skillId, tagText(tags)));
+
+            Map<Long, List<MentorEntry>> byMentor = new HashMap<>();
+            for (UserTeachSkill row : teachSkillRepository.findAllForIndex()) {
+                MentorEntry e = MentorEntry.of(row);
+                byMentor.computeIfAbsent(e.getUserId(), id -> new ArrayList<>()).add(e);
+            }
+
+            HnswGraph loaded = null;
+            try {
+                loaded = HnswGraph.readFrom(file, modelFingerprint, dimensions);
+            } catch (Exception e) {
+                log.warn("MENTOR_VECTORS_FILE_UNREADABLE - File: {}, Error: {}", file, e.getMessage());
+            }
+            HnswGraph target = loaded != null ? loaded : new HnswGraph(dimensions, m, efConstruction);
+
+            int removed = 0;
+            for (long mentorId : target.keys()) {
+                if (!byMentor.containsKey(mentorId)) {
+                    target.remove(mentorId);
+                    removed++;
+                }
+            }
+            Map<Long, String> stale = new LinkedHashMap<>();
+            skillsByMentor.clear();
+            byMentor.forEach((mentorId, entries) -> {
+                skillsByMentor.put(mentorId, skillIds(entries));
+                String document = document(entries);
+                Long stored = target.fingerprint(mentorId);
+                if (stored == null || stored != HashingEmbeddingModel.fnv1a(document)) {
+                    stale.put(mentorId, document);
+                }
+            });
+            embedInto(target, stale);
+
+            graph = compactIfNeeded(target);
+            if (loaded == null || !stale.isEmpty() || removed > 0) {
+                persist();
+            }
+            log.info("MENTOR_VECTORS_LOADED - Mentors: {}, Reused: {}, Embedded: {}, Removed: {}, TookMs: {}",
+                    graph.size(), graph.size() - stale.size(), stale.size(), removed,
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("MENTOR_VECTORS_LOAD_FAILED - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The {@code k} mentors whose profile is closest to {@code query}, best first. Empty until the
+     * index has loaded.
+     */
+    public List<VectorHit> search(String query, int k) {
+        HnswGraph current = graph;
+        if (current == null) {
+            return List.of();
+        }
+        return current.search(embeddingModel.embed(query), k, efSearch);
+    }
+
+    public int size() {
+        HnswGraph current = graph;
+        return current != null ? current.size() : 0;
+    }
+
+    @EventListener
+    public void onMentorChanged(MentorChangedEvent event) {
+        switch (event.getKind()) {
+            case TEACH_SKILL:
+                dirtyMentors.add(event.getUserId());
+                break;
+            case SKILL:
+                dirtySkills.add(event.getSkillId());
+                break;
+            default:
+                // profile, availability and rating are not part of the document
+                break;
+        }
+    }
+
+    /**
+     * Called after the tags of a skill were edited; every mentor of the skill is re-embedded.
+     */
+    public void refreshSkill(long skillId) {
+        TransactionHooks.afterCommit(() -> {
+            tagTextBySkill.remove(skillId);
+            dirtySkills.add(skillId);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${semantic-search.refresh-ms:2000}")
+    public synchronized void applyPendingChanges() {
+        HnswGraph current = graph;
+        if (current == null || (dirtyMentors.isEmpty() && dirtySkills.isEmpty())) {
+            return;
+        }
+        Set<Long> mentors = new HashSet<>();
+        drain(dirtyMentors, mentors);
+        Set<Long> skills = new HashSet<>();
+        drain(dirtySkills, skills);
+        for (long skillId : skills) {
+            if (!tagTextBySkill.containsKey(skillId)) {
+                tagTextBySkill.put(skillId, tagText(tagRepository.findBySkillId(skillId)));
+            }
+            // mentors who taught the skill before the change, and those who teach it now
+            skillsByMentor.forEach((mentorId, taught) -> {
+                for (long s : taught) {
+                    if (s == skillId) {
+                        mentors.add(mentorId);
+                    }
+                }
+            });
+            for (MentorEntry e : mentorIndex.candidates(skillId)) {
+                mentors.add(e.getUserId());
+            }
+        }
+
+        Map<Long, String> stale = new LinkedHashMap<>();
+        int removed = 0;
+        for (long mentorId : mentors) {
+            List<MentorEntry> entries = mentorIndex.entriesOf(mentorId);
+            if (entries.isEmpty()) {
+                skillsByMentor.remove(mentorId);
+                if (current.fingerprint(mentorId) != null) {
+                    current.remove(mentorId);
+                    removed++;
+                }
+                continue;
+            }
+            skillsByMentor.put(mentorId, skillIds(entries));
+            String document = document(entries);
+            Long stored = current.fingerprint(mentorId);
+            if (stored == null || stored != HashingEmbeddingModel.fnv1a(document)) {
+                stale.put(mentorId, document);
+            }
+        }
+        if (stale.isEmpty() && removed == 0) {
+            return;
+        }
+
+        try {
+            embedInto(current, stale);
+        } catch (Exception e) {
+            // keep them queued; the next pass retries
+            dirtyMentors.addAll(stale.keySet());
+            log.warn("MENTOR_VECTORS_EMBED_FAILED - Mentors: {}, Error: {}", stale.size(), e.getMessage());
+            return;
+        }
+        graph = compactIfNeeded(current);
+        persist();
+        log.info("MENTOR_VECTORS_UPDATED - Embedded: {}, Removed: {}, Size: {}", stale.size(), removed, graph.size());
+    }
+
+    private void embedInto(HnswGraph target, Map<Long, String> documents) {
+        List<Long> ids = new ArrayList<>(documents.keySet());
+        for (int from = 0; from < ids.size(); from += EMBED_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + EMBED_BATCH, ids.size()));
+            List<String> texts = new ArrayList<>(batch.size());
+            for (Long id : batch) {
+                texts.add(documents.get(id));
+            }
+            List<float[]> vectors = embeddingModel.embed(texts);
+            for (int i = 0; i < batch.size(); i++) {
+                target.put(batch.get(i), HashingEmbeddingModel.fnv1a(texts.get(i)), vectors.get(i));
+            }
+        }
+    }
+
+    private HnswGraph compactIfNeeded(HnswGraph target) {
+        int tombstones = target.tombstones();
+        if (tombstones == 0 || tombstones <= maxTombstoneRatio * (target.size() + tombstones)) {
+            return target;
+        }
+        HnswGraph compacted = target.compact();
+        log.info("MENTOR_VECTORS_COMPACTED - Tombstones: {}, Size: {}", tombstones, compacted.size());
+        return compacted;
+    }
+
+    private void persist() {
+        try {
+            graph.writeTo(file, modelFingerprint);
+        } catch (Exception e) {
+            log.warn("MENTOR_VECTORS_PERSIST_FAILED - File: {}, Error: {}", file, e.getMessage());
+        }
+    }
+
+    // Skills in a stable order so the same profile always produces the same document
+    private String document(List<MentorEntry> entries) {
+        List<MentorEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingLong(MentorEntry::getSkillId));
+        StringBuilder doc = new StringBuilder();
+        for (MentorEntry e : sorted) {
+            doc.append(e.getSkillName());
+            if (e.proficiencyLevel() != null) {
+                doc.append(" (").append(e.proficiencyLevel().name().toLowerCase()).append(')');
+            }
+            String tags = tagTextBySkill.get(e.getSkillId());
+            if (tags != null && !tags.isEmpty()) {
+                doc.append(": ").append(tags);
+            }
+            doc.append('\n');
+        }
+        return doc.toString();
+    }
+
+    private static String tagText(List<Tag> tags) {
+        List<Tag> sorted = new ArrayList<>(tags);
+        sorted.sort(Comparator.comparing(Tag::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        StringBuilder text = new StringBuilder();
+        for (Tag tag : sorted) {
+            if (text.length() > 0) {
+                text.append("; ");
+            }
+            text.append(tag.getName());
+            if (tag.getDescription() != null && !tag.getDescription().isBlank()) {
+                text.append(" - ").append(tag.getDescription());
+            }
+        }
+        return text.toString();
+    }
+
+    private static long[] skillIds(List<MentorEntry> entries) {
+        return entries.stream().mapToLong(MentorEntry::getSkillId).distinct().toArray();
+    }
+
+    private static void drain(Set<Long> from, Set<Long> into) {
+        for (Long id : from) {
+            if (from.remove(id)) {
+                into.add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.talent_tandem.search;
+
+import com.talent_tandem.model.Skill;
+import com.talent_tandem.model.SkillAlias;
+import com.talent_tandem.model.Tag;
+import com.talent_tandem.repository.ISkillAliasRepository;
+import com.talent_tandem.repository.ISkillRepository;
+import com.talent_tandem.repository.ITagRepository;
+import com.talent_tandem.repository.IUserLearnSkillRepository;
+import com.talent_tandem.repository.IUserTeachSkillRepository;
+import com.talent_tandem.responsedto.SkillSuggestionResponse;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Typeahead over skill names, tag names and learned aliases, served from a sorted array of keys.
+ *
+ * Every name is indexed under its {@link SkillNormalizer#key} and under the key of each later word, so
+ * "lear" finds "Machine Learning". A prefix lookup is a binary search for the first key at or after the
+ * prefix followed by a scan while keys still start with it. Suggestions are ranked by exact match first,
+ * then by popularity (teachers plus learners of the skill), then skills before tags before aliases,
+ * then by shorter name.
+ *
+ * Writes are applied incrementally after commit: the entries of the changed skill, tag or alias are
+ * replaced and the result merged into a new array, which is swapped in atomically. Popularity and
+ * anything missed are refreshed by a full rebuild every {@code autocomplete.rebuild-ms}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillAutocomplete {
+
+    public enum Kind { SKILL, TAG, ALIAS }
+
+    private static final Comparator<Entry> BY_KEY = Comparator.comparing((Entry e) -> e.key);
+
+    private final ISkillRepository skillRepository;
+    private final ITagRepository tagRepository;
+    private final ISkillAliasRepository skillAliasRepository;
+    private final IUserTeachSkillRepository teachSkillRepository;
+    private final IUserLearnSkillRepository learnSkillRepository;
+
+    private volatile Entry[] entries = new Entry[0];
+    private volatile Map<Long, Long> popularity = Map.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${autocomplete.rebuild-ms:600000}", fixedDelayString = "${autocomplete.rebuild-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : teachSkillRepository.countPerSkill()) {
+            counts.merge((Long) row[0], (Long) row[1], Long::sum);
+        }
+        for (Object[] row : learnSkillRepository.countPerSkill()) {
+            counts.merge((Long) row[0], (Long) row[1], Long::sum);
+        }
+
+        List<Entry> built = new ArrayList<>();
+        for (Object[] row : skillRepository.findAllIdsAndNames()) {
+            Long skillId = (Long) row[0];
+            index(built, Kind.SKILL, skillId, (String) row[1], skillId);
+        }
+        for (Object[] row : tagRepository.findAllIdsAndNames()) {
+            index(built, Kind.TAG, (Long) row[0], (String) row[1], (Long) row[2]);
+        }
+        Entry[] sorted = built.toArray(new Entry[0]);
+        Arrays.sort(sorted, BY_KEY);
+        // aliases point at a skill through the skill or tag name they stand for
+        List<Entry> aliases = new ArrayList<>();
+        for (SkillAlias alias : skillAliasRepository.findAll()) {
+            aliases.add(alias(sorted, alias.getId(), alias.getAliasKey(), alias.getCanonicalName()));
+        }
+        aliases.sort(BY_KEY);
+
+        entries = merge(sorted, aliases);
+        popularity = counts;
+        log.info("SKILL_AUTOCOMPLETE_BUILT - Keys: {}, Aliases: {}, TookMs: {}",
+                entries.length, aliases.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Up to {@code limit} distinct names starting with {@code query} or with one of its later words.
+     */
+    public List<SkillSuggestionResponse> suggest(String query, int limit) {
+        String prefix = SkillNormalizer.key(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Entry[] current = entries;
+        Map<Long, Long> counts = popularity;
+
+        // best entry per suggested name
+        Map<String, Entry> byName = new HashMap<>();
+        Comparator<Entry> ranking = ranking(prefix, counts);
+        for (int i = lowerBound(current, prefix); i < current.length && current[i].key.startsWith(prefix); i++) {
+            Entry e = current[i];
+            byName.merge(e.name.toLowerCase(Locale.ROOT), e, (a, b) -> ranking.compare(a, b) <= 0 ? a : b);
+        }
+
+        List<Entry> ranked = new ArrayList<>(byName.values());
+        ranked.sort(ranking);
+        List<SkillSuggestionResponse> suggestions = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Entry e : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            suggestions.add(SkillSuggestionResponse.builder()
+                    .name(e.name)
+                    .type(e.kind.name())
+                    .skillId(e.skillId)
+                    .popularity(e.skillId != null ? counts.getOrDefault(e.skillId, 0L) : 0L)
+                    .build());
+        }
+        return suggestions;
+    }
+
+    public void addSkills(Collection<Skill> skills) {
+        List<Skill> added = List.copyOf(skills);
+        TransactionHooks.afterCommit(() -> {
+            Set<Long> ids = new LinkedHashSet<>();
+            List<Entry> replacement = new ArrayList<>();
+            for (Skill skill : added) {
+                ids.add(skill.getId());
+                index(replacement, Kind.SKILL, skill.getId(), skill.getName(), skill.getId());
+            }
+            apply(e -> e.kind == Kind.SKILL && ids.contains(e.sourceId), replacement);
+        });
+    }
+
+    public void renameSkill(long skillId, String name) {
+        TransactionHooks.afterCommit(() -> {
+            List<Entry> replacement = new ArrayList<>();
+            index(replacement, Kind.SKILL, skillId, name, skillId);
+            apply(e -> e.kind == Kind.SKILL && e.sourceId == skillId, replacement);
+        });
+    }
+
+    /**
+     * Drops the source skill together with its tags, which are deleted with it. Aliases of the source
+     * now stand for a name that no longer exists; the next rebuild drops their skill link.
+     */
+    public void mergeSkills(long sourceSkillId, long targetSkillId) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                apply(e -> e.kind != Kind.ALIAS && e.skillId != null && e.skillId == sourceSkillId, List.of());
+                Map<Long, Long> counts = new HashMap<>(popularity);
+                Long moved = counts.remove(sourceSkillId);
+                if (moved != null) {
+                    counts.merge(targetSkillId, moved, Long::sum);
+                }
+                popularity = counts;
+            }
+        });
+    }
+
+    public void removeSkill(long skillId) {
+        TransactionHooks.afterCommit(() ->
+                apply(e -> e.kind != Kind.ALIAS && e.skillId != null && e.skillId == skillId, List.of()));
+    }
+
+    public void addTags(Collection<Tag> tags) {
+        List<Tag> added = List.copyOf(tags);
+        TransactionHooks.afterCommit(() -> {
+            Set<Long> ids = new LinkedHashSet<>();
+            List<Entry> replacement = new ArrayList<>();
+            for (Tag tag : added) {
+                ids.add(tag.getId());
+                index(replacement, Kind.TAG, tag.getId(), tag.getName(),
+                        tag.getSkill() != null ? tag.getSkill().getId() : null);
+            }
+            apply(e -> e.kind == Kind.TAG && ids.contains(e.sourceId), replacement);
+        });
+    }
+
+    public void removeTag(long tagId) {
+        TransactionHooks.afterCommit(() -> apply(e -> e.kind == Kind.TAG && e.sourceId == tagId, List.of()));
+    }
+
+    public void addAlias(long aliasId, String aliasKey, String canonicalName) {
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                Entry alias = alias(entries, aliasId, aliasKey, canonicalName);
+                apply(e -> e.kind == Kind.ALIAS && e.sourceId == aliasId, List.of(alias));
+            }
+        });
+    }
+
+    public void removeAlias(long aliasId) {
+        TransactionHooks.afterCommit(() -> apply(e -> e.kind == Kind.ALIAS && e.sourceId == aliasId, List.of()));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Replaces the entries matching {@code remove} with {@code replacement}. Copy-on-write, so lookups
+     * running meanwhile keep the array they started with.
+     */
+    private synchronized void apply(Predicate<Entry> remove, List<Entry> replacement) {
+        Entry[] current = entries;
+        Entry[] kept = new Entry[current.length];
+        int count = 0;
+        for (Entry e : current) {
+            if (!remove.test(e)) {
+                kept[count++] = e;
+            }
+        }
+        List<Entry> added = new ArrayList<>(replacement);
+        added.sort(BY_KEY);
+        entries = merge(Arrays.copyOf(kept, count), added);
+    }
+
+    private static Entry[] merge(Entry[] sorted, List<Entry> added) {
+        Entry[] merged = new Entry[sorted.length + added.size()];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < sorted.length || j < added.size()) {
+            if (j == added.size() || (i < sorted.length && sorted[i].key.compareTo(added.get(j).key) <= 0)) {
+                merged[k++] = sorted[i++];
+            } else {
+                merged[k++] = added.get(j++);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Adds one entry per distinct key of the name: the whole name and each suffix starting at a later word.
+     */
+    private static void index(List<Entry> into, Kind kind, Long sourceId, String name, Long skillId) {
+        if (name == null || name.isBlank()) {
+            return;
+        }
+        String trimmed = name.trim();
+        String[] words = trimmed.split("[^\\p{Alnum}+#]+");
+        Set<String> keys = new LinkedHashSet<>();
+        StringBuilder suffix = new StringBuilder();
+        for (int w = words.length - 1; w >= 0; w--) {
+            suffix.insert(0, words[w]);
+            String key = SkillNormalizer.key(suffix.toString());
+            if (!key.isEmpty()) {
+                keys.add(key);
+            }
+        }
+        for (String key : keys) {
+            into.add(new Entry(key, trimmed, kind, sourceId, skillId));
+        }
+    }
+
+    private static Entry alias(Entry[] sorted, long aliasId, String aliasKey, String canonicalName) {
+        String nameKey = SkillNormalizer.key(canonicalName);
+        Long skillId = null;
+        for (int i = lowerBound(sorted, nameKey); i < sorted.length && sorted[i].key.equals(nameKey); i++) {
+            Entry e = sorted[i];
+            if (e.kind != Kind.ALIAS && SkillNormalizer.key(e.name).equals(nameKey)) {
+                skillId = e.skillId;
+                if (e.kind == Kind.SKILL) {
+                    break;
+                }
+            }
+        }
+        return new Entry(aliasKey, canonicalName, Kind.ALIAS, aliasId, skillId);
+    }
+
+    private static int lowerBound(Entry[] sorted, String key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].key.compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static Comparator<Entry> ranking(String prefix, Map<Long, Long> counts) {
+        return Comparator.comparing((Entry e) -> !e.key.equals(prefix))
+                .thenComparing(e -> -(e.skillId != null ? counts.getOrDefault(e.skillId, 0L) : 0L))
+                .thenComparing(e -> e.kind)
+                .thenComparingInt(e -> e.name.length())
+                .thenComparing(e -> e.name);
+    }
+
+    private static final class Entry {
+        final String key;
+        final String name;
+        final Kind kind;
+        // skill, tag or alias id, depending on the kind
+        final Long sourceId;
+        final Long skillId;
+
+        Entry(String key, String name, Kind kind, Long sourceId, Long skillId) {
+            this.key = key;
+            this.name = name;
+            this.kind = kind;
+            this.sourceId = sourceId;
+            this.skillId = skillId;
+        }
+    }
+}
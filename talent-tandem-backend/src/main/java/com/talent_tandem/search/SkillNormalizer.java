@@ -0,0 +1,375 @@
+package com.talent_tandem.search;
+
+import com.talent_tandem.matching.MentorChangedEvent;
+import com.talent_tandem.model.SkillAlias;
+import com.talent_tandem.repository.ISkillAliasRepository;
+import com.talent_tandem.repository.ISkillRepository;
+import com.talent_tandem.repository.ITagRepository;
+import com.talent_tandem.util.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves free-text skill terms to the names of existing skills and tags without a model call.
+ *
+ * Terms are compared by key: lower-cased, with everything except letters, digits, '+' and '#' dropped.
+ * So "JAVA ", "Node.js" and "node js" match "Java" and "NodeJS" exactly. Learned aliases are checked
+ * next. A key that matches neither goes through a trigram index. Names sharing enough trigrams are
+ * verified by edit distance. The closest one is taken when it is within the edits allowed for the
+ * key's length and no other name is equally close. Keys shorter than {@code MIN_FUZZY_LENGTH} are
+ * matched exactly only, since one edit already turns "java" into "lava".
+ *
+ * Aliases learned from the LLM are persisted and reloaded on every rebuild. Skill and tag changes mark
+ * the vocabulary stale. A scheduled pass rebuilds it and swaps it in atomically.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillNormalizer {
+
+    private static final int MIN_FUZZY_LENGTH = 5;
+    // keys at least this long may be two edits away, shorter ones one
+    private static final int LONG_KEY_LENGTH = 9;
+    private static final double MIN_TRIGRAM_DICE = 0.25;
+    private static final int MAX_CANDIDATES = 16;
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final ISkillRepository skillRepository;
+    private final ITagRepository tagRepository;
+    private final ISkillAliasRepository skillAliasRepository;
+    private final SkillAutocomplete skillAutocomplete;
+
+    private volatile Vocabulary vocabulary = Vocabulary.EMPTY;
+    private volatile Map<String, String> learned = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong aliasHits = new AtomicLong();
+    private final AtomicLong fuzzyHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong aliasesLearned = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        stale.set(false);
+        Vocabulary built = Vocabulary.build(skillRepository.getSkillNamesOnly(), tagRepository.getTagNamesOnly());
+        Map<String, String> aliases = new ConcurrentHashMap<>();
+        for (SkillAlias alias : skillAliasRepository.findAll()) {
+            aliases.put(alias.getAliasKey(), alias.getCanonicalName());
+        }
+        vocabulary = built;
+        learned = aliases;
+        generation.incrementAndGet();
+
+        log.info("SKILL_NORMALIZER_BUILT - Names: {}, Aliases: {}, TookMs: {}",
+                built.keys.length, aliases.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Marks the vocabulary stale once the current transaction has committed.
+     */
+    public void refresh() {
+        TransactionHooks.afterCommit(() -> stale.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${skill-normalizer.refresh-ms:5000}")
+    public void applyPendingChanges() {
+        if (stale.get()) {
+            rebuild();
+        }
+    }
+
+    @EventListener
+    public void onMentorChanged(MentorChangedEvent event) {
+        // skills merged, renamed or deleted
+        if (event.getKind() == MentorChangedEvent.Kind.SKILL) {
+            stale.set(true);
+        }
+    }
+
+    /**
+     * The existing skill or tag name, or learned alias, the term stands for. Null when nothing matches
+     * confidently.
+     */
+    public String resolve(String term) {
+        String key = key(term);
+        if (key.isEmpty()) {
+            return null;
+        }
+        Vocabulary current = vocabulary;
+        String name = current.exact.get(key);
+        if (name != null) {
+            exactHits.incrementAndGet();
+            return name;
+        }
+        String alias = learned.get(key);
+        if (alias != null) {
+            aliasHits.incrementAndGet();
+            return current.exact.getOrDefault(key(alias), alias);
+        }
+        name = current.closest(key);
+        if (name != null) {
+            fuzzyHits.incrementAndGet();
+            log.debug("SKILL_FUZZY_MATCH - Term: {}, Name: {}", term, name);
+            return name;
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Remembers that {@code term} stands for {@code canonicalName}, so it resolves locally from now on.
+     * Returns the name to use, which is the existing skill or tag name when the canonical name matches
+     * one by key. Returns null when the pair is unusable.
+     */
+    public String learn(String term, String canonicalName) {
+        String key = key(term);
+        String canonical = canonicalName == null ? "" : canonicalName.trim();
+        if (key.isEmpty() || key.length() > MAX_NAME_LENGTH || canonical.isEmpty()
+                || canonical.length() > MAX_NAME_LENGTH || key(canonical).isEmpty()) {
+            return null;
+        }
+        String name = vocabulary.exact.getOrDefault(key(canonical), canonical);
+        if (name.equals(learned.put(key, name))) {
+            return name;
+        }
+        try {
+            SkillAlias alias = skillAliasRepository.findByAliasKey(key)
+                    .orElseGet(() -> SkillAlias.builder().aliasKey(key).build());
+            String trimmed = term.trim();
+            alias.setAlias(trimmed.length() > MAX_NAME_LENGTH ? trimmed.substring(0, MAX_NAME_LENGTH) : trimmed);
+            alias.setCanonicalName(name);
+            SkillAlias saved = skillAliasRepository.save(alias);
+            skillAutocomplete.addAlias(saved.getId(), key, name);
+            aliasesLearned.incrementAndGet();
+            log.info("SKILL_ALIAS_LEARNED - Alias: {}, Name: {}", key, name);
+        } catch (DataIntegrityViolationException e) {
+            // learned concurrently by another request
+        }
+        return name;
+    }
+
+    /**
+     * Drops a learned alias, e.g. a wrong answer from the model. Returns false when it does not exist.
+     */
+    public boolean forget(long id) {
+        return skillAliasRepository.findById(id)
+                .map(alias -> {
+                    skillAliasRepository.delete(alias);
+                    learned.remove(alias.getAliasKey());
+                    skillAutocomplete.removeAlias(id);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    public List<Map<String, Object>> aliases() {
+        List<Map<String, Object>> aliases = new ArrayList<>();
+        for (SkillAlias alias : skillAliasRepository.findAll(Sort.by("aliasKey"))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", alias.getId());
+            row.put("alias", alias.getAlias());
+            row.put("aliasKey", alias.getAliasKey());
+            row.put("canonicalName", alias.getCanonicalName());
+            row.put("createdAt", alias.getCreatedAt());
+            aliases.add(row);
+        }
+        return aliases;
+    }
+
+    public Map<String, Object> stats() {
+        long exact = exactHits.get();
+        long alias = aliasHits.get();
+        long fuzzy = fuzzyHits.get();
+        long missed = misses.get();
+        long lookups = exact + alias + fuzzy + missed;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("names", vocabulary.keys.length);
+        stats.put("aliases", learned.size());
+        stats.put("generation", generation.get());
+        stats.put("exactHits", exact);
+        stats.put("aliasHits", alias);
+        stats.put("fuzzyHits", fuzzy);
+        stats.put("misses", missed);
+        stats.put("localResolveRate", lookups > 0 ? Math.round((exact + alias + fuzzy) * 1000.0 / lookups) / 1000.0 : 0.0);
+        stats.put("aliasesLearned", aliasesLearned.get());
+        return stats;
+    }
+
+    public static String key(String term) {
+        if (term == null) {
+            return "";
+        }
+        String lower = term.toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    static Set<String> trigrams(String key) {
+        String padded = " " + key + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Optimal string alignment distance (adjacent transpositions count as one edit), or
+     * {@code limit + 1} as soon as it is known to exceed {@code limit}.
+     */
+    static int distance(String a, String b, int limit) {
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, previous2[j - 2] + 1);
+                }
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], limit + 1);
+    }
+
+    /**
+     * Immutable snapshot of the skill and tag names, keyed and trigram-indexed.
+     */
+    private static final class Vocabulary {
+
+        static final Vocabulary EMPTY = build(List.of(), List.of());
+
+        final Map<String, String> exact;
+        final String[] keys;
+        final String[] names;
+        final int[] trigramCounts;
+        final Map<String, int[]> postings;
+
+        private Vocabulary(Map<String, String> exact, String[] keys, String[] names, int[] trigramCounts,
+                Map<String, int[]> postings) {
+            this.exact = exact;
+            this.keys = keys;
+            this.names = names;
+            this.trigramCounts = trigramCounts;
+            this.postings = postings;
+        }
+
+        static Vocabulary build(List<String> skillNames, List<String> tagNames) {
+            // skill names win over tag names with the same key
+            Map<String, String> exact = new LinkedHashMap<>();
+            for (List<String> names : List.of(skillNames, tagNames)) {
+                for (String name : names) {
+                    String key = key(name);
+                    if (!key.isEmpty()) {
+                        exact.putIfAbsent(key, name.trim());
+                    }
+                }
+            }
+            String[] keys = exact.keySet().toArray(new String[0]);
+            String[] names = exact.values().toArray(new String[0]);
+            int[] trigramCounts = new int[keys.length];
+            Map<String, List<Integer>> lists = new HashMap<>();
+            for (int i = 0; i < keys.length; i++) {
+                Set<String> grams = trigrams(keys[i]);
+                trigramCounts[i] = grams.size();
+                for (String gram : grams) {
+                    lists.computeIfAbsent(gram, g -> new ArrayList<>()).add(i);
+                }
+            }
+            Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+            lists.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+            return new Vocabulary(exact, keys, names, trigramCounts, postings);
+        }
+
+        String closest(String key) {
+            if (key.length() < MIN_FUZZY_LENGTH || keys.length == 0) {
+                return null;
+            }
+            Set<String> grams = trigrams(key);
+            Map<Integer, Integer> shared = new HashMap<>();
+            for (String gram : grams) {
+                int[] ids = postings.get(gram);
+                if (ids != null) {
+                    for (int id : ids) {
+                        shared.merge(id, 1, Integer::sum);
+                    }
+                }
+            }
+
+            // rank by Dice coefficient over trigrams, then verify the best few by edit distance
+            long[] ranked = new long[shared.size()];
+            int count = 0;
+            for (Map.Entry<Integer, Integer> e : shared.entrySet()) {
+                double dice = 2.0 * e.getValue() / (grams.size() + trigramCounts[e.getKey()]);
+                if (dice >= MIN_TRIGRAM_DICE) {
+                    // dice in the high bits so sorting descending orders by it, id in the low bits
+                    ranked[count++] = ((long) (dice * 1_000_000) << 32) | e.getKey();
+                }
+            }
+            Arrays.sort(ranked, 0, count);
+
+            int allowed = key.length() < LONG_KEY_LENGTH ? 1 : 2;
+            int best = -1;
+            int bestDistance = allowed + 1;
+            boolean tie = false;
+            for (int r = count - 1; r >= Math.max(0, count - MAX_CANDIDATES); r--) {
+                int id = (int) ranked[r];
+                int d = distance(key, keys[id], allowed);
+                if (d < bestDistance) {
+                    best = id;
+                    bestDistance = d;
+                    tie = false;
+                } else if (d == bestDistance && d <= allowed) {
+                    tie = true;
+                }
+            }
+            return best >= 0 && !tie ? names[best] : null;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.talent_tandem.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU of support chat answers, looked up by meaning rather than by exact text.
+ *
+ * A question is normalized (lower-cased, punctuation and question-template filler words such as
+ * "how do I" removed) and embedded with a local {@link HashingEmbeddingModel}, never a remote provider,
+ * so a lookup costs no model call. An identical normalized question is an exact hit. Otherwise the
+ * closest cached question by cosine similarity is a hit when it reaches {@code similarity-threshold}.
+ * Entries expire {@code ttl-minutes} after they were stored, and the least recently used entry is
+ * evicted beyond {@code max-entries}. Only real model answers are stored, never fallbacks.
+ */
+@Slf4j
+@Component
+public class SupportAnswerCache {
+
+    private static final Set<String> FILLER_WORDS = Set.of(
+            "a", "an", "the", "how", "do", "does", "did", "i", "im", "can", "could", "would", "should", "to",
+            "my", "me", "is", "are", "am", "what", "please", "hi", "hello", "hey", "thanks", "thank", "you",
+            "your", "in", "on", "for", "of", "it", "there", "way", "any", "some", "we", "be", "will");
+
+    private final HashingEmbeddingModel embeddingModel;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final double similarityThreshold;
+    private final LinkedHashMap<String, Entry> lru;
+
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong semanticHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    public SupportAnswerCache(@Value("${ai-chat.cache.max-entries:1000}") int maxEntries,
+            @Value("${ai-chat.cache.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${ai-chat.cache.similarity-threshold:0.9}") double similarityThreshold,
+            @Value("${ai-chat.cache.embedding.dimensions:256}") int dimensions) {
+        this.embeddingModel = new HashingEmbeddingModel(dimensions);
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.similarityThreshold = similarityThreshold;
+        this.lru = new LinkedHashMap<>(Math.min(Math.max(maxEntries, 16), 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > SupportAnswerCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * The cached answer to the question or to one close enough in meaning, or null.
+     */
+    public String lookup(String question) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty() || maxEntries <= 0) {
+            misses.incrementAndGet();
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (lru) {
+            Entry exact = lru.get(normalized);
+            if (exact != null && !expired(exact, now)) {
+                exactHits.incrementAndGet();
+                return exact.hit(now);
+            }
+        }
+
+        float[] vector = embeddingModel.vectorize(normalized);
+        synchronized (lru) {
+            Entry best = null;
+            double bestSimilarity = similarityThreshold;
+            for (Entry entry : lru.values()) {
+                if (expired(entry, now)) {
+                    continue;
+                }
+                double similarity = dot(vector, entry.vector);
+                if (similarity >= bestSimilarity) {
+                    best = entry;
+                    bestSimilarity = similarity;
+                }
+            }
+            if (best != null) {
+                // refresh its LRU position
+                lru.get(best.normalized);
+                semanticHits.incrementAndGet();
+                log.debug("AI_CHAT_CACHE_SEMANTIC_HIT - Question: {}, Cached: {}, Similarity: {}",
+                        normalized, best.normalized, bestSimilarity);
+                return best.hit(now);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String question, String answer) {
+        String normalized = normalize(question);
+        if (normalized.isEmpty() || answer == null || answer.isBlank() || maxEntries <= 0) {
+            return;
+        }
+        Entry entry = new Entry(ids.incrementAndGet(), question.trim(), normalized,
+                embeddingModel.vectorize(normalized), answer, System.currentTimeMillis());
+        synchronized (lru) {
+            lru.put(normalized, entry);
+        }
+        stores.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${ai-chat.cache.sweep-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (lru) {
+            Iterator<Entry> it = lru.values().iterator();
+            while (it.hasNext()) {
+                if (expired(it.next(), now)) {
+                    it.remove();
+                    removed++;
+                }
+            }
+        }
+        expirations.addAndGet(removed);
+    }
+
+    public int purgeAll() {
+        synchronized (lru) {
+            int size = lru.size();
+            lru.clear();
+            return size;
+        }
+    }
+
+    public boolean purge(long id) {
+        synchronized (lru) {
+            return lru.values().removeIf(entry -> entry.id == id);
+        }
+    }
+
+    /**
+     * Cached entries, most hit first.
+     */
+    public List<Map<String, Object>> entries() {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        synchronized (lru) {
+            List<Entry> snapshot = new ArrayList<>(lru.values());
+            snapshot.sort(Comparator.comparingLong((Entry e) -> -e.hits).thenComparingLong(e -> e.id));
+            for (Entry e : snapshot) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", e.id);
+                row.put("question", e.question);
+                row.put("normalized", e.normalized);
+                row.put("answer", e.answer);
+                row.put("hits", e.hits);
+                row.put("storedAt", Instant.ofEpochMilli(e.storedAt).toString());
+                row.put("lastHitAt", e.lastHitAt > 0 ? Instant.ofEpochMilli(e.lastHitAt).toString() : null);
+                entries.add(row);
+            }
+        }
+        return entries;
+    }
+
+    public Map<String, Object> stats() {
+        long exact = exactHits.get();
+        long semantic = semanticHits.get();
+        long missed = misses.get();
+        long lookups = exact + semantic + missed;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (lru) {
+            stats.put("size", lru.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("ttlMinutes", ttlMillis / 60_000L);
+        stats.put("similarityThreshold", similarityThreshold);
+        stats.put("exactHits", exact);
+        stats.put("semanticHits", semantic);
+        stats.put("misses", missed);
+        stats.put("hitRate", lookups > 0 ? Math.round((exact + semantic) * 1000.0 / lookups) / 1000.0 : 0.0);
+        stats.put("stores", stores.get());
+        stats.put("evictions", evictions.get());
+        stats.put("expirations", expirations.get());
+        return stats;
+    }
+
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder();
+        for (String word : question.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}+#]+")) {
+            if (word.isEmpty() || FILLER_WORDS.contains(word)) {
+                continue;
+            }
+            if (normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            normalized.append(word);
+        }
+        return normalized.toString();
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return ttlMillis > 0 && now - entry.storedAt > ttlMillis;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private static final class Entry {
+        final long id;
+        final String question;
+        final String normalized;
+        final float[] vector;
+        final String answer;
+        final long storedAt;
+        // guarded by the cache lock
+        long hits;
+        long lastHitAt;
+
+        Entry(long id, String question, String normalized, float[] vector, String answer, long storedAt) {
+            this.id = id;
+            this.question = question;
+            this.normalized = normalized;
+            this.vector = vector;
+            this.answer = answer;
+            this.storedAt = storedAt;
+        }
+
+        String hit(long now) {
+            hits++;
+            lastHitAt = now;
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.talent_tandem.search;
+
+import lombok.Value;
+
+/**
+ * One nearest-neighbour result: the indexed key and its cosine similarity to the query.
+ */
+@Value
+public class VectorHit {
+    long key;
+    float similarity;
+}
@@ -1,8 +1,34 @@
 package com.talent_tandem.service;
 
+import lombok.Builder;
+import lombok.Value;
+
 import java.util.List;
 
 public interface IAIService {
+
+    String NO_MATCH_EXPLANATION = "No match explanation available.";
+
+    // Bump whenever the match explanation prompt changes so cached explanations are not reused
+    int MATCH_EXPLANATION_PROMPT_VERSION = 2;
+
+    // Same, for the several-mentors prompt of generateMatchExplanations; cached under its own version
+    int MATCH_EXPLANATION_BATCH_PROMPT_VERSION = 3;
+
     List<String> normalizeSkills(List<String> rawSkills);
     String generateMatchExplanation(String mentorName, List<String> matchingSkills, String experience, String timeSlot);
+
+    // Explains several mentors in one prompt. The result is aligned with the input; an entry is null
+    // when the model's answer for that mentor could not be parsed, so the caller can retry just that one.
+    // Returns null when the call itself failed or no line of the answer could be parsed.
+    List<String> generateMatchExplanations(List<MentorExplanationInput> mentors);
+
+    @Value
+    @Builder
+    class MentorExplanationInput {
+        String mentorName;
+        List<String> matchingSkills;
+        String experience;
+        String timeSlot;
+    }
 }
\ No newline at end of file
@@ -55,4 +55,25 @@ public interface IAdminService {
     // AI Mapping Rules
     Map<String, Object> updateAIMatchingRules(Map<String, Object> rules);
     Map<String, Object> getAIMatchingRules();
+    Map<String, Object> simulateAIMatchingRules(AIRulesUpdateRequest request, Integer sample);
+
+    // Matching Engine
+    Map<String, Object> getExplanationCacheStats();
+    Map<String, Object> getResultCacheStats();
+    Map<String, Object> runBulkAssignment();
+    Map<String, Object> getReplayLogStats();
+    Map<String, Object> getMatchingExperimentReport();
+
+    // Support Chat Cache
+    Map<String, Object> getSupportAnswerCache();
+    Map<String, Object> purgeSupportAnswerCache();
+    void purgeSupportAnswer(Long id);
+
+    // LLM Gateway
+    Map<String, Object> getLlmGatewayStats();
+
+    // Skill Aliases
+    Map<String, Object> getSkillAliases();
+
+    void deleteSkillAlias(Long id);
 }
\ No newline at end of file
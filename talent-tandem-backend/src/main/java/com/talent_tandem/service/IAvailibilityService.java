@@ -1,8 +1,17 @@
 package com.talent_tandem.service;
+import com.talent_tandem.enums.Day;
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.User;
 import com.talent_tandem.requestdto.AvailabilityRequest;
+import com.talent_tandem.requestdto.WeeklyAvailabilityRequest;
 import com.talent_tandem.responsedto.AvailabilityResponse;
+import com.talent_tandem.responsedto.WeeklyAvailabilityResponse;
 
 public interface IAvailibilityService {
     public  AvailabilityResponse saveAvailability(AvailabilityRequest request);
     public  AvailabilityResponse getAvailabilityByUser(Long userId);
-}
\ No newline at end of file
+    public  WeeklyAvailabilityResponse saveWeeklyAvailability(WeeklyAvailabilityRequest request);
+    public  WeeklyAvailabilityResponse getWeeklyAvailability(Long userId);
+    // Overwrites the user's single legacy slot and moves it in the weekly bitset accordingly
+    public  Availability replaceLegacySlot(User user, Day dayOfWeek, String startTime, String endTime);
+}
@@ -1,9 +1,16 @@
 package com.talent_tandem.service;
 import com.talent_tandem.requestdto.MatchRequest;
-import com.talent_tandem.responsedto.MentorMatchResponse;
-import java.util.List;
+import com.talent_tandem.responsedto.MatchResultResponse;
+import com.talent_tandem.responsedto.SemanticSearchResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 public interface IMatchingEngineService {
 
-    List<MentorMatchResponse> findMatches(MatchRequest request);
-}
\ No newline at end of file
+    MatchResultResponse findMatches(MatchRequest request);
+
+    // Sends "matches", then one "explanation" per mentor, then "complete"
+    void streamMatches(MatchRequest request, SseEmitter emitter);
+
+    // Mentors whose skills and tags are closest in meaning to free text, regardless of skillId
+    SemanticSearchResponse semanticSearch(String query, Integer limit);
+}
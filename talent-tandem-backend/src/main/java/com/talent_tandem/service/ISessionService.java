@@ -1,12 +1,14 @@
 package com.talent_tandem.service;
 import com.talent_tandem.enums.SessionStatus;
 import com.talent_tandem.requestdto.SessionRequest;
+import com.talent_tandem.responsedto.CommonFreeSlotsResponse;
 import com.talent_tandem.responsedto.LearnerDashboardStatsResponse;
 import com.talent_tandem.responsedto.MentorDashboardStatsResponse;
 import com.talent_tandem.responsedto.SessionCompleteResponse;
 import com.talent_tandem.responsedto.SessionJoinResponse;
 import com.talent_tandem.responsedto.SessionResponse;
 import com.talent_tandem.responsedto.SessionStartResponse;
+import java.time.LocalDate;
 import java.util.List;
 
 public interface ISessionService {
@@ -24,4 +26,5 @@ public interface ISessionService {
     MentorDashboardStatsResponse getMentorDashboardStats(Long mentorId);
     LearnerDashboardStatsResponse getLearnerDashboardStats(Long learnerId);
     List<SessionResponse> getAllSessions();
+    CommonFreeSlotsResponse findCommonFreeSlots(Long mentorId, Long learnerId, LocalDate from, LocalDate to, int durationMinutes, int limit);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.talent_tandem.service;
 import com.talent_tandem.requestdto.SkillRequest;
 import com.talent_tandem.responsedto.SkillResponse;
+import com.talent_tandem.responsedto.SkillSuggestionResponse;
 import com.talent_tandem.responsedto.SkillTagResponse;
 import com.talent_tandem.responsedto.SkillWithTagsResponse;
 
@@ -12,6 +13,7 @@ public interface ISkillService {
     public SkillResponse getSkillById(Long id);
     public List<SkillResponse> getAllSkills();
     public List<String> getSkillNames();
+    public List<SkillSuggestionResponse> autocomplete(String query, Integer limit);
     public List<SkillResponse> addSkillBatch(List<SkillRequest> requestList);
     public SkillWithTagsResponse getSkillWithTags(Long id);
     SkillTagResponse getSkillWithSubTags(Long skillId);
@@ -0,0 +1,17 @@
+package com.talent_tandem.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface ISupportChatService {
+
+    String FALLBACK_REPLY = "I'm here to help! Could you please rephrase your question?";
+    String ERROR_REPLY = "I'm having trouble processing your request. Please try again.";
+
+    // Completes off the request thread; failures complete with ERROR_REPLY rather than exceptionally
+    CompletableFuture<String> reply(String message);
+
+    // Sends one "token" per streamed chunk, then "done" with timings, or "error"
+    void streamReply(String message, SseEmitter emitter);
+}
@@ -1,6 +1,7 @@
 package com.talent_tandem.service;
 
 import com.talent_tandem.requestdto.UserLearnSkillRequest;
+import com.talent_tandem.responsedto.MentorRecommendationResponse;
 import com.talent_tandem.responsedto.UserLearnSkillResponse;
 
 import java.util.List;
@@ -14,4 +15,6 @@ public interface IUserLearnSkillService {
     List<UserLearnSkillResponse> getLearnSkillsByUserId(Long userId);
 
     void deleteLearnSkill(Long id);
+
+    List<MentorRecommendationResponse> getRecommendations(Long userId);
 }
\ No newline at end of file
@@ -1,19 +1,36 @@
 package com.talent_tandem.serviceImpl;
 
+import com.talent_tandem.llm.LlmGateway;
+import com.talent_tandem.llm.LlmPriority;
+import com.talent_tandem.search.SkillNormalizer;
 import com.talent_tandem.service.IAIService;
-import org.springframework.ai.chat.client.ChatClient;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 public class AIServiceImpl implements IAIService {
 
-    private final ChatClient chatClient;
+    // "[3] text", "3. text" or "3) text"
+    private static final Pattern BATCH_LINE = Pattern.compile("^(?:\\[(\\d+)\\]|(\\d+)[.):])\\s*(.+)$");
+    private static final Pattern QUOTES = Pattern.compile("^[\"'`]+|[\"'`]+$");
 
-    public AIServiceImpl(ChatClient.Builder chatClientBuilder) {
-        this.chatClient = chatClientBuilder.build();
+    private final LlmGateway llmGateway;
+    private final SkillNormalizer skillNormalizer;
+
+    public AIServiceImpl(LlmGateway llmGateway, SkillNormalizer skillNormalizer) {
+        this.llmGateway = llmGateway;
+        this.skillNormalizer = skillNormalizer;
     }
 
     @Override
@@ -22,18 +39,67 @@ public class AIServiceImpl implements IAIService {
             return Collections.emptyList();
         }
 
-        try {
-            String prompt = String.format(
-                    "Normalize these skills into standardized terms: %s. Return only comma-separated normalized skills.",
-                    String.join(", ", rawSkills));
+        // one raw term per key, in input order
+        Map<String, String> terms = new LinkedHashMap<>();
+        for (String raw : rawSkills) {
+            String key = SkillNormalizer.key(raw);
+            if (!key.isEmpty()) {
+                terms.putIfAbsent(key, raw.trim());
+            }
+        }
+
+        Map<String, String> resolved = new HashMap<>();
+        List<String> unresolved = new ArrayList<>();
+        terms.forEach((key, raw) -> {
+            String name = skillNormalizer.resolve(raw);
+            if (name != null) {
+                resolved.put(key, name);
+            } else {
+                unresolved.add(raw);
+            }
+        });
+        if (!unresolved.isEmpty()) {
+            resolveWithModel(unresolved, resolved);
+        }
+
+        // terms the model could not place either are returned as given
+        Set<String> normalized = new LinkedHashSet<>();
+        terms.forEach((key, raw) -> normalized.add(resolved.getOrDefault(key, raw)));
+        log.debug("SKILLS_NORMALIZED - Terms: {}, Local: {}, Model: {}",
+                terms.size(), terms.size() - unresolved.size(), unresolved.size());
+        return new ArrayList<>(normalized);
+    }
 
-            String response = chatClient.prompt(prompt).call().content();
-            if (response == null || response.trim().isEmpty()) {
-                return Collections.emptyList();
+    private void resolveWithModel(List<String> unresolved, Map<String, String> resolved) {
+        StringBuilder prompt = new StringBuilder(
+                "Normalize each skill below into its standardized name. Reply with exactly one line per skill, "
+                        + "formatted as [number] name, and nothing else.\n");
+        for (int i = 0; i < unresolved.size(); i++) {
+            prompt.append(String.format("[%d] %s%n", i + 1, unresolved.get(i)));
+        }
+
+        try {
+            String response = llmGateway.call(LlmPriority.BATCH, prompt.toString());
+            if (response == null) {
+                return;
+            }
+            for (String line : response.split("\\R")) {
+                Matcher matcher = BATCH_LINE.matcher(line.trim());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int index = Integer.parseInt(matcher.group(1) != null ? matcher.group(1) : matcher.group(2)) - 1;
+                if (index < 0 || index >= unresolved.size()) {
+                    continue;
+                }
+                String raw = unresolved.get(index);
+                String name = skillNormalizer.learn(raw, QUOTES.matcher(matcher.group(3).trim()).replaceAll(""));
+                if (name != null) {
+                    resolved.putIfAbsent(SkillNormalizer.key(raw), name);
+                }
             }
-            return Arrays.asList(response.trim().split(",\\s*"));
         } catch (Exception e) {
-            return Collections.emptyList();
+            log.warn("SKILL_NORMALIZE_MODEL_FAILED - Terms: {}, Reason: {}", unresolved.size(), e.getMessage());
         }
     }
 
@@ -41,7 +107,7 @@ public class AIServiceImpl implements IAIService {
     public String generateMatchExplanation(String mentorName, List<String> matchingSkills, String experience,
             String timeSlot) {
         if (mentorName == null || matchingSkills == null || matchingSkills.isEmpty()) {
-            return "No match explanation available.";
+            return NO_MATCH_EXPLANATION;
         }
 
         try {
@@ -50,10 +116,54 @@ public class AIServiceImpl implements IAIService {
                     mentorName, experience != null ? experience : "unspecified",
                     String.join(", ", matchingSkills), timeSlot != null ? timeSlot : "flexible");
 
-            String response = chatClient.prompt(prompt).call().content();
-            return response != null && !response.trim().isEmpty() ? response.trim() : "No match explanation available.";
+            String response = llmGateway.call(LlmPriority.EXPLANATION, prompt);
+            return response != null && !response.trim().isEmpty() ? response.trim() : NO_MATCH_EXPLANATION;
+        } catch (Exception e) {
+            return NO_MATCH_EXPLANATION;
+        }
+    }
+
+    @Override
+    public List<String> generateMatchExplanations(List<MentorExplanationInput> mentors) {
+        int n = mentors == null ? 0 : mentors.size();
+        List<String> results = new ArrayList<>(Collections.nCopies(n, null));
+        if (n == 0) {
+            return results;
+        }
+
+        StringBuilder prompt = new StringBuilder(
+                "Generate a short match explanation for each mentor below. Reply with exactly one line per mentor, "
+                        + "formatted as [number] explanation, and nothing else.\n");
+        for (int i = 0; i < n; i++) {
+            MentorExplanationInput m = mentors.get(i);
+            prompt.append(String.format("[%d] mentor %s with %s experience, matching skills: %s, available at %s%n",
+                    i + 1, m.getMentorName(),
+                    m.getExperience() != null ? m.getExperience() : "unspecified",
+                    m.getMatchingSkills() != null ? String.join(", ", m.getMatchingSkills()) : "unspecified",
+                    m.getTimeSlot() != null ? m.getTimeSlot() : "flexible"));
+        }
+
+        try {
+            String response = llmGateway.call(LlmPriority.EXPLANATION, prompt.toString());
+            if (response == null) {
+                return null;
+            }
+            boolean parsed = false;
+            for (String line : response.split("\\R")) {
+                Matcher matcher = BATCH_LINE.matcher(line.trim());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int index = Integer.parseInt(matcher.group(1) != null ? matcher.group(1) : matcher.group(2)) - 1;
+                String text = matcher.group(3).trim();
+                if (index >= 0 && index < n && results.get(index) == null && !text.isEmpty()) {
+                    results.set(index, text);
+                    parsed = true;
+                }
+            }
+            return parsed ? results : null;
         } catch (Exception e) {
-            return "No match explanation available.";
+            return null;
         }
     }
 }
@@ -3,6 +3,21 @@ package com.talent_tandem.serviceImpl;
 import com.talent_tandem.enums.Role;
 import com.talent_tandem.enums.SessionStatus;
 import com.talent_tandem.exception.*;
+import com.talent_tandem.llm.LlmGateway;
+import com.talent_tandem.matching.BulkAssignmentEngine;
+import com.talent_tandem.matching.MatchExplanationCache;
+import com.talent_tandem.matching.MatchResultCache;
+import com.talent_tandem.matching.MatchScorer;
+import com.talent_tandem.matching.MatchScoringEngine;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.SkillAdjacency;
+import com.talent_tandem.matching.WhatIfSimulator;
+import com.talent_tandem.matching.experiment.MatchingExperiment;
+import com.talent_tandem.scheduling.MentorBookingIndex;
+import com.talent_tandem.search.MentorVectorIndex;
+import com.talent_tandem.search.SkillAutocomplete;
+import com.talent_tandem.search.SkillNormalizer;
+import com.talent_tandem.search.SupportAnswerCache;
 import com.talent_tandem.model.*;
 import com.talent_tandem.repository.*;
 import com.talent_tandem.requestdto.*;
@@ -11,6 +26,7 @@ import com.talent_tandem.service.*;
 import com.talent_tandem.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -28,6 +44,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AdminServiceImpl implements IAdminService {
 
+    private static final int DEFAULT_SIMULATION_SAMPLE = 1000;
+    private static final int MAX_SIMULATION_SAMPLE = 100_000;
+
     private final IUserRepo userRepository;
     private final ISessionRepository sessionRepository;
     private final ISkillRepository skillRepository;
@@ -44,6 +63,21 @@ public class AdminServiceImpl implements IAdminService {
     private final IAdminAuditLogRepository auditLogRepository;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final MentorIndex mentorIndex;
+    private final MatchExplanationCache explanationCache;
+    private final MentorBookingIndex mentorBookingIndex;
+    private final SkillAdjacency skillAdjacency;
+    private final BulkAssignmentEngine bulkAssignmentEngine;
+    private final IMentorRecommendationRepository recommendationRepository;
+    private final MatchScoringEngine scoringEngine;
+    private final MatchResultCache resultCache;
+    private final MentorVectorIndex mentorVectorIndex;
+    private final WhatIfSimulator whatIfSimulator;
+    private final MatchingExperiment matchingExperiment;
+    private final SupportAnswerCache supportAnswerCache;
+    private final LlmGateway llmGateway;
+    private final SkillNormalizer skillNormalizer;
+    private final SkillAutocomplete skillAutocomplete;
 
     @Override
     public LoginResponse adminLogin(AdminLoginRequest request, String clientIp) {
@@ -182,6 +216,8 @@ public class AdminServiceImpl implements IAdminService {
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found"));
         skill.setName(newName);
         Skill updated = skillRepository.save(skill);
+        mentorIndex.renameSkill(updated.getId(), updated.getName());
+        skillAutocomplete.renameSkill(updated.getId(), updated.getName());
         return SkillResponse.builder()
                 .id(updated.getId())
                 .name(updated.getName())
@@ -208,12 +244,17 @@ public class AdminServiceImpl implements IAdminService {
 
         // Delete source skill
         skillRepository.delete(source);
+
+        mentorIndex.mergeSkills(sourceSkillId, targetSkillId, target.getName());
+        skillAutocomplete.mergeSkills(sourceSkillId, targetSkillId);
     }
 
     @Override
     @Transactional
     public void deleteSkill(Long skillId) {
         skillRepository.deleteById(skillId);
+        mentorIndex.removeSkill(skillId);
+        skillAutocomplete.removeSkill(skillId);
     }
 
     @Override
@@ -249,6 +290,7 @@ public class AdminServiceImpl implements IAdminService {
         SessionStatus oldStatus = session.getStatus();
         session.setStatus(SessionStatus.CANCELLED);
         sessionRepository.save(session);
+        mentorBookingIndex.sync(session);
 
         // Log admin action
         logAdminAction(null, "system", "SESSION_CANCELLED", "SESSION", sessionId,
@@ -451,6 +493,7 @@ public class AdminServiceImpl implements IAdminService {
                 .build();
 
         SkillCluster savedCluster = skillClusterRepository.save(cluster);
+        skillAdjacency.refresh();
 
         Map<String, Object> response = new HashMap<>();
         response.put("id", savedCluster.getId());
@@ -494,6 +537,7 @@ public class AdminServiceImpl implements IAdminService {
         Tag tag = tagRepository.findById(tagId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag not found"));
 
+        Long previousSkillId = tag.getSkill() != null ? tag.getSkill().getId() : null;
         tag.setName(request.getName());
         if (request.getSkillId() != null) {
             Skill skill = skillRepository.findById(request.getSkillId())
@@ -502,6 +546,14 @@ public class AdminServiceImpl implements IAdminService {
         }
 
         Tag updatedTag = tagRepository.save(tag);
+        if (previousSkillId != null) {
+            mentorVectorIndex.refreshSkill(previousSkillId);
+        }
+        if (updatedTag.getSkill() != null) {
+            mentorVectorIndex.refreshSkill(updatedTag.getSkill().getId());
+        }
+        skillNormalizer.refresh();
+        skillAutocomplete.addTags(List.of(updatedTag));
         TagsResponse response = new TagsResponse();
         response.setId(updatedTag.getId());
         response.setName(updatedTag.getName());
@@ -512,10 +564,14 @@ public class AdminServiceImpl implements IAdminService {
     @Override
     @Transactional
     public void deleteTag(Long tagId) {
-        if (!tagRepository.existsById(tagId)) {
-            throw new ResourceNotFoundException("Tag not found");
-        }
+        Tag tag = tagRepository.findById(tagId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tag not found"));
         tagRepository.deleteById(tagId);
+        if (tag.getSkill() != null) {
+            mentorVectorIndex.refreshSkill(tag.getSkill().getId());
+        }
+        skillNormalizer.refresh();
+        skillAutocomplete.removeTag(tagId);
     }
 
     @Override
@@ -566,7 +622,7 @@ public class AdminServiceImpl implements IAdminService {
     public Map<String, Object> updateAIMatchingRules(Map<String, Object> rules) {
         log.info("Updating AI matching rules");
 
-        AdminMatchingRules matchingRules = matchingRulesRepository.findLatestRules()
+        AdminMatchingRules matchingRules = matchingRulesRepository.findLatestRulesForUpdate()
                 .orElse(AdminMatchingRules.builder().build());
 
         try {
@@ -596,7 +652,17 @@ public class AdminServiceImpl implements IAdminService {
             throw new ValidationException("Invalid number format in matching rules");
         }
 
-        AdminMatchingRules savedRules = matchingRulesRepository.save(matchingRules);
+        // Read under the row lock taken above; the unique constraint catches two first saves into an empty table
+        Long latestVersion = matchingRulesRepository.findLatestVersion();
+        matchingRules.setRulesVersion((latestVersion != null ? latestVersion : 0L) + 1);
+        AdminMatchingRules savedRules;
+        try {
+            savedRules = matchingRulesRepository.saveAndFlush(matchingRules);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("AI_RULES_UPDATE_CONFLICT - Version: {}", matchingRules.getRulesVersion());
+            throw new ValidationException("Matching rules were updated concurrently, please retry");
+        }
+        scoringEngine.publish(savedRules);
 
         Map<String, Object> response = new HashMap<>();
         response.put("skillMatchThreshold", savedRules.getSkillMatchThreshold());
@@ -606,6 +672,7 @@ public class AdminServiceImpl implements IAdminService {
         response.put("maxMatchingDistance", savedRules.getMaxMatchingDistance());
         response.put("enableLocationMatching", savedRules.getEnableLocationMatching());
         response.put("customRules", savedRules.getCustomRules());
+        response.put("rulesVersion", savedRules.getRulesVersion());
         response.put("lastUpdated", savedRules.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME));
 
         log.info("AI matching rules updated successfully");
@@ -617,14 +684,7 @@ public class AdminServiceImpl implements IAdminService {
         log.info("Fetching AI matching rules");
 
         AdminMatchingRules rules = matchingRulesRepository.findLatestRules()
-                .orElse(AdminMatchingRules.builder()
-                        .skillMatchThreshold(0.7)
-                        .availabilityMatchWeight(0.3)
-                        .ratingWeight(0.4)
-                        .experienceWeight(0.3)
-                        .maxMatchingDistance(50)
-                        .enableLocationMatching(true)
-                        .build());
+                .orElse(MatchScorer.defaultRules());
 
         Map<String, Object> response = new HashMap<>();
         response.put("skillMatchThreshold", rules.getSkillMatchThreshold());
@@ -634,12 +694,148 @@ public class AdminServiceImpl implements IAdminService {
         response.put("maxMatchingDistance", rules.getMaxMatchingDistance());
         response.put("enableLocationMatching", rules.getEnableLocationMatching());
         response.put("customRules", rules.getCustomRules());
+        response.put("rulesVersion", rules.getRulesVersion() != null ? rules.getRulesVersion() : 0L);
         response.put("lastUpdated", rules.getUpdatedAt() != null ?
                 rules.getUpdatedAt().format(DateTimeFormatter.ISO_DATE_TIME) : null);
 
         return response;
     }
 
+    @Override
+    public Map<String, Object> simulateAIMatchingRules(AIRulesUpdateRequest request, Integer sample) {
+        int sampleSize = sample != null ? sample : DEFAULT_SIMULATION_SAMPLE;
+        if (sampleSize < 1 || sampleSize > MAX_SIMULATION_SAMPLE) {
+            throw new ValidationException("Sample must be between 1 and " + MAX_SIMULATION_SAMPLE);
+        }
+
+        // Proposed rules are a detached copy of the latest ones; nothing is saved or published
+        AdminMatchingRules current = matchingRulesRepository.findLatestRules()
+                .orElse(MatchScorer.defaultRules());
+        AdminMatchingRules proposed = AdminMatchingRules.builder()
+                .skillMatchThreshold(request.getSkillMatchThreshold() != null
+                        ? request.getSkillMatchThreshold() : current.getSkillMatchThreshold())
+                .availabilityMatchWeight(request.getAvailabilityMatchWeight() != null
+                        ? request.getAvailabilityMatchWeight() : current.getAvailabilityMatchWeight())
+                .ratingWeight(request.getRatingWeight() != null
+                        ? request.getRatingWeight() : current.getRatingWeight())
+                .experienceWeight(request.getExperienceWeight() != null
+                        ? request.getExperienceWeight() : current.getExperienceWeight())
+                .maxMatchingDistance(request.getMaxMatchingDistance() != null
+                        ? request.getMaxMatchingDistance() : current.getMaxMatchingDistance())
+                .enableLocationMatching(request.getEnableLocationMatching() != null
+                        ? request.getEnableLocationMatching() : current.getEnableLocationMatching())
+                .rulesVersion(-1L)
+                .build();
+
+        log.info("MATCH_SIMULATION_REQUEST - Sample: {}, BaselineVersion: {}", sampleSize, current.getRulesVersion());
+        Map<String, Object> report = new LinkedHashMap<>(whatIfSimulator.simulate(proposed, sampleSize));
+
+        Map<String, Object> rules = new LinkedHashMap<>();
+        rules.put("skillMatchThreshold", proposed.getSkillMatchThreshold());
+        rules.put("availabilityMatchWeight", proposed.getAvailabilityMatchWeight());
+        rules.put("ratingWeight", proposed.getRatingWeight());
+        rules.put("experienceWeight", proposed.getExperienceWeight());
+        rules.put("maxMatchingDistance", proposed.getMaxMatchingDistance());
+        rules.put("enableLocationMatching", proposed.getEnableLocationMatching());
+        report.put("proposedRules", rules);
+        return report;
+    }
+
+    // Matching Engine
+    @Override
+    public Map<String, Object> getExplanationCacheStats() {
+        return explanationCache.stats();
+    }
+
+    @Override
+    public Map<String, Object> getResultCacheStats() {
+        return resultCache.stats();
+    }
+
+    @Override
+    @Transactional
+    public Map<String, Object> runBulkAssignment() {
+        long start = System.currentTimeMillis();
+        List<UserLearnSkill> open = userLearnSkillRepository.findOpenForAssignment();
+        List<MentorRecommendation> assignments = bulkAssignmentEngine.assign(open);
+
+        // Each run replaces the previous batch wholesale
+        recommendationRepository.deleteAllInBatch();
+        recommendationRepository.saveAll(assignments);
+
+        long mentors = assignments.stream().map(MentorRecommendation::getMentorId).distinct().count();
+        long tookMs = System.currentTimeMillis() - start;
+        log.info("BULK_ASSIGNMENT_COMPLETED - Open: {}, Assigned: {}, Mentors: {}, TookMs: {}",
+                open.size(), assignments.size(), mentors, tookMs);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("openLearnSkills", open.size());
+        summary.put("assigned", assignments.size());
+        summary.put("unassigned", open.size() - assignments.size());
+        summary.put("mentorsUsed", mentors);
+        summary.put("mentorCapacity", bulkAssignmentEngine.getMentorCapacity());
+        summary.put("rulesVersion", assignments.isEmpty() ? null : assignments.get(0).getRulesVersion());
+        summary.put("tookMs", tookMs);
+        return summary;
+    }
+
+    @Override
+    public Map<String, Object> getReplayLogStats() {
+        return whatIfSimulator.logStats();
+    }
+
+    @Override
+    public Map<String, Object> getMatchingExperimentReport() {
+        return matchingExperiment.report();
+    }
+
+    // Support Chat Cache
+    @Override
+    public Map<String, Object> getSupportAnswerCache() {
+        Map<String, Object> response = new LinkedHashMap<>(supportAnswerCache.stats());
+        response.put("entries", supportAnswerCache.entries());
+        return response;
+    }
+
+    @Override
+    public Map<String, Object> purgeSupportAnswerCache() {
+        int purged = supportAnswerCache.purgeAll();
+        log.info("SUPPORT_ANSWER_CACHE_PURGED - Entries: {}", purged);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("purged", purged);
+        return response;
+    }
+
+    @Override
+    public void purgeSupportAnswer(Long id) {
+        if (!supportAnswerCache.purge(id)) {
+            throw new ResourceNotFoundException("Cached answer not found with id: " + id);
+        }
+        log.info("SUPPORT_ANSWER_PURGED - ID: {}", id);
+    }
+
+    // LLM Gateway
+    @Override
+    public Map<String, Object> getLlmGatewayStats() {
+        return llmGateway.stats();
+    }
+
+    // Skill Aliases
+    @Override
+    public Map<String, Object> getSkillAliases() {
+        Map<String, Object> response = new LinkedHashMap<>(skillNormalizer.stats());
+        response.put("entries", skillNormalizer.aliases());
+        return response;
+    }
+
+    @Override
+    public void deleteSkillAlias(Long id) {
+        if (!skillNormalizer.forget(id)) {
+            throw new ResourceNotFoundException("Skill alias not found");
+        }
+        log.info("SKILL_ALIAS_DELETED - ID: {}", id);
+    }
+
     // Helper Methods
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
@@ -1,15 +1,30 @@
 package com.talent_tandem.serviceImpl;
 import com.talent_tandem.dao.IAvailabilityDao;
 import com.talent_tandem.dao.IUserDao;
+import com.talent_tandem.enums.Day;
 import com.talent_tandem.exception.ResourceNotFoundException;
 import com.talent_tandem.exception.UserNotFoundException;
+import com.talent_tandem.exception.ValidationException;
+import com.talent_tandem.matching.AvailabilityBits;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.MentorIndex;
 import com.talent_tandem.model.Availability;
 import com.talent_tandem.model.User;
+import com.talent_tandem.model.WeeklyAvailability;
+import com.talent_tandem.repository.IWeeklyAvailabilityRepository;
 import com.talent_tandem.requestdto.AvailabilityRequest;
+import com.talent_tandem.requestdto.AvailabilitySlotRequest;
+import com.talent_tandem.requestdto.WeeklyAvailabilityRequest;
 import com.talent_tandem.responsedto.AvailabilityResponse;
+import com.talent_tandem.responsedto.AvailabilitySlotResponse;
+import com.talent_tandem.responsedto.WeeklyAvailabilityResponse;
 import com.talent_tandem.service.IAvailibilityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,22 +32,17 @@ class AvailabilityServiceImpl implements IAvailibilityService {
 
     private final IAvailabilityDao availabilityDao;
     private final IUserDao userDao;
+    private final IWeeklyAvailabilityRepository weeklyAvailabilityRepository;
+    private final MentorIndex mentorIndex;
 
     @Override
+    @Transactional
     public AvailabilityResponse saveAvailability(AvailabilityRequest request) {
 
         User user = userDao.findById(request.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + request.getUserId()));
 
-        Availability availability = availabilityDao.findByUserId(user.getId())
-                .orElse(new Availability());
-
-        availability.setUser(user);
-        availability.setDayOfWeek(request.getDayOfWeek());
-        availability.setStartTime(request.getStartTime());
-        availability.setEndTime(request.getEndTime());
-
-        Availability saved = availabilityDao.save(availability);
+        Availability saved = replaceLegacySlot(user, request.getDayOfWeek(), request.getStartTime(), request.getEndTime());
 
         AvailabilityResponse response = new AvailabilityResponse();
         response.setId(saved.getId());
@@ -61,4 +71,106 @@ class AvailabilityServiceImpl implements IAvailibilityService {
 
         return response;
     }
+
+    @Override
+    @Transactional
+    public WeeklyAvailabilityResponse saveWeeklyAvailability(WeeklyAvailabilityRequest request) {
+
+        User user = userDao.findById(request.getUserId())
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + request.getUserId()));
+
+        long[] bits = new long[AvailabilityBits.WORDS];
+        for (AvailabilitySlotRequest slot : request.getSlots()) {
+            short start = MentorEntry.toMinutes(slot.getStartTime());
+            short end = MentorEntry.toMinutes(slot.getEndTime());
+            if (slot.getDayOfWeek() == null || start < 0 || end <= start) {
+                throw new ValidationException("Invalid slot: end time must be after start time");
+            }
+            AvailabilityBits.addAvailable(bits, slot.getDayOfWeek(), start, end);
+        }
+
+        // The whole week is replaced, not merged, and the legacy slot no longer owns any of it.
+        // Locked like replaceLegacySlot so the two writers commit, and update the index, in order.
+        WeeklyAvailability weekly = weeklyAvailabilityRepository.findByUserIdForUpdate(user.getId())
+                .orElseGet(() -> WeeklyAvailability.builder().user(user).build());
+        weekly.setLegacySlots(null);
+
+        return buildWeeklyResponse(saveBits(weekly, bits), bits);
+    }
+
+    @Override
+    public WeeklyAvailabilityResponse getWeeklyAvailability(Long userId) {
+
+        WeeklyAvailability weekly = weeklyAvailabilityRepository.findByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Weekly availability not found for userId: " + userId));
+
+        return buildWeeklyResponse(weekly, AvailabilityBits.fromBytes(weekly.getSlots()));
+    }
+
+    @Override
+    @Transactional
+    public Availability replaceLegacySlot(User user, Day dayOfWeek, String startTime, String endTime) {
+
+        // The weekly row is locked first so concurrent saves for the same user apply one after the other
+        WeeklyAvailability weekly = weeklyAvailabilityRepository.findByUserIdForUpdate(user.getId())
+                .orElseGet(() -> WeeklyAvailability.builder().user(user).build());
+
+        Availability availability = availabilityDao.findByUserId(user.getId())
+                .orElse(new Availability());
+
+        availability.setUser(user);
+        availability.setDayOfWeek(dayOfWeek);
+        availability.setStartTime(startTime);
+        availability.setEndTime(endTime);
+        Availability saved = availabilityDao.save(availability);
+
+        // Only the bits the old legacy slot added are cleared; slots published through the weekly API stay
+        long[] bits = AvailabilityBits.fromBytes(weekly.getSlots());
+        long[] previous = AvailabilityBits.fromBytes(weekly.getLegacySlots());
+        long[] added = new long[AvailabilityBits.WORDS];
+        short start = MentorEntry.toMinutes(startTime);
+        short end = MentorEntry.toMinutes(endTime);
+        if (dayOfWeek != null && start >= 0 && end > start) {
+            AvailabilityBits.addAvailable(added, dayOfWeek, start, end);
+        }
+        for (int i = 0; i < AvailabilityBits.WORDS; i++) {
+            bits[i] &= ~previous[i];
+            added[i] &= ~bits[i];
+            bits[i] |= added[i];
+        }
+        weekly.setLegacySlots(AvailabilityBits.toBytes(added));
+        saveBits(weekly, bits);
+        return saved;
+    }
+
+    private WeeklyAvailability saveBits(WeeklyAvailability weekly, long[] bits) {
+        weekly.setSlots(AvailabilityBits.toBytes(bits));
+        WeeklyAvailability saved = weeklyAvailabilityRepository.save(weekly);
+        mentorIndex.updateAvailability(saved.getUser().getId(), bits);
+        return saved;
+    }
+
+    private WeeklyAvailabilityResponse buildWeeklyResponse(WeeklyAvailability weekly, long[] bits) {
+
+        List<AvailabilitySlotResponse> slots = AvailabilityBits.runs(bits).stream()
+                .map(run -> AvailabilitySlotResponse.builder()
+                        .dayOfWeek(Day.values()[run[0]].name())
+                        .startTime(formatMinutes(run[1]))
+                        .endTime(formatMinutes(run[2]))
+                        .build())
+                .collect(Collectors.toList());
+
+        return WeeklyAvailabilityResponse.builder()
+                .userId(weekly.getUser().getId())
+                .userName(weekly.getUser().getUsername())
+                .slotMinutes(AvailabilityBits.SLOT_MINUTES)
+                .availableSlots(AvailabilityBits.count(bits))
+                .slots(slots)
+                .updatedAt(weekly.getUpdatedAt() != null ? weekly.getUpdatedAt().toString() : null)
+                .build();
+    }
+
+    private static String formatMinutes(int minutes) {
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
 }
@@ -8,6 +8,8 @@ import com.talent_tandem.exception.DuplicateResourceException;
 import com.talent_tandem.exception.InvalidSessionStatusException;
 import com.talent_tandem.exception.ResourceNotFoundException;
 import com.talent_tandem.exception.ValidationException;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.experiment.MatchingExperiment;
 import com.talent_tandem.model.Feedback;
 import com.talent_tandem.model.Session;
 import com.talent_tandem.model.User;
@@ -29,6 +31,8 @@ public class FeedbackServiceImpl implements IFeedbackService {
     private final IFeedbackDao feedbackDao;
     private final ISessionDao sessionDao;
     private final IUserDao userDao;
+    private final MentorIndex mentorIndex;
+    private final MatchingExperiment matchingExperiment;
 
     @Override
     public FeedbackResponse submitFeedback(FeedbackRequest request) {
@@ -71,6 +75,14 @@ public class FeedbackServiceImpl implements IFeedbackService {
 
         Feedback saved = feedbackDao.save(feedback);
         log.info("Feedback submitted successfully with id: {} for session: {}", saved.getId(), session.getSessionId());
+
+        Double averageRating = feedbackDao.findAverageRatingByToUserId(toUser.getId());
+        if (averageRating != null) {
+            mentorIndex.updateRating(toUser.getId(), averageRating);
+        }
+        if (saved.getRating() != null) {
+            matchingExperiment.recordRating(session.getSessionId(), fromUser.getId(), saved.getRating());
+        }
         return buildResponse(saved);
     }
 
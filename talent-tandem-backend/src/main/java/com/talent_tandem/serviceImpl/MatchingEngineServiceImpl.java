@@ -1,80 +1,278 @@
 package com.talent_tandem.serviceImpl;
 
+import com.talent_tandem.exception.ValidationException;
+import com.talent_tandem.matching.MatchCursor;
+import com.talent_tandem.matching.MatchExplainer;
+import com.talent_tandem.matching.MatchPage;
+import com.talent_tandem.matching.MatchReplayLog;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.experiment.MatchingExperiment;
+import com.talent_tandem.matching.strategy.MatchingStrategies;
+import com.talent_tandem.matching.strategy.MatchingStrategy;
 import com.talent_tandem.requestdto.MatchRequest;
+import com.talent_tandem.search.MentorVectorIndex;
+import com.talent_tandem.search.VectorHit;
+import com.talent_tandem.responsedto.MatchExplanationEvent;
+import com.talent_tandem.responsedto.MatchResultResponse;
 import com.talent_tandem.responsedto.MentorMatchResponse;
+import com.talent_tandem.responsedto.SemanticMentorResponse;
+import com.talent_tandem.responsedto.SemanticSearchResponse;
 import com.talent_tandem.service.IMatchingEngineService;
-import com.talent_tandem.service.IAIService;
-import com.talent_tandem.repository.IUserTeachSkillRepository;
-import com.talent_tandem.model.UserTeachSkill;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+@Slf4j
 @Service
 public class MatchingEngineServiceImpl implements IMatchingEngineService {
 
+        private static final int DEFAULT_PAGE_SIZE = 20;
+        private static final int DEFAULT_SEMANTIC_LIMIT = 10;
+        private static final int MAX_SEMANTIC_LIMIT = 50;
+        private static final int MAX_QUERY_LENGTH = 200;
+
+        @Autowired
+        private MatchingStrategies strategies;
+
+        @Autowired
+        private MatchExplainer matchExplainer;
+
+        @Autowired
+        private MentorVectorIndex mentorVectorIndex;
+
+        @Autowired
+        private MentorIndex mentorIndex;
+
         @Autowired
-        private IUserTeachSkillRepository userTeachSkillRepository;
+        private MatchReplayLog replayLog;
 
         @Autowired
-        private IAIService aiService;
+        private MatchingExperiment experiment;
+
+        @Value("${matching.strategy.default:weighted}")
+        private String defaultStrategy;
 
         @Override
-        public List<MentorMatchResponse> findMatches(MatchRequest request) {
-                // Fetch all mentors for the skill first
-                List<UserTeachSkill> mentors = userTeachSkillRepository.findBySkillId(request.getSkillId());
-
-                // Sort in Java to avoid JPQL complexity/issues
-                return mentors.stream()
-                                .sorted((m1, m2) -> {
-                                        int score1 = calculateMatchScore(m1, request);
-                                        int score2 = calculateMatchScore(m2, request);
-
-                                        if (score1 != score2) {
-                                                return Integer.compare(score2, score1); // Descending score
-                                        }
-                                        return Integer.compare(m2.getConfidenceScore(), m1.getConfidenceScore()); // Descending
-                                                                                                                  // confidence
-                                })
-                                .map(mentor -> buildMatchResponse(mentor))
-                                .collect(Collectors.toList());
+        public MatchResultResponse findMatches(MatchRequest request) {
+                RankedPage page = rank(request);
+
+                // Explanations are generated for the returned page only; ranking order is preserved by index
+                MatchExplainer.Explanations explanations = matchExplainer.explain(page.mentors);
+
+                List<MentorMatchResponse> matches = new ArrayList<>(page.mentors.size());
+                for (int i = 0; i < page.mentors.size(); i++) {
+                        matches.add(buildMatchResponse(page, i, explanations.getTexts()[i]));
+                }
+
+                return page.toResponse(matches, explanations.getAiCount(), explanations.getTemplateCount());
         }
 
-        private int calculateMatchScore(UserTeachSkill mentor, MatchRequest request) {
-                boolean modeMatch = mentor.getPreferredMode() == request.getPreferredMode();
-                boolean levelMatch = mentor.getProficiencyLevel().ordinal() >= request.getPriorityLevel().ordinal();
+        @Override
+        public void streamMatches(MatchRequest request, SseEmitter emitter) {
+                RankedPage page = rank(request);
+                AtomicBoolean open = new AtomicBoolean(true);
+
+                // The ranked list goes out first, before any LLM call has returned
+                List<MentorMatchResponse> matches = new ArrayList<>(page.mentors.size());
+                for (int i = 0; i < page.mentors.size(); i++) {
+                        matches.add(buildMatchResponse(page, i, null));
+                }
+                send(emitter, open, "matches", page.toResponse(matches, 0, 0));
+
+                matchExplainer.stream(page.mentors, new MatchExplainer.Listener() {
+                        @Override
+                        public void onExplanation(int index, String text, boolean aiGenerated) {
+                                MentorEntry mentor = page.mentors.get(index);
+                                send(emitter, open, "explanation", MatchExplanationEvent.builder()
+                                                .rank(index)
+                                                .mentorId(mentor.getUserId())
+                                                .skillId(mentor.getSkillId())
+                                                .matchExplanation(text)
+                                                .aiGenerated(aiGenerated)
+                                                .build());
+                        }
 
-                if (modeMatch && levelMatch)
-                        return 3;
-                if (modeMatch || levelMatch)
-                        return 2;
-                return 1;
+                        @Override
+                        public void onComplete(MatchExplainer.Explanations explanations) {
+                                send(emitter, open, "complete", Map.of(
+                                                "aiExplanationCount", explanations.getAiCount(),
+                                                "templateExplanationCount", explanations.getTemplateCount()));
+                                if (open.compareAndSet(true, false)) {
+                                        emitter.complete();
+                                }
+                        }
+                });
         }
 
-        private MentorMatchResponse buildMatchResponse(UserTeachSkill mentor) {
-                String mentorName = mentor.getUser().getFirstName() + " " + mentor.getUser().getLastName();
-                String skillName = mentor.getSkill().getName();
-                String experience = mentor.getProficiencyLevel().toString();
-                String timeSlot = mentor.getPreferredMode().toString();
+        @Override
+        public SemanticSearchResponse semanticSearch(String query, Integer limit) {
+                if (query == null || query.isBlank()) {
+                        throw new ValidationException("Search query is required");
+                }
+                if (query.length() > MAX_QUERY_LENGTH) {
+                        throw new ValidationException("Search query must not exceed " + MAX_QUERY_LENGTH + " characters");
+                }
+                int k = limit != null ? limit : DEFAULT_SEMANTIC_LIMIT;
+                if (k < 1 || k > MAX_SEMANTIC_LIMIT) {
+                        throw new ValidationException("Limit must be between 1 and " + MAX_SEMANTIC_LIMIT);
+                }
+
+                long start = System.currentTimeMillis();
+                List<SemanticMentorResponse> matches = new ArrayList<>(k);
+                for (VectorHit hit : mentorVectorIndex.search(query.trim(), k)) {
+                        List<MentorEntry> entries = mentorIndex.entriesOf(hit.getKey());
+                        if (entries.isEmpty()) {
+                                // removed since the last vector refresh
+                                continue;
+                        }
+                        MentorEntry first = entries.get(0);
+                        List<String> skills = new ArrayList<>(entries.size());
+                        for (MentorEntry e : entries) {
+                                skills.add(e.getSkillName());
+                        }
+                        matches.add(SemanticMentorResponse.builder()
+                                        .mentorId(first.getUserId())
+                                        .mentorName(first.displayName())
+                                        .profileImage(first.getProfileImage())
+                                        .city(first.getCity())
+                                        .similarity(Math.round(hit.getSimilarity() * 1000.0) / 1000.0)
+                                        .skills(skills)
+                                        .build());
+                }
+                long tookMs = System.currentTimeMillis() - start;
+                // free text from the user, so only its length is logged
+                log.info("SEMANTIC_SEARCH - QueryLength: {}, Matches: {}, TookMs: {}", query.length(), matches.size(), tookMs);
+
+                return SemanticSearchResponse.builder()
+                                .query(query)
+                                .matches(matches)
+                                .indexedMentors(mentorVectorIndex.size())
+                                .tookMs(tookMs)
+                                .build();
+        }
+
+        private RankedPage rank(MatchRequest request) {
+                // A request naming its own strategy opts out of the experiment
+                MatchingExperiment.Variant variant = request.getStrategy() == null || request.getStrategy().isBlank()
+                                ? experiment.assign(request.getLearnerId())
+                                : null;
 
-                String aiExplanation = aiService.generateMatchExplanation(
-                                mentorName,
-                                Arrays.asList(skillName),
-                                experience,
-                                timeSlot);
+                // The first pages of the same search shape are sliced from one cached ranking
+                int pageSize = request.getPageSize() != null ? request.getPageSize() : DEFAULT_PAGE_SIZE;
+                long started = System.nanoTime();
+                MatchPage page = strategies.page(request, variant != null ? variant.getName() : defaultStrategy,
+                                MatchCursor.decode(request.getCursor()), pageSize);
+                long rankingNanos = System.nanoTime() - started;
 
+                List<MentorEntry> ranked = page.getMentors();
+                if (request.getCursor() == null) {
+                        // First pages only, so the what-if simulator replays each search once
+                        replayLog.record(request, page);
+                        if (variant != null) {
+                                experiment.recordSearch(variant, request.getLearnerId(), ranked, rankingNanos);
+                        }
+                }
+                double[] rankedScores = page.getScores();
+                double[] distances = page.getDistancesKm();
+
+                int last = ranked.size() - 1;
+                String nextCursor = page.isHasMore() && last >= 0
+                                ? MatchCursor.after(ranked.get(last), rankedScores[last]).encode()
+                                : null;
+                if (Boolean.TRUE.equals(request.getExpandToCluster())) {
+                        for (int i = 0; i < rankedScores.length; i++) {
+                                if (ranked.get(i).getSkillId() == request.getSkillId()) {
+                                        rankedScores[i] -= MatchingStrategy.EXACT_SKILL_TIER;
+                                }
+                        }
+                }
+                return new RankedPage(request.getSkillId(), page, variant, ranked, rankedScores, distances,
+                                pageSize, page.isHasMore(), nextCursor);
+        }
+
+        private void send(SseEmitter emitter, AtomicBoolean open, String event, Object data) {
+                if (!open.get()) {
+                        return;
+                }
+                try {
+                        synchronized (emitter) {
+                                emitter.send(SseEmitter.event().name(event).data(data));
+                        }
+                } catch (IOException | IllegalStateException e) {
+                        // client went away; remaining explanations still warm the cache
+                        open.set(false);
+                        log.debug("Match stream closed early: {}", e.getMessage());
+                }
+        }
+
+        private MentorMatchResponse buildMatchResponse(RankedPage page, int rank, String explanation) {
+                MentorEntry mentor = page.mentors.get(rank);
+                double score = page.scores[rank];
+                double km = page.distancesKm[rank];
                 return MentorMatchResponse.builder()
-                                .mentorId(mentor.getUser().getId())
-                                .mentorName(mentorName)
-                                .skillId(mentor.getSkill().getId())
-                                .proficiencyLevel(mentor.getProficiencyLevel())
-                                .confidenceScore(mentor.getConfidenceScore())
-                                .preferredMode(mentor.getPreferredMode())
-                                .matchExplanation(aiExplanation)
+                                .mentorId(mentor.getUserId())
+                                .mentorName(mentor.displayName())
+                                .city(mentor.getCity())
+                                .skillId(mentor.getSkillId())
+                                .proficiencyLevel(mentor.proficiencyLevel())
+                                .confidenceScore(mentor.getConfidence())
+                                .preferredMode(mentor.preferredMode())
+                                .matchScore(Math.round(score * 1000.0) / 1000.0)
+                                .matchExplanation(explanation)
+                                .clusterMatch(mentor.getSkillId() != page.skillId)
+                                .distanceKm(Double.isFinite(km) ? Math.round(km * 10.0) / 10.0 : null)
                                 .build();
         }
 
-}
\ No newline at end of file
+        private static final class RankedPage {
+                final long skillId;
+                final String strategy;
+                final long rulesVersion;
+                final String experimentVariant;
+                final List<MentorEntry> mentors;
+                final double[] scores;
+                final double[] distancesKm;
+                final int pageSize;
+                final boolean hasMore;
+                final String nextCursor;
+
+                RankedPage(long skillId, MatchPage page, MatchingExperiment.Variant variant,
+                                List<MentorEntry> mentors, double[] scores, double[] distancesKm, int pageSize,
+                                boolean hasMore, String nextCursor) {
+                        this.skillId = skillId;
+                        this.strategy = page.getStrategy();
+                        this.rulesVersion = page.getRulesVersion();
+                        this.experimentVariant = variant != null ? variant.getName() : null;
+                        this.mentors = mentors;
+                        this.scores = scores;
+                        this.distancesKm = distancesKm;
+                        this.pageSize = pageSize;
+                        this.hasMore = hasMore;
+                        this.nextCursor = nextCursor;
+                }
+
+                MatchResultResponse toResponse(List<MentorMatchResponse> matches, int aiCount, int templateCount) {
+                        return MatchResultResponse.builder()
+                                        .matches(matches)
+                                        .aiExplanationCount(aiCount)
+                                        .templateExplanationCount(templateCount)
+                                        .pageSize(pageSize)
+                                        .hasMore(hasMore)
+                                        .nextCursor(nextCursor)
+                                        .rulesVersion(rulesVersion)
+                                        .strategy(strategy)
+                                        .experimentVariant(experimentVariant)
+                                        .build();
+                }
+        }
+
+}
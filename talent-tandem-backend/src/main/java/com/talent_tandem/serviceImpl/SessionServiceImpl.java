@@ -6,26 +6,40 @@ import com.talent_tandem.dao.IUserDao;
 import com.talent_tandem.enums.SessionStatus;
 import com.talent_tandem.enums.ParticipantRole;
 import com.talent_tandem.enums.ParticipantStatus;
+import com.talent_tandem.enums.Day;
 import com.talent_tandem.exception.InsufficientCoinsException;
+import com.talent_tandem.exception.InvalidTimeSlotException;
 import com.talent_tandem.exception.ResourceNotFoundException;
 import com.talent_tandem.exception.UnauthorizedAccessException;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.experiment.MatchingExperiment;
 import com.talent_tandem.model.*;
 import com.talent_tandem.requestdto.SessionRequest;
 import com.talent_tandem.responsedto.*;
 import com.talent_tandem.repository.IAvailabilityRepository;
 import com.talent_tandem.repository.IUserLearnSkillRepository;
 import com.talent_tandem.repository.IUserTeachSkillRepository;
+import com.talent_tandem.scheduling.FreeSlotFinder;
+import com.talent_tandem.scheduling.MentorBookingIndex;
 import com.talent_tandem.service.ISessionService;
 import com.talent_tandem.service.IWalletService;
+import com.talent_tandem.util.TransactionHooks;
 import com.talent_tandem.websocket.MatchNotificationDto;
 import com.talent_tandem.websocket.SessionBookingDto;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -36,6 +50,9 @@ public class SessionServiceImpl implements ISessionService {
 
     private static final Logger logger = LoggerFactory.getLogger(SessionServiceImpl.class);
     private static final int SESSION_COIN_COST = 10;
+    private static final String MENTOR_OVERLAP_MESSAGE = "Mentor already has a session overlapping the requested time";
+    private static final String MENTOR_OVERLAP_CONSTRAINT = "sessions_mentor_no_overlap";
+    private static final int MAX_FREE_SLOT_RANGE_DAYS = 62;
 
     private final ISessionDao sessionDao;
     private final IUserDao userDao;
@@ -45,6 +62,9 @@ public class SessionServiceImpl implements ISessionService {
     private final IAvailabilityRepository availabilityRepository;
     private final IUserTeachSkillRepository userTeachSkillRepository;
     private final IUserLearnSkillRepository userLearnSkillRepository;
+    private final MentorIndex mentorIndex;
+    private final MentorBookingIndex mentorBookingIndex;
+    private final MatchingExperiment matchingExperiment;
 
     @Override
     @Transactional
@@ -55,6 +75,10 @@ public class SessionServiceImpl implements ISessionService {
         Skill skill = skillDao.findById(request.getSkillId())
                 .orElseThrow(() -> new RuntimeException("Skill not found"));
 
+        // In-memory overlap check before any coins move
+        if (mentorBookingIndex.overlaps(mentor.getId(), request.getScheduledTime(), request.getDurationMinutes())) {
+            throw new InvalidTimeSlotException(MENTOR_OVERLAP_MESSAGE);
+        }
 
         if (!walletService.hasEnoughCoins(request.getLearnerId(), SESSION_COIN_COST)) {
             logger.error("Learner {} has insufficient coins to book session", request.getLearnerId());
@@ -71,12 +95,29 @@ public class SessionServiceImpl implements ISessionService {
                 .skill(skill)
                 .agenda(request.getAgenda())
                 .status(SessionStatus.REQUESTED)
+                .mentorId(mentor.getId())
                 .scheduledTime(request.getScheduledTime())
                 .durationMinutes(request.getDurationMinutes())
                 .learningOutcomes(request.getLearningOutcomes())
                 .build();
 
-        Session savedSession = sessionDao.save(session);
+        Session savedSession;
+        try {
+            savedSession = sessionDao.save(session);
+        } catch (DataIntegrityViolationException e) {
+            // sessions_mentor_no_overlap rejected a concurrent booking made through another instance;
+            // any other violation is a genuine error and must not be reported as a clash
+            if (!violates(e, MENTOR_OVERLAP_CONSTRAINT)) {
+                throw e;
+            }
+            throw new InvalidTimeSlotException(MENTOR_OVERLAP_MESSAGE);
+        }
+        mentorBookingIndex.reserve(savedSession.getSessionId(), mentor.getId(),
+                savedSession.getScheduledTime(), savedSession.getDurationMinutes());
+        // Credit the booking to the learner's matching experiment variant once it is committed
+        Long bookingLearnerId = request.getLearnerId();
+        long sessionId = savedSession.getSessionId();
+        TransactionHooks.afterCommit(() -> matchingExperiment.recordBooking(bookingLearnerId, mentor.getId(), sessionId));
 
         SessionParticipant mentorParticipant = SessionParticipant.builder()
                 .session(savedSession)
@@ -159,6 +200,7 @@ public class SessionServiceImpl implements ISessionService {
         if (updatedSession == null) {
             throw new RuntimeException("Session not found with ID: " + sessionId);
         }
+        mentorBookingIndex.sync(updatedSession);
 
         SessionResponse response = buildSessionResponse(updatedSession);
 
@@ -358,6 +400,7 @@ public class SessionServiceImpl implements ISessionService {
 
         session.setStatus(SessionStatus.LIVE);
         sessionDao.save(session);
+        mentorBookingIndex.sync(session);
         logger.info("Session {} marked as LIVE", sessionId);
 
         return SessionStartResponse.builder()
@@ -407,6 +450,7 @@ public class SessionServiceImpl implements ISessionService {
 
         session.setStatus(SessionStatus.COMPLETED);
         sessionDao.save(session);
+        mentorBookingIndex.sync(session);
         logger.info("Session {} marked as COMPLETED", sessionId);
 
         // Send feedback notification to learner
@@ -442,6 +486,23 @@ public class SessionServiceImpl implements ISessionService {
                 .build();
     }
 
+    /**
+     * Whether {@code e} was raised by the named constraint. Hibernate does not extract the name of
+     * exclusion constraints, so the driver message is checked as well.
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException violation
+                    && constraint.equalsIgnoreCase(violation.getConstraintName())) {
+                return true;
+            }
+            if (t instanceof SQLException && t.getMessage() != null && t.getMessage().contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private SessionResponse buildSessionResponse(Session session) {
 
         if (session == null) {
@@ -550,6 +611,7 @@ public class SessionServiceImpl implements ISessionService {
         session.setCancelledBy(mentorId);
         session.setCancellationReason("Cancelled by mentor");
         sessionDao.save(session);
+        mentorBookingIndex.sync(session);
 
         // Send notification to learner
         SessionResponse response = buildSessionResponse(session);
@@ -614,6 +676,7 @@ public class SessionServiceImpl implements ISessionService {
         session.setCancelledBy(learnerId);
         session.setCancellationReason("Cancelled by learner");
         sessionDao.save(session);
+        mentorBookingIndex.sync(session);
 
         // Send notification to mentor
         SessionResponse response = buildSessionResponse(session);
@@ -753,4 +816,63 @@ public class SessionServiceImpl implements ISessionService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CommonFreeSlotsResponse findCommonFreeSlots(Long mentorId, Long learnerId, LocalDate from, LocalDate to,
+            int durationMinutes, int limit) {
+
+        if (to.isBefore(from)) {
+            throw new InvalidTimeSlotException("End date must not be before start date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_FREE_SLOT_RANGE_DAYS) {
+            throw new InvalidTimeSlotException("Date range must not exceed " + MAX_FREE_SLOT_RANGE_DAYS + " days");
+        }
+
+        LocalDateTime rangeStart = from.atStartOfDay();
+        LocalDateTime rangeEnd = rangeStart.plusDays(days);
+
+        // Mentor's published weekly availability unrolled over the range
+        int[] free = FreeSlotFinder.expand(mentorIndex.weeklySlots(mentorId),
+                Day.values()[from.getDayOfWeek().ordinal()], days);
+
+        // Both parties' sessions that occupy time, including ones starting just before the range
+        List<Object[]> rows = sessionDao.findBusyIntervals(List.of(mentorId, learnerId),
+                MentorBookingIndex.BLOCKING_STATUSES,
+                rangeStart.minusMinutes(MentorBookingIndex.MAX_SESSION_MINUTES), rangeEnd);
+        int[] starts = new int[rows.size()];
+        int[] ends = new int[rows.size()];
+        int count = 0;
+        for (Object[] row : rows) {
+            LocalDateTime scheduled = (LocalDateTime) row[1];
+            Integer duration = (Integer) row[2];
+            if (scheduled == null || duration == null) {
+                continue;
+            }
+            starts[count] = (int) Duration.between(rangeStart, scheduled).toMinutes();
+            ends[count] = starts[count] + duration;
+            count++;
+        }
+        int[] busy = FreeSlotFinder.merge(starts, ends, count);
+
+        int notBefore = (int) Math.max(0, Duration.between(rangeStart, LocalDateTime.now()).toMinutes());
+        int[] slotStarts = FreeSlotFinder.earliest(FreeSlotFinder.subtract(free, busy), notBefore, durationMinutes, limit);
+
+        List<FreeSlotResponse> slots = new ArrayList<>(slotStarts.length);
+        for (int start : slotStarts) {
+            LocalDateTime startTime = rangeStart.plusMinutes(start);
+            slots.add(FreeSlotResponse.builder()
+                    .startTime(startTime)
+                    .endTime(startTime.plusMinutes(durationMinutes))
+                    .build());
+        }
+
+        return CommonFreeSlotsResponse.builder()
+                .mentorId(mentorId)
+                .learnerId(learnerId)
+                .from(from)
+                .to(to)
+                .durationMinutes(durationMinutes)
+                .slots(slots)
+                .build();
+    }
 }
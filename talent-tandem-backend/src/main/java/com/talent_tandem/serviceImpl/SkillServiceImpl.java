@@ -8,6 +8,9 @@ import com.talent_tandem.requestdto.SkillRequest;
 import com.talent_tandem.responsedto.SkillResponse;
 import com.talent_tandem.responsedto.SkillTagResponse;
 import com.talent_tandem.responsedto.SkillWithTagsResponse;
+import com.talent_tandem.responsedto.SkillSuggestionResponse;
+import com.talent_tandem.search.SkillAutocomplete;
+import com.talent_tandem.search.SkillNormalizer;
 import com.talent_tandem.service.ISkillService;
 import org.springframework.stereotype.Service;
 import java.util.ArrayList;
@@ -17,9 +20,13 @@ import java.util.List;
 public class SkillServiceImpl implements ISkillService {
 
     private final ISkillDao skillDao;
+    private final SkillNormalizer skillNormalizer;
+    private final SkillAutocomplete skillAutocomplete;
 
-    public SkillServiceImpl(ISkillDao skillDao) {
+    public SkillServiceImpl(ISkillDao skillDao, SkillNormalizer skillNormalizer, SkillAutocomplete skillAutocomplete) {
         this.skillDao = skillDao;
+        this.skillNormalizer = skillNormalizer;
+        this.skillAutocomplete = skillAutocomplete;
     }
 
     @Override
@@ -31,6 +38,8 @@ public class SkillServiceImpl implements ISkillService {
         Skill skill = new Skill();
         skill.setName(request.getSkillName());
         Skill savedSkill = skillDao.save(skill);
+        skillNormalizer.refresh();
+        skillAutocomplete.addSkills(List.of(savedSkill));
         SkillResponse response = new SkillResponse();
         response.setId(savedSkill.getId());
         response.setSkillName(savedSkill.getName());
@@ -80,6 +89,14 @@ public class SkillServiceImpl implements ISkillService {
         return skillDao.getSkillNames();
     }
 
+    @Override
+    public List<SkillSuggestionResponse> autocomplete(String query, Integer limit) {
+        int size = limit == null ? 10 : limit;
+        if (size < 1 || size > 50)
+            throw new ValidationException("Limit must be between 1 and 50");
+        return skillAutocomplete.suggest(query, size);
+    }
+
     @Override
     public List<SkillResponse> addSkillBatch(List<SkillRequest> requestList) {
 
@@ -94,6 +111,8 @@ public class SkillServiceImpl implements ISkillService {
             skillEntities.add(skill);
         }
         List<Skill> savedSkills = skillDao.saveAll(skillEntities);
+        skillNormalizer.refresh();
+        skillAutocomplete.addSkills(savedSkills);
         List<SkillResponse> responses = new ArrayList<>();
 
         for (Skill savedSkill : savedSkills) {
@@ -0,0 +1,162 @@
+package com.talent_tandem.serviceImpl;
+
+import com.talent_tandem.llm.LlmGateway;
+import com.talent_tandem.llm.LlmPriority;
+import com.talent_tandem.search.SupportAnswerCache;
+import com.talent_tandem.service.ISupportChatService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+public class SupportChatServiceImpl implements ISupportChatService {
+
+    private final LlmGateway llmGateway;
+    private final SupportAnswerCache answerCache;
+
+    public SupportChatServiceImpl(LlmGateway llmGateway, SupportAnswerCache answerCache) {
+        this.llmGateway = llmGateway;
+        this.answerCache = answerCache;
+    }
+
+    @Override
+    public CompletableFuture<String> reply(String message) {
+        String cached = answerCache.lookup(message);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return llmGateway.callAsync(LlmPriority.INTERACTIVE, prompt(message))
+                .thenApply(aiResponse -> {
+                    if (aiResponse == null || aiResponse.isBlank()) {
+                        return FALLBACK_REPLY;
+                    }
+                    answerCache.put(message, aiResponse.trim());
+                    return aiResponse.trim();
+                })
+                .exceptionally(e -> {
+                    log.warn("AI_CHAT_FAILED - Error: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                    return ERROR_REPLY;
+                });
+    }
+
+    @Override
+    public void streamReply(String message, SseEmitter emitter) {
+        long started = System.nanoTime();
+        AtomicBoolean open = new AtomicBoolean(true);
+
+        String cached = answerCache.lookup(message);
+        if (cached != null) {
+            Map<String, Object> timings = timings(started, System.nanoTime(), 1);
+            timings.put("tokensPerSecond", null);
+            timings.put("cached", true);
+            send(emitter, open, "token", Map.of("text", cached));
+            send(emitter, open, "done", timings);
+            finish(emitter, open);
+            return;
+        }
+
+        AtomicLong firstTokenAt = new AtomicLong();
+        AtomicInteger chunks = new AtomicInteger();
+        StringBuilder answer = new StringBuilder();
+        Disposable.Swap upstream = Disposables.swap();
+
+        // A client that goes away cancels the model call instead of letting it run to the end
+        Runnable cancel = () -> {
+            if (open.compareAndSet(true, false)) {
+                upstream.dispose();
+                log.info("AI_CHAT_STREAM_CANCELLED - Chunks: {}, ElapsedMs: {}",
+                        chunks.get(), (System.nanoTime() - started) / 1_000_000);
+            }
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+
+        upstream.update(llmGateway.stream(LlmPriority.INTERACTIVE, prompt(message),
+                token -> {
+                    if (token == null || token.isEmpty()) {
+                        return;
+                    }
+                    firstTokenAt.compareAndSet(0L, System.nanoTime());
+                    chunks.incrementAndGet();
+                    answer.append(token);
+                    // wrapped so leading spaces survive SSE framing
+                    if (!send(emitter, open, "token", Map.of("text", token))) {
+                        upstream.dispose();
+                    }
+                },
+                error -> {
+                    log.warn("AI_CHAT_STREAM_FAILED - Chunks: {}, Error: {}", chunks.get(), error.getMessage());
+                    send(emitter, open, "error", Map.of("message", ERROR_REPLY));
+                    finish(emitter, open);
+                },
+                () -> {
+                    Map<String, Object> timings = timings(started, firstTokenAt.get(), chunks.get());
+                    log.info("AI_CHAT_STREAM_COMPLETED - TtftMs: {}, Chunks: {}, TokensPerSec: {}, TookMs: {}",
+                            timings.get("ttftMs"), chunks.get(), timings.get("tokensPerSecond"), timings.get("tookMs"));
+                    if (chunks.get() == 0 || answer.toString().isBlank()) {
+                        send(emitter, open, "token", Map.of("text", FALLBACK_REPLY));
+                    } else {
+                        answerCache.put(message, answer.toString().trim());
+                    }
+                    timings.put("cached", false);
+                    send(emitter, open, "done", timings);
+                    finish(emitter, open);
+                }));
+    }
+
+    /**
+     * Time to first token, and streamed chunks per second after it. Each chunk is counted as one token,
+     * which is what the OpenAI-compatible streaming API emits in practice.
+     */
+    private static Map<String, Object> timings(long started, long firstTokenAt, int chunks) {
+        long now = System.nanoTime();
+        Map<String, Object> timings = new LinkedHashMap<>();
+        timings.put("ttftMs", firstTokenAt > 0 ? (firstTokenAt - started) / 1_000_000 : null);
+        timings.put("chunks", chunks);
+        double streamingSeconds = firstTokenAt > 0 ? (now - firstTokenAt) / 1e9 : 0;
+        timings.put("tokensPerSecond", streamingSeconds > 0 ? Math.round(chunks / streamingSeconds * 10.0) / 10.0 : null);
+        timings.put("tookMs", (now - started) / 1_000_000);
+        return timings;
+    }
+
+    private static boolean send(SseEmitter emitter, AtomicBoolean open, String event, Object data) {
+        if (!open.get()) {
+            return false;
+        }
+        try {
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().name(event).data(data));
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            open.set(false);
+            log.debug("AI chat stream closed early: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void finish(SseEmitter emitter, AtomicBoolean open) {
+        if (open.compareAndSet(true, false)) {
+            emitter.complete();
+        }
+    }
+
+    private static String prompt(String message) {
+        return String.format(
+                "You are a helpful support assistant for Talent Tandem, a mentorship platform. " +
+                "Answer this question professionally and concisely: %s",
+                message);
+    }
+}
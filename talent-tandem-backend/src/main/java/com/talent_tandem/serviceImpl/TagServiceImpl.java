@@ -6,6 +6,9 @@ import com.talent_tandem.exception.ValidationException;
 import com.talent_tandem.model.Skill;
 import com.talent_tandem.model.Tag;
 import com.talent_tandem.requestdto.TagsRequest;
+import com.talent_tandem.search.MentorVectorIndex;
+import com.talent_tandem.search.SkillAutocomplete;
+import com.talent_tandem.search.SkillNormalizer;
 import com.talent_tandem.responsedto.TagsResponse;
 import com.talent_tandem.service.ITagService;
 import org.springframework.stereotype.Service;
@@ -17,10 +20,17 @@ public class TagServiceImpl implements ITagService {
 
     private final ITagDao tagDao;
     private final ISkillDao skillDao;
+    private final MentorVectorIndex mentorVectorIndex;
+    private final SkillNormalizer skillNormalizer;
+    private final SkillAutocomplete skillAutocomplete;
 
-    public TagServiceImpl(ITagDao tagDao, ISkillDao skillDao) {
+    public TagServiceImpl(ITagDao tagDao, ISkillDao skillDao, MentorVectorIndex mentorVectorIndex,
+            SkillNormalizer skillNormalizer, SkillAutocomplete skillAutocomplete) {
         this.tagDao = tagDao;
         this.skillDao = skillDao;
+        this.mentorVectorIndex = mentorVectorIndex;
+        this.skillNormalizer = skillNormalizer;
+        this.skillAutocomplete = skillAutocomplete;
     }
 
     @Override
@@ -40,6 +50,9 @@ public class TagServiceImpl implements ITagService {
         tag.setSkill(skill);
 
         Tag savedTag = tagDao.save(tag);
+        mentorVectorIndex.refreshSkill(skill.getId());
+        skillNormalizer.refresh();
+        skillAutocomplete.addTags(List.of(savedTag));
 
         TagsResponse response = new TagsResponse();
         response.setId(savedTag.getId());
@@ -142,6 +155,9 @@ public class TagServiceImpl implements ITagService {
             tagEntities.add(tag);
         }
         List<Tag> savedTags = tagDao.saveAll(tagEntities);
+        savedTags.stream().map(t -> t.getSkill().getId()).distinct().forEach(mentorVectorIndex::refreshSkill);
+        skillNormalizer.refresh();
+        skillAutocomplete.addTags(savedTags);
         List<TagsResponse> responses = new ArrayList<>();
 
         for (Tag tag : savedTags) {
@@ -8,10 +8,13 @@ import com.talent_tandem.exception.ResourceNotFoundException;
 import com.talent_tandem.exception.UserNotFoundException;
 import com.talent_tandem.exception.ValidationException;
 import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.MentorRecommendation;
 import com.talent_tandem.model.Skill;
 import com.talent_tandem.model.User;
 import com.talent_tandem.model.UserLearnSkill;
+import com.talent_tandem.repository.IMentorRecommendationRepository;
 import com.talent_tandem.requestdto.UserLearnSkillRequest;
+import com.talent_tandem.responsedto.MentorRecommendationResponse;
 import com.talent_tandem.responsedto.UserLearnSkillResponse;
 import com.talent_tandem.service.IUserLearnSkillService;
 import jakarta.transaction.Transactional;
@@ -31,6 +34,7 @@ public class UserLearnSkillServiceImpl implements IUserLearnSkillService {
         private final IUserLearnSkillDao learnSkillDao;
         private final IAvailabilityDao availabilityDao;
         private final WalletServiceImpl walletService;
+        private final IMentorRecommendationRepository recommendationRepository;
 
         @Override
         @Transactional
@@ -116,5 +120,28 @@ public class UserLearnSkillServiceImpl implements IUserLearnSkillService {
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Learn skill not found with id: " + id));
                 learnSkillDao.deleteById(id);
+                recommendationRepository.deleteByLearnSkillId(id);
+        }
+
+        @Override
+        public List<MentorRecommendationResponse> getRecommendations(Long userId) {
+                List<MentorRecommendation> recommendations = recommendationRepository
+                                .findByLearnerIdOrderByMatchScoreDesc(userId);
+                return recommendations.stream()
+                                .map(this::buildRecommendationResponse)
+                                .collect(Collectors.toList());
+        }
+
+        private MentorRecommendationResponse buildRecommendationResponse(MentorRecommendation r) {
+                return MentorRecommendationResponse.builder()
+                                .learnSkillId(r.getLearnSkillId())
+                                .skillId(r.getSkillId())
+                                .skillName(r.getSkillName())
+                                .mentorId(r.getMentorId())
+                                .mentorName(r.getMentorName())
+                                .matchScore(r.getMatchScore())
+                                .rulesVersion(r.getRulesVersion())
+                                .generatedAt(r.getGeneratedAt().toString())
+                                .build();
         }
 }
@@ -7,6 +7,10 @@ import com.talent_tandem.exception.UserAlreadyExistsException;
 import com.talent_tandem.exception.UserNotFoundException;
 import com.talent_tandem.exception.ValidationException;
 import com.talent_tandem.exception.FileUploadException;
+import com.talent_tandem.location.Gazetteer;
+import com.talent_tandem.location.GeoGridIndex;
+import com.talent_tandem.location.GeoPoint;
+import com.talent_tandem.matching.MentorIndex;
 import com.talent_tandem.model.User;
 import com.talent_tandem.requestdto.*;
 import com.talent_tandem.responsedto.LoginResponse;
@@ -47,6 +51,9 @@ public class UserServiceImpl implements IUserService {
     private final PasswordEncoder passwordEncoder;
     private final ISessionRepository sessionRepository;
     private final IFeedbackRepository feedbackRepository;
+    private final MentorIndex mentorIndex;
+    private final Gazetteer gazetteer;
+    private final GeoGridIndex geoGridIndex;
 
     @Override
     public UserResponse update(UserRequest request, MultipartFile profileImage) {
@@ -301,12 +308,18 @@ public class UserServiceImpl implements IUserService {
         user.setCity(request.getCity());
         user.setPhoneNumber(request.getPhoneNumber());
 
+        GeoPoint location = gazetteer.locate(request.getCity(), request.getCountry());
+        user.setLatitude(location != null ? location.getLatitude() : null);
+        user.setLongitude(location != null ? location.getLongitude() : null);
+
         if (profileImage != null && !profileImage.isEmpty()) {
             String imageUrl = uploadProfileImage(profileImage);
             user.setProfilePhoto(imageUrl);
         }
 
         User updatedUser = dao.save(user);
+        mentorIndex.updateUser(updatedUser);
+        geoGridIndex.update(updatedUser.getId(), location);
         return buildProfileResponse(updatedUser);
     }
 
@@ -1,6 +1,5 @@
 package com.talent_tandem.serviceImpl;
 
-import com.talent_tandem.dao.IAvailabilityDao;
 import com.talent_tandem.dao.ISkillDao;
 import com.talent_tandem.dao.IUserDao;
 import com.talent_tandem.dao.IUserTeachSkillDao;
@@ -8,6 +7,10 @@ import com.talent_tandem.enums.PreferedMode;
 import com.talent_tandem.exception.ResourceNotFoundException;
 import com.talent_tandem.exception.UserNotFoundException;
 import com.talent_tandem.exception.ValidationException;
+import com.talent_tandem.matching.MatchExplanationTemplate;
+import com.talent_tandem.matching.MentorEntry;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.matching.strategy.MatchingStrategies;
 import com.talent_tandem.model.Availability;
 import com.talent_tandem.model.Skill;
 import com.talent_tandem.model.User;
@@ -17,8 +20,10 @@ import com.talent_tandem.requestdto.UserTeachSkillRequest;
 import com.talent_tandem.responsedto.UserTeachSkillResponse;
 import com.talent_tandem.responsedto.MentorMatchResponse;
 import com.talent_tandem.service.IAIService;
+import com.talent_tandem.service.IAvailibilityService;
 import com.talent_tandem.service.IUserTeachSkillService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,8 +36,13 @@ public class UserTeachSkillServiceImpl implements IUserTeachSkillService {
     private final IUserDao userDao;
     private final ISkillDao skillDao;
     private final IUserTeachSkillDao teachSkillDao;
-    private final IAvailabilityDao availabilityDao;
     private final IAIService aiService;
+    private final IAvailibilityService availabilityService;
+    private final MentorIndex mentorIndex;
+    private final MatchingStrategies strategies;
+
+    @Value("${matching.strategy.find-default:sql}")
+    private String findStrategy;
 
     @Override
     public List<UserTeachSkillResponse> addBulkTeachSkills(List<UserTeachSkillRequest> requests) {
@@ -68,15 +78,8 @@ public class UserTeachSkillServiceImpl implements IUserTeachSkillService {
             user.setHasMentorProfile(true);
             userDao.save(user);
 
-            Availability availability = availabilityDao.findByUserId(user.getId())
-                    .orElse(new Availability());
-
-            availability.setUser(user);
-            availability.setDayOfWeek(request.getDayOfWeek());
-            availability.setStartTime(request.getStartTime());
-            availability.setEndTime(request.getEndTime());
-
-            Availability savedAvailability = availabilityDao.save(availability);
+            Availability savedAvailability = availabilityService.replaceLegacySlot(user, request.getDayOfWeek(),
+                    request.getStartTime(), request.getEndTime());
 
             UserTeachSkill teachSkill = UserTeachSkill.builder()
                     .user(user)
@@ -88,6 +91,7 @@ public class UserTeachSkillServiceImpl implements IUserTeachSkillService {
                     .build();
 
             UserTeachSkill saved = teachSkillDao.save(teachSkill);
+            mentorIndex.put(saved);
             return buildTeachResponse(saved);
         } catch (ValidationException | UserNotFoundException | ResourceNotFoundException e) {
             throw e;
@@ -133,17 +137,14 @@ public class UserTeachSkillServiceImpl implements IUserTeachSkillService {
                     .orElseThrow(
                             () -> new ResourceNotFoundException("Skill not found with id: " + request.getSkillId()));
 
-            List<UserTeachSkill> teachers = teachSkillDao.findMatches(
-                    request.getSkillId(),
-                    request.getPreferredMode(),
-                    request.getPriorityLevel());
-
-            if (teachers.isEmpty()) {
+            // The legacy endpoint returns every match as one page
+            List<MentorEntry> mentors = strategies.page(request, findStrategy, null, Integer.MAX_VALUE).getMentors();
+            if (mentors.isEmpty()) {
                 throw new ResourceNotFoundException("No mentors found for the specified criteria");
             }
 
-            return teachers.stream()
-                    .map(this::buildMatchResponse)
+            return mentors.stream()
+                    .map(e -> buildMatchResponse(e, request.getSkillId()))
                     .collect(Collectors.toList());
 
         } catch (ValidationException | ResourceNotFoundException e) {
@@ -180,33 +181,19 @@ public class UserTeachSkillServiceImpl implements IUserTeachSkillService {
         }
     }
 
-    private MentorMatchResponse buildMatchResponse(UserTeachSkill t) {
-        try {
-            User user = t.getUser();
-
-            String explanation = String.format(
-                    "%s is an experienced %s mentor with %s proficiency level and confidence score of %d/10. Available for %s sessions.",
-                    user.getFirstName() != null ? user.getFirstName() : user.getUsername(),
-                    t.getSkill() != null ? t.getSkill().getName() : "this skill",
-                    t.getProficiencyLevel() != null ? t.getProficiencyLevel().name() : "INTERMEDIATE",
-                    t.getConfidenceScore(),
-                    t.getPreferredMode() != null ? t.getPreferredMode().name().replace("_", " ").toLowerCase()
-                            : "flexible");
-
-            return MentorMatchResponse.builder()
-                    .mentorId(user.getId())
-                    .mentorName(user.getUsername())
-                    .profileImage(user.getProfilePhoto())
-                    .skillId(t.getSkill() != null ? t.getSkill().getId() : null)
-                    .proficiencyLevel(t.getProficiencyLevel())
-                    .confidenceScore(t.getConfidenceScore())
-                    .preferredMode(t.getPreferredMode())
-                    .matchExplanation(explanation)
-                    .city(user.getCity())
-                    .build();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to build match response: " + e.getMessage(), e);
-        }
+    private MentorMatchResponse buildMatchResponse(MentorEntry e, long requestedSkillId) {
+        return MentorMatchResponse.builder()
+                .mentorId(e.getUserId())
+                .mentorName(e.getUsername())
+                .profileImage(e.getProfileImage())
+                .skillId(e.getSkillId())
+                .proficiencyLevel(e.proficiencyLevel())
+                .confidenceScore(e.getConfidence())
+                .preferredMode(e.preferredMode())
+                .matchExplanation(MatchExplanationTemplate.build(e))
+                .city(e.getCity())
+                .clusterMatch(e.getSkillId() != requestedSkillId ? Boolean.TRUE : null)
+                .build();
     }
 
     private void validateTeachSkillRequest(UserTeachSkillRequest request) {
@@ -274,5 +261,6 @@ public class UserTeachSkillServiceImpl implements IUserTeachSkillService {
     public void deleteTeachSkill(Long id) {
         teachSkillDao.findById(id);
         teachSkillDao.deleteById(id);
+        mentorIndex.remove(id);
     }
 }
@@ -0,0 +1,201 @@
+package com.talent_tandem.matching;
+
+import com.talent_tandem.enums.Day;
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.enums.PreferedMode;
+import com.talent_tandem.location.GeoGridIndex;
+import com.talent_tandem.matching.strategy.InMemoryStrategy;
+import com.talent_tandem.matching.strategy.MatchingStrategy;
+import com.talent_tandem.matching.strategy.SqlRankedStrategy;
+import com.talent_tandem.matching.strategy.WeightedScoreStrategy;
+import com.talent_tandem.model.Availability;
+import com.talent_tandem.model.Skill;
+import com.talent_tandem.model.SkillCluster;
+import com.talent_tandem.model.User;
+import com.talent_tandem.model.UserTeachSkill;
+import com.talent_tandem.repository.IFeedbackRepository;
+import com.talent_tandem.repository.ISkillClusterRepository;
+import com.talent_tandem.repository.IUserRepo;
+import com.talent_tandem.repository.IUserTeachSkillRepository;
+import com.talent_tandem.repository.IWeeklyAvailabilityRepository;
+import com.talent_tandem.requestdto.MatchRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs every matching strategy over the same generated mentor population and checks that they agree
+ * where they are meant to: the SQL and in-memory orderings must be identical, and the weighted ranking
+ * may only drop mentors, never invent them. The population lives in an embedded H2 database, so the
+ * SQL strategy runs the real {@link IUserTeachSkillRepository#findRankedMatches} query. Timings belong
+ * in the JMH benchmarks, not here.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class MatchingStrategyHarnessTest {
+
+    private static final int SKILLS = 40;
+    private static final int MENTORS = 2000;
+    private static final int CLUSTER_SIZE = 4;
+    private static final int QUERIES = 200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private IUserTeachSkillRepository teachSkillRepository;
+    @Autowired
+    private IFeedbackRepository feedbackRepository;
+    @Autowired
+    private IWeeklyAvailabilityRepository weeklyRepository;
+    @Autowired
+    private ISkillClusterRepository clusterRepository;
+
+    private final List<Long> skillIds = new ArrayList<>();
+
+    private SqlRankedStrategy sql;
+    private InMemoryStrategy inMemory;
+    private WeightedScoreStrategy weighted;
+    private MatchScorer scorer;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        Skill[] skills = new Skill[SKILLS];
+        for (int s = 0; s < SKILLS; s++) {
+            skills[s] = new Skill();
+            skills[s].setName("skill-" + (s + 1));
+            entityManager.persist(skills[s]);
+            skillIds.add(skills[s].getId());
+        }
+        for (int c = 0; c < SKILLS / CLUSTER_SIZE; c++) {
+            List<Skill> members = new ArrayList<>();
+            for (int s = c * CLUSTER_SIZE; s < (c + 1) * CLUSTER_SIZE; s++) {
+                members.add(skills[s]);
+            }
+            entityManager.persist(SkillCluster.builder().clusterName("cluster-" + (c + 1)).skills(members).build());
+        }
+
+        // One teach row per mentor, so deduplication across related skills cannot reorder anything
+        Level[] levels = Level.values();
+        PreferedMode[] modes = PreferedMode.values();
+        for (int m = 0; m < MENTORS; m++) {
+            User user = User.builder()
+                    .firstName("First" + m)
+                    .lastName("Last" + m)
+                    .username("mentor" + m)
+                    .email("mentor" + m + "@example.com")
+                    .build();
+            entityManager.persist(user);
+            Availability availability = new Availability();
+            availability.setUser(user);
+            availability.setDayOfWeek(Day.values()[m % Day.values().length]);
+            availability.setStartTime("09:00");
+            availability.setEndTime("17:00");
+            entityManager.persist(availability);
+            entityManager.persist(UserTeachSkill.builder()
+                    .user(user)
+                    .skill(skills[random.nextInt(SKILLS)])
+                    .availability(availability)
+                    .proficiencyLevel(random.nextInt(10) == 0 ? null : levels[random.nextInt(levels.length)])
+                    .preferredMode(modes[random.nextInt(modes.length)])
+                    .confidenceScore(random.nextInt(10) == 0 ? null : random.nextInt(11))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        MentorIndex mentorIndex = new MentorIndex(teachSkillRepository, feedbackRepository, weeklyRepository,
+                mock(ApplicationEventPublisher.class));
+        mentorIndex.rebuild();
+        SkillAdjacency adjacency = new SkillAdjacency(clusterRepository);
+        adjacency.rebuild();
+        GeoGridIndex geoGridIndex = new GeoGridIndex(mock(IUserRepo.class));
+
+        sql = new SqlRankedStrategy(teachSkillRepository, adjacency);
+        inMemory = new InMemoryStrategy(mentorIndex, adjacency);
+        weighted = new WeightedScoreStrategy(mentorIndex, adjacency, geoGridIndex);
+        scorer = MatchScorer.fromRules(MatchScorer.defaultRules());
+    }
+
+    @Test
+    void strategiesAgreeOnGeneratedPopulation() {
+        Random random = new Random(7);
+        long inMemoryKept = 0;
+
+        for (int q = 0; q < QUERIES; q++) {
+            MatchRequest request = new MatchRequest();
+            request.setSkillId(skillIds.get(random.nextInt(SKILLS)));
+            request.setPreferredMode(PreferedMode.values()[random.nextInt(PreferedMode.values().length)]);
+            request.setPriorityLevel(Level.values()[random.nextInt(Level.values().length)]);
+            request.setExpandToCluster(random.nextBoolean());
+
+            MatchRanking bySql = rank(sql, request);
+            MatchRanking byMemory = rank(inMemory, request);
+            MatchRanking byWeight = rank(weighted, request);
+
+            for (MatchRanking ranking : List.of(bySql, byMemory, byWeight)) {
+                assertRankingOrder(ranking);
+            }
+
+            assertEquals(teachIds(byMemory), teachIds(bySql), "sql vs in-memory for " + request);
+            assertArrayEquals(rankedScores(byMemory), rankedScores(bySql), 1e-12);
+
+            Set<Long> memoryIds = new HashSet<>(teachIds(byMemory));
+            assertTrue(memoryIds.containsAll(teachIds(byWeight)), "weighted ranked a mentor in-memory did not");
+            inMemoryKept += byMemory.order().length;
+        }
+
+        assertTrue(inMemoryKept > 0, "no query ranked any mentor");
+    }
+
+    private MatchRanking rank(MatchingStrategy strategy, MatchRequest request) {
+        return strategy.rank(request, scorer, null);
+    }
+
+    private static void assertRankingOrder(MatchRanking ranking) {
+        MentorEntry[] mentors = ranking.sorted();
+        double[] scores = rankedScores(ranking);
+        Set<Long> users = new HashSet<>();
+        for (int i = 0; i < mentors.length; i++) {
+            assertTrue(users.add(mentors[i].getUserId()), ranking.getStrategy() + " repeats a mentor");
+            if (i > 0) {
+                assertTrue(MatchScorer.compare(mentors, scores, i - 1, i) < 0,
+                        ranking.getStrategy() + " out of order at " + i);
+            }
+        }
+    }
+
+    private static List<Long> teachIds(MatchRanking ranking) {
+        MentorEntry[] sorted = ranking.sorted();
+        List<Long> ids = new ArrayList<>(sorted.length);
+        for (MentorEntry e : sorted) {
+            ids.add(e.getTeachId());
+        }
+        return ids;
+    }
+
+    private static double[] rankedScores(MatchRanking ranking) {
+        int[] order = ranking.order();
+        double[] scores = new double[order.length];
+        for (int i = 0; i < order.length; i++) {
+            scores[i] = ranking.getScores()[order[i]];
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,160 @@
+package com.talent_tandem.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the graph against exact brute-force search over vectors from {@link HashingEmbeddingModel}:
+ * recall, tombstoning on remove and replace, and the persisted file.
+ */
+class HnswGraphTest {
+
+    private static final int DIMENSIONS = 256;
+    private static final int DOCUMENTS = 2000;
+    private static final int QUERIES = 100;
+    private static final int K = 10;
+    private static final long MODEL = 7L;
+
+    private final HashingEmbeddingModel model = new HashingEmbeddingModel(DIMENSIONS);
+    private final List<float[]> vectors = new ArrayList<>();
+    private final Random random = new Random(42);
+    private String[] vocabulary;
+
+    @BeforeEach
+    void setUp() {
+        vocabulary = new String[400];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "term" + Integer.toString(i * 7919, 36);
+        }
+        for (int i = 0; i < DOCUMENTS; i++) {
+            vectors.add(model.vectorize(randomText()));
+        }
+    }
+
+    @Test
+    void recallAgainstBruteForce() {
+        HnswGraph graph = build();
+        double recall = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            float[] query = model.vectorize(randomText());
+            Set<Long> exact = bruteForce(query, K);
+            Set<Long> found = keysOf(graph.search(query, K, 64));
+            found.retainAll(exact);
+            recall += (double) found.size() / K;
+        }
+        recall /= QUERIES;
+        assertTrue(recall >= 0.9, "recall@" + K + " was " + recall);
+    }
+
+    @Test
+    void removedAndReplacedKeysAreNeverReturned() {
+        HnswGraph graph = build();
+        Set<Long> removed = new HashSet<>();
+        for (long key = 0; key < DOCUMENTS; key += 3) {
+            graph.remove(key);
+            removed.add(key);
+        }
+        assertEquals(DOCUMENTS - removed.size(), graph.size());
+        assertEquals(removed.size(), graph.tombstones());
+
+        for (int q = 0; q < QUERIES; q++) {
+            float[] query = vectors.get(random.nextInt(DOCUMENTS));
+            List<VectorHit> hits = graph.search(query, K, 64);
+            assertEquals(K, hits.size());
+            for (VectorHit hit : hits) {
+                assertFalse(removed.contains(hit.getKey()), "returned removed key " + hit.getKey());
+            }
+        }
+
+        // re-inserting a key under new content replaces the old node
+        float[] replacement = model.vectorize("entirely different profile text");
+        graph.put(0L, 99L, replacement);
+        assertEquals(99L, graph.fingerprint(0L));
+        assertEquals(0L, graph.search(replacement, 1, 64).get(0).getKey());
+        assertNull(graph.fingerprint(3L));
+
+        HnswGraph compacted = graph.compact();
+        assertEquals(graph.size(), compacted.size());
+        assertEquals(0, compacted.tombstones());
+        assertEquals(0L, compacted.search(replacement, 1, 64).get(0).getKey());
+    }
+
+    @Test
+    void saveAndLoadRoundTrip(@TempDir Path dir) throws Exception {
+        HnswGraph graph = build();
+        graph.remove(5L);
+        Path file = dir.resolve("graph.hnsw");
+        graph.writeTo(file, MODEL);
+
+        HnswGraph loaded = HnswGraph.readFrom(file, MODEL, DIMENSIONS);
+        assertNotNull(loaded);
+        assertEquals(graph.size(), loaded.size());
+        assertEquals(graph.tombstones(), loaded.tombstones());
+        assertNull(loaded.fingerprint(5L));
+        assertEquals(graph.fingerprint(6L), loaded.fingerprint(6L));
+        for (int q = 0; q < 20; q++) {
+            float[] query = model.vectorize(randomText());
+            assertEquals(graph.search(query, K, 64), loaded.search(query, K, 64));
+        }
+
+        assertNull(HnswGraph.readFrom(file, MODEL + 1, DIMENSIONS));
+        assertNull(HnswGraph.readFrom(file, MODEL, DIMENSIONS * 2));
+        assertNull(HnswGraph.readFrom(dir.resolve("missing.hnsw"), MODEL, DIMENSIONS));
+    }
+
+    private HnswGraph build() {
+        HnswGraph graph = new HnswGraph(DIMENSIONS, 16, 100);
+        for (int i = 0; i < DOCUMENTS; i++) {
+            graph.put(i, i, vectors.get(i));
+        }
+        return graph;
+    }
+
+    private Set<Long> bruteForce(float[] query, int k) {
+        List<VectorHit> all = new ArrayList<>();
+        for (int i = 0; i < vectors.size(); i++) {
+            all.add(new VectorHit(i, dot(query, vectors.get(i))));
+        }
+        all.sort((a, b) -> Float.compare(b.getSimilarity(), a.getSimilarity()));
+        return keysOf(all.subList(0, k));
+    }
+
+    private String randomText() {
+        StringBuilder text = new StringBuilder();
+        int words = 3 + random.nextInt(4);
+        for (int w = 0; w < words; w++) {
+            text.append(vocabulary[random.nextInt(vocabulary.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static Set<Long> keysOf(List<VectorHit> hits) {
+        Set<Long> keys = new HashSet<>();
+        for (VectorHit hit : hits) {
+            keys.add(hit.getKey());
+        }
+        return keys;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
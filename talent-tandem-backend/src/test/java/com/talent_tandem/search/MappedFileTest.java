@@ -0,0 +1,49 @@
+package com.talent_tandem.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Round trip through a file larger than one 256 MB mapping window. A leading byte leaves every
+ * following long misaligned, so values near the boundary would straddle it without a remap.
+ */
+class MappedFileTest {
+
+    private static final long WINDOW = 256L << 20;
+    private static final long LONGS = (WINDOW + (4L << 20)) / Long.BYTES;
+
+    @Test
+    void roundTripAcrossWindowBoundary(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("big.bin");
+        long length = 1 + LONGS * Long.BYTES + Integer.BYTES + Float.BYTES;
+        try (MappedFile out = MappedFile.create(path, length)) {
+            out.putByte((byte) 0x5A);
+            for (long i = 0; i < LONGS; i++) {
+                out.putLong(i * 0x9E3779B97F4A7C15L);
+            }
+            out.putInt(0xCAFEBABE);
+            out.putFloat(1.5f);
+        }
+
+        try (MappedFile in = MappedFile.open(path)) {
+            assertEquals(length, in.length());
+            assertEquals((byte) 0x5A, in.getByte());
+            for (long i = 0; i < LONGS; i++) {
+                long expected = i * 0x9E3779B97F4A7C15L;
+                long actual = in.getLong();
+                if (actual != expected) {
+                    assertEquals(expected, actual, "long " + i);
+                }
+            }
+            assertEquals(0xCAFEBABE, in.getInt());
+            assertEquals(1.5f, in.getFloat());
+            assertThrows(IOException.class, in::getByte);
+        }
+    }
+}
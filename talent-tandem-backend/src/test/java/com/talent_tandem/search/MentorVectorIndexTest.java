@@ -0,0 +1,129 @@
+package com.talent_tandem.search;
+
+import com.talent_tandem.enums.Level;
+import com.talent_tandem.matching.MentorIndex;
+import com.talent_tandem.model.Skill;
+import com.talent_tandem.model.User;
+import com.talent_tandem.model.UserTeachSkill;
+import com.talent_tandem.repository.ITagRepository;
+import com.talent_tandem.repository.IUserTeachSkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Loads the index over mocked repositories with the offline {@link HashingEmbeddingModel}, and checks
+ * that a restart reuses the persisted file, re-embedding only changed mentors.
+ */
+class MentorVectorIndexTest {
+
+    private static final int MENTORS = 300;
+    private static final String[] SKILLS = {
+            "java spring boot", "react frontend", "python data science", "kubernetes devops",
+            "figma ui design", "sql databases", "rust systems", "ios swift", "android kotlin", "machine learning"
+    };
+
+    @TempDir
+    Path dir;
+
+    private final CountingEmbeddingModel embeddingModel = new CountingEmbeddingModel(256);
+    private final IUserTeachSkillRepository teachSkillRepository = mock(IUserTeachSkillRepository.class);
+    private final ITagRepository tagRepository = mock(ITagRepository.class);
+    private final List<UserTeachSkill> rows = new ArrayList<>();
+    private Skill[] skills;
+
+    @BeforeEach
+    void setUp() {
+        skills = new Skill[SKILLS.length];
+        for (int s = 0; s < SKILLS.length; s++) {
+            skills[s] = new Skill();
+            skills[s].setId((long) s + 1);
+            skills[s].setName(SKILLS[s]);
+        }
+        for (int m = 0; m < MENTORS; m++) {
+            rows.add(row(m, skills[m % SKILLS.length]));
+        }
+        when(teachSkillRepository.findAllForIndex()).thenAnswer(inv -> new ArrayList<>(rows));
+        when(tagRepository.findAll()).thenReturn(List.of());
+    }
+
+    @Test
+    void searchFindsMentorsOfTheQueriedSkill() {
+        MentorVectorIndex index = newIndex();
+        index.load();
+        assertEquals(MENTORS, index.size());
+        assertEquals(MENTORS, embeddingModel.embedded.get());
+
+        List<VectorHit> hits = index.search("python data science", 5);
+        assertEquals(5, hits.size());
+        for (VectorHit hit : hits) {
+            assertEquals(2, (hit.getKey() - 1) % SKILLS.length, "mentor " + hit.getKey());
+        }
+    }
+
+    @Test
+    void restartReembedsOnlyChangedMentors() {
+        newIndex().load();
+        embeddingModel.embedded.set(0);
+
+        // mentor 1 switches skill, mentor 2 stops teaching
+        rows.set(0, row(0, skills[6]));
+        rows.remove(1);
+
+        MentorVectorIndex restarted = newIndex();
+        restarted.load();
+        assertEquals(1, embeddingModel.embedded.get());
+        assertEquals(MENTORS - 1, restarted.size());
+
+        List<VectorHit> hits = restarted.search("rust systems", MENTORS);
+        assertTrue(hits.stream().anyMatch(hit -> hit.getKey() == 1L));
+        assertFalse(hits.stream().anyMatch(hit -> hit.getKey() == 2L));
+    }
+
+    private MentorVectorIndex newIndex() {
+        return new MentorVectorIndex(embeddingModel, teachSkillRepository, tagRepository, mock(MentorIndex.class),
+                dir.resolve("mentor-vectors.hnsw").toString(), 16, 100, 64, 0.3);
+    }
+
+    private static UserTeachSkill row(int mentor, Skill skill) {
+        User user = User.builder()
+                .id((long) mentor + 1)
+                .firstName("First" + mentor)
+                .lastName("Last" + mentor)
+                .username("mentor" + mentor)
+                .build();
+        return UserTeachSkill.builder()
+                .teachId((long) mentor + 1)
+                .user(user)
+                .skill(skill)
+                .proficiencyLevel(Level.values()[mentor % Level.values().length])
+                .build();
+    }
+
+    private static final class CountingEmbeddingModel extends HashingEmbeddingModel {
+        private final AtomicInteger embedded = new AtomicInteger();
+
+        CountingEmbeddingModel(int dimensions) {
+            super(dimensions);
+        }
+
+        @Override
+        public EmbeddingResponse call(EmbeddingRequest request) {
+            embedded.addAndGet(request.getInstructions().size());
+            return super.call(request);
+        }
+    }
+}
@@ -204,6 +204,10 @@ class ApiService {
     return this.request('/skill/getSkills');
   }
 
+  async autocompleteSkills(query, limit = 10) {
+    return this.request(`/skill/autocomplete?q=${encodeURIComponent(query)}&limit=${limit}`);
+  }
+
   async addSkill(skillData) {
     return this.request('/skill/add', { method: 'POST', body: JSON.stringify(skillData) });
   }